@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.processor;
+
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.util.*;
+
+import javax.annotation.*;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import io.rincl.*;
+
+/**
+ * Annotation processor that generates an implementation of each interface annotated with {@link Messages}.
+ * <p>
+ * The generated class is placed in the same package as the interface, named as specified by {@link Messages#IMPLEMENTATION_CLASS_NAME_SUFFIX}. It lists the
+ * resource key of each method in a static array, and implements each method by indexing into a {@link MessageTable} resolved once for the resources in use, so
+ * that a call involves neither a key lookup nor the parsing of a message template. Any method not returning {@link String}, any generic or variable arity
+ * method, and any interface that cannot be implemented from its package is reported as an error at compile time.
+ * </p>
+ * <p>
+ * This processor is registered as a service, so that including this module on the compile class path (or the annotation processor path) is sufficient to enable
+ * it.
+ * </p>
+ * @author Garret Wilson
+ * @see ResourcesFactory#getMessages(Class, Locale)
+ */
+@SupportedAnnotationTypes("io.rincl.Messages")
+public class MessagesProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+		for(final Element element : roundEnvironment.getElementsAnnotatedWith(Messages.class)) {
+			if(element.getKind() != ElementKind.INTERFACE) {
+				error(element, "Only an interface may be annotated with @%s.", Messages.class.getSimpleName());
+				continue;
+			}
+			final TypeElement messagesInterface = (TypeElement)element;
+			final List<ExecutableElement> methods = findMessageMethods(messagesInterface);
+			if(methods.isEmpty()) { //errors were reported
+				continue;
+			}
+			try {
+				generateImplementation(messagesInterface, methods);
+			} catch(final IOException ioException) {
+				error(messagesInterface, "Unable to generate messages implementation: %s", ioException.getMessage());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determines and validates the methods of a messages interface requiring implementation, including those inherited from superinterfaces. Any problems are
+	 * reported as errors.
+	 * @param messagesInterface The interface annotated with {@link Messages}.
+	 * @return The message methods, in declaration order; or an empty list if the interface could not be implemented, in which case errors will have been reported.
+	 */
+	protected List<ExecutableElement> findMessageMethods(@Nonnull final TypeElement messagesInterface) {
+		boolean isValid = true;
+		if(!messagesInterface.getTypeParameters().isEmpty()) {
+			error(messagesInterface, "A messages interface may not be generic.");
+			isValid = false;
+		}
+		for(Element element = messagesInterface; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			if(element.getModifiers().contains(Modifier.PRIVATE)) {
+				error(messagesInterface, "A messages interface may not be private or be enclosed in a private type.");
+				isValid = false;
+				break;
+			}
+		}
+		final TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getName()).asType();
+		final List<ExecutableElement> methods = new ArrayList<>();
+		for(final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(messagesInterface))) {
+			if(!method.getModifiers().contains(Modifier.ABSTRACT)) { //skip default, static, and Object methods
+				continue;
+			}
+			if(!processingEnv.getTypeUtils().isSameType(method.getReturnType(), stringType)) {
+				error(method, "Message method %s must return %s.", method.getSimpleName(), String.class.getSimpleName());
+				isValid = false;
+			}
+			if(!method.getTypeParameters().isEmpty()) {
+				error(method, "Message method %s may not be generic.", method.getSimpleName());
+				isValid = false;
+			}
+			if(method.isVarArgs()) {
+				error(method, "Message method %s may not have variable arguments; declare a parameter for each message argument.", method.getSimpleName());
+				isValid = false;
+			}
+			if(getKey(method).isEmpty()) {
+				error(method, "Message method %s may not have an empty resource key.", method.getSimpleName());
+				isValid = false;
+			}
+			methods.add(method);
+		}
+		if(methods.isEmpty() && isValid) {
+			error(messagesInterface, "A messages interface must declare at least one message method.");
+		}
+		return isValid ? methods : List.of();
+	}
+
+	/**
+	 * Determines the resource key of a message method.
+	 * @param method The message method.
+	 * @return The key specified by {@link Message}, or the method name if no key is specified.
+	 */
+	protected static String getKey(@Nonnull final ExecutableElement method) {
+		final Message message = method.getAnnotation(Message.class);
+		return message != null ? message.value() : method.getSimpleName().toString();
+	}
+
+	/**
+	 * Determines the simple name of the implementation to generate for a messages interface.
+	 * @param messagesInterface The messages interface.
+	 * @return The simple name of the generated class, including the simple names of any enclosing types.
+	 * @see Messages#IMPLEMENTATION_CLASS_NAME_SUFFIX
+	 */
+	protected static String getImplementationSimpleName(@Nonnull final TypeElement messagesInterface) {
+		final StringBuilder simpleNames = new StringBuilder(messagesInterface.getSimpleName());
+		for(Element enclosingElement = messagesInterface.getEnclosingElement(); enclosingElement instanceof TypeElement; enclosingElement = enclosingElement
+				.getEnclosingElement()) {
+			simpleNames.insert(0, '_').insert(0, enclosingElement.getSimpleName());
+		}
+		return simpleNames + Messages.IMPLEMENTATION_CLASS_NAME_SUFFIX;
+	}
+
+	/**
+	 * Generates the source code of the implementation of a messages interface.
+	 * @param messagesInterface The messages interface.
+	 * @param methods The validated message methods.
+	 * @throws IOException if there is an error writing the source file.
+	 */
+	protected void generateImplementation(@Nonnull final TypeElement messagesInterface, @Nonnull final List<ExecutableElement> methods) throws IOException {
+		final String packageName = processingEnv.getElementUtils().getPackageOf(messagesInterface).getQualifiedName().toString();
+		final String simpleName = getImplementationSimpleName(messagesInterface);
+		final String className = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+		try (final Writer writer = processingEnv.getFiler().createSourceFile(className, messagesInterface).openWriter()) {
+			writer.write(generateSource(packageName, simpleName, messagesInterface, methods));
+		}
+	}
+
+	/**
+	 * Generates the source code of the implementation of a messages interface.
+	 * @param packageName The package of the interface, which may be empty.
+	 * @param simpleName The simple name of the class to generate.
+	 * @param messagesInterface The messages interface.
+	 * @param methods The validated message methods.
+	 * @return The source code of the implementation.
+	 */
+	protected String generateSource(@Nonnull final String packageName, @Nonnull final String simpleName, @Nonnull final TypeElement messagesInterface,
+			@Nonnull final List<ExecutableElement> methods) {
+		final StringBuilder source = new StringBuilder();
+		if(!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/** Generated implementation of {@link ").append(messagesInterface.getQualifiedName()).append("}. */\n");
+		source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+		source.append("public final class ").append(simpleName).append(" implements ").append(messagesInterface.getQualifiedName()).append(" {\n\n");
+		source.append("\t/** The resource key of each message; not to be modified. */\n");
+		source.append("\tpublic static final String[] ").append(Messages.IMPLEMENTATION_KEYS_FIELD_NAME).append(" = {");
+		for(int index = 0; index < methods.size(); index++) {
+			source.append(index > 0 ? ", " : "").append(processingEnv.getElementUtils().getConstantExpression(getKey(methods.get(index))));
+		}
+		source.append("};\n\n");
+		source.append("\t/** The number of arguments of each message; not to be modified. */\n");
+		source.append("\tpublic static final int[] ").append(Messages.IMPLEMENTATION_ARGUMENT_COUNTS_FIELD_NAME).append(" = {");
+		for(int index = 0; index < methods.size(); index++) {
+			source.append(index > 0 ? ", " : "").append(methods.get(index).getParameters().size());
+		}
+		source.append("};\n\n");
+		source.append("\tprivate final ").append(MessageTable.class.getName()).append(" messageTable;\n\n");
+		source.append("\tpublic ").append(simpleName).append("(final ").append(MessageTable.class.getName()).append(" messageTable) {\n");
+		source.append("\t\tthis.messageTable = java.util.Objects.requireNonNull(messageTable);\n");
+		source.append("\t}\n");
+		for(int index = 0; index < methods.size(); index++) {
+			final ExecutableElement method = methods.get(index);
+			final List<? extends VariableElement> parameters = method.getParameters();
+			source.append("\n\t@Override\n");
+			source.append("\tpublic String ").append(method.getSimpleName()).append('(');
+			for(int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+				final VariableElement parameter = parameters.get(parameterIndex);
+				source.append(parameterIndex > 0 ? ", " : "").append("final ").append(parameter.asType()).append(' ').append(parameter.getSimpleName());
+			}
+			source.append(") {\n");
+			if(parameters.isEmpty()) {
+				source.append("\t\treturn this.messageTable.getString(").append(index).append(");\n");
+			} else {
+				source.append("\t\treturn this.messageTable.format(").append(index).append(", new Object[] {");
+				for(int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+					source.append(parameterIndex > 0 ? ", " : "").append(parameters.get(parameterIndex).getSimpleName());
+				}
+				source.append("});\n");
+			}
+			source.append("\t}\n");
+		}
+		source.append("\n}\n");
+		return source.toString();
+	}
+
+	/**
+	 * Reports an error for an element.
+	 * @param element The element with the error.
+	 * @param format The format string of the message.
+	 * @param arguments The arguments of the message.
+	 */
+	private void error(@Nonnull final Element element, @Nonnull final String format, @Nonnull final Object... arguments) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, arguments), requireNonNull(element));
+	}
+
+}
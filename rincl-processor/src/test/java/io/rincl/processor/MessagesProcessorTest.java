@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.processor;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.*;
+import java.util.*;
+
+import javax.tools.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.confound.config.ObjectMapConfiguration;
+import io.rincl.*;
+
+/**
+ * Tests of {@link MessagesProcessor} and of the implementations it generates.
+ * @author Garret Wilson
+ */
+public class MessagesProcessorTest {
+
+	/** The resources for the test messages interface. */
+	private final Resources resources = new ConfigurationResources(TestMessages.class,
+			new ObjectMapConfiguration(Map.of("greeting", "Hello", "welcome", "Welcome, {0}!", "item.count", "{1} has {0,number,integer} items.")));
+
+	/** A factory always returning the same resources instance. */
+	private final ResourcesFactory resourcesFactory = (contextClass, locale) -> Optional.of(resources);
+
+	/** @see ResourcesFactory#getMessages(Class, Locale) */
+	@Test
+	public void testGetMessages() {
+		final TestMessages messages = resourcesFactory.getMessages(TestMessages.class, Locale.US);
+		assertThat(messages.greeting(), is("Hello"));
+		assertThat(messages.welcome("Jane"), is("Welcome, Jane!"));
+		assertThat(messages.itemCount(3, "Jane"), is("Jane has 3 items."));
+		assertThat(messages.greetingTwice(), is("HelloHello"));
+	}
+
+	/** @see ResourcesFactory#getMessages(Class, Locale) */
+	@Test
+	public void testGetMessagesNested() {
+		assertThat(resourcesFactory.getMessages(TestMessages.Nested.class, Locale.US).greeting(), is("Hello"));
+	}
+
+	/** Tests that a missing resource is reported when the message is requested. */
+	@Test
+	public void testMissingMessage() {
+		final TestMessages messages = resourcesFactory.getMessages(TestMessages.class, Locale.US);
+		final MissingResourceKeyException exception = assertThrows(MissingResourceKeyException.class, messages::missing);
+		assertThat(exception.getKey(), is("missing"));
+	}
+
+	/** Tests that an implementation is reused for the same resources, and that different resources produce a different implementation. */
+	@Test
+	public void testGetMessagesReusesImplementationForSameResources() {
+		final TestMessages messages = resourcesFactory.getMessages(TestMessages.class, Locale.US);
+		assertThat(resourcesFactory.getMessages(TestMessages.class, Locale.US), is(sameInstance(messages)));
+		final ResourcesFactory otherResourcesFactory = (contextClass, locale) -> Optional
+				.of(new ConfigurationResources(contextClass, new ObjectMapConfiguration(Map.of("greeting", "Hi"))));
+		assertThat(otherResourcesFactory.getMessages(TestMessages.class, Locale.US).greeting(), is("Hi"));
+	}
+
+	/** Tests that requesting messages for an interface not annotated with {@link Messages} fails. */
+	@Test
+	public void testGetMessagesNotAnnotated() {
+		assertThrows(IllegalArgumentException.class, () -> resourcesFactory.getMessages(Runnable.class, Locale.US));
+	}
+
+	/**
+	 * Tests that invalid message methods are reported as compile errors.
+	 * @param outputDirectory The directory for compiled classes.
+	 */
+	@Test
+	public void testInvalidMessagesInterface(@TempDir final Path outputDirectory) throws IOException {
+		final List<Diagnostic<? extends JavaFileObject>> errors = compile(outputDirectory, "test.InvalidMessages", String.join("\n", //
+				"package test;", //
+				"@io.rincl.Messages", //
+				"public interface InvalidMessages {", //
+				"  int count();", //
+				"  <T> String generic(T value);", //
+				"  String varargs(Object... arguments);", //
+				"}"));
+		assertThat(errors, hasSize(3));
+		assertThat(Files.exists(outputDirectory.resolve("test").resolve("InvalidMessages" + Messages.IMPLEMENTATION_CLASS_NAME_SUFFIX + ".java")), is(false));
+	}
+
+	/**
+	 * Tests that only interfaces may be annotated.
+	 * @param outputDirectory The directory for compiled classes.
+	 */
+	@Test
+	public void testMessagesClassNotAllowed(@TempDir final Path outputDirectory) throws IOException {
+		assertThat(compile(outputDirectory, "test.MessagesClass", String.join("\n", //
+				"package test;", //
+				"@io.rincl.Messages", //
+				"public abstract class MessagesClass {", //
+				"  public abstract String greeting();", //
+				"}")), hasSize(1));
+	}
+
+	/**
+	 * Compiles a single source file using the messages processor.
+	 * @param outputDirectory The directory for compiled classes.
+	 * @param className The fully qualified name of the class being compiled.
+	 * @param source The source code to compile.
+	 * @return The errors reported by the compiler.
+	 * @throws IOException if there is an error configuring the file manager.
+	 */
+	private static List<Diagnostic<? extends JavaFileObject>> compile(final Path outputDirectory, final String className, final String source) throws IOException {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, UTF_8)) {
+			final JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+					JavaFileObject.Kind.SOURCE) {
+				@Override
+				public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+					return source;
+				}
+			};
+			final String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+			final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					List.of("-classpath", classPath, "-d", outputDirectory.toString(), "-proc:only"), null, List.of(sourceFile));
+			task.setProcessors(List.of(new MessagesProcessor()));
+			task.call();
+		}
+		return diagnostics.getDiagnostics().stream().filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR).toList();
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.processor;
+
+import io.rincl.*;
+
+/**
+ * Messages interface compiled using {@link MessagesProcessor} for testing.
+ * @author Garret Wilson
+ */
+@Messages
+public interface TestMessages {
+
+	/** @return A message without arguments. */
+	public String greeting();
+
+	/**
+	 * @param name The name of the user.
+	 * @return A message with a single argument.
+	 */
+	public String welcome(String name);
+
+	/**
+	 * @param count The number of items.
+	 * @param owner The owner of the items.
+	 * @return A message with an explicit key and multiple arguments.
+	 */
+	@Message("item.count")
+	public String itemCount(int count, String owner);
+
+	/** @return A message for which there is no resource. */
+	public String missing();
+
+	/**
+	 * A default method, which is not implemented by the generated class.
+	 * @return A message based on other messages.
+	 */
+	public default String greetingTwice() {
+		return greeting() + greeting();
+	}
+
+	/** Nested messages interface. */
+	@Messages
+	public interface Nested {
+
+		/** @return A message without arguments. */
+		public String greeting();
+
+	}
+
+}
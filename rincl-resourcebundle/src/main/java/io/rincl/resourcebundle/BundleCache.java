@@ -0,0 +1,378 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.util.Objects.*;
+
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.*;
+import java.util.function.Predicate;
+
+import javax.annotation.*;
+
+/**
+ * A cache of loaded resource bundles, keyed to class loaders and resource names, bounded by the estimated number of bytes the bundles occupy.
+ * <p>
+ * When the total estimated weight of the cached bundles exceeds the maximum weight, the least recently used bundles are evicted. Unlike the soft references used
+ * by the {@link ResourceBundle} cache, which may all be cleared at once under memory pressure, this cache retains bundles predictably, so that they need not be
+ * parsed again.
+ * </p>
+ * <p>
+ * Bundles are cached as {@link CompactResourceBundle}s with no parent: a compact bundle is cached as a new bundle sharing its entries, and any other bundle is
+ * copied. Each lookup returns a new bundle with no parent sharing the entries of the cached bundle, so that linking a bundle found in the cache to a parent,
+ * as {@link ResourceBundle} does, never modifies the cached bundle or makes it retain its parent.
+ * </p>
+ * <p>
+ * Class loaders are referenced weakly, so that the cache does not prevent a class loader from being garbage collected; entries for collected class loaders are
+ * discarded automatically. Only bundles the values of which do not themselves reference the class loader, such as those created by a
+ * {@link ResourceBundleLoader}, should be cached.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ * @author Garret Wilson
+ */
+public class BundleCache {
+
+	/** The default maximum weight, in estimated bytes. */
+	public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+	/** The estimated fixed overhead in bytes of an entry of this cache and of the bundle itself. */
+	private static final int ENTRY_OVERHEAD = 128;
+
+	/** The estimated overhead in bytes of a string object, excluding its characters. */
+	private static final int STRING_OVERHEAD = 40;
+
+	/** The estimated weight in bytes of a bundle value that is not a string. */
+	private static final int OBJECT_WEIGHT = 64;
+
+	/** The maximum number of evicted keys remembered for determining whether a load is a reload. */
+	private static final int MAX_EVICTED_KEY_COUNT = 4096;
+
+	private final long maximumWeight;
+
+	/** @return The maximum total estimated weight of the cached bundles, in bytes. */
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	/** The lock guarding the entries. */
+	private final Lock lock = new ReentrantLock();
+
+	/** The cached entries in access order, least recently used first. */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The keys of recently evicted entries, for detecting reloads. */
+	private final Set<Key> evictedKeys = Collections.newSetFromMap(new LinkedHashMap<Key, Boolean>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, Boolean> eldest) {
+			return size() > MAX_EVICTED_KEY_COUNT;
+		}
+	});
+
+	/** The queue of references to class loaders that have been garbage collected. */
+	private final ReferenceQueue<ClassLoader> collectedClassLoaders = new ReferenceQueue<>();
+
+	/** The total estimated weight of the cached bundles. */
+	private long weight = 0;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong loadCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	private final AtomicLong reloadCount = new AtomicLong();
+
+	/** Default constructor with a maximum weight of {@value #DEFAULT_MAXIMUM_WEIGHT} bytes. */
+	public BundleCache() {
+		this(DEFAULT_MAXIMUM_WEIGHT);
+	}
+
+	/**
+	 * Maximum weight constructor.
+	 * @param maximumWeight The maximum total estimated weight of the cached bundles, in bytes.
+	 * @throws IllegalArgumentException if the maximum weight is negative.
+	 */
+	public BundleCache(final long maximumWeight) {
+		if(maximumWeight < 0) {
+			throw new IllegalArgumentException("Maximum weight cannot be negative: " + maximumWeight);
+		}
+		this.maximumWeight = maximumWeight;
+	}
+
+	/**
+	 * Finds a cached bundle, marking it as recently used.
+	 * @param classLoader The class loader with which the bundle was loaded.
+	 * @param resourceName The resource name of the bundle.
+	 * @return A new bundle with no parent, sharing the entries of the cached bundle, if present.
+	 * @throws NullPointerException if the given class loader and/or resource name is <code>null</code>.
+	 */
+	public Optional<ResourceBundle> find(@Nonnull final ClassLoader classLoader, @Nonnull final String resourceName) {
+		final Key lookupKey = new Key(classLoader, resourceName, null);
+		final Entry entry;
+		lock.lock();
+		try {
+			expungeCollectedClassLoaders();
+			entry = entries.get(lookupKey);
+		} finally {
+			lock.unlock();
+		}
+		(entry != null ? hitCount : missCount).incrementAndGet();
+		return entry != null ? Optional.of(entry.resourceBundle.withParent(null)) : Optional.empty();
+	}
+
+	/**
+	 * Adds a loaded bundle to the cache, evicting the least recently used bundles if needed to stay within the maximum weight. A bundle heavier than the maximum
+	 * weight is not cached.
+	 * <p>
+	 * The given bundle itself is not retained; a compact bundle with no parent sharing its entries, or a compact copy of its entries if it is not a compact bundle,
+	 * is cached instead. A bundle that is not a compact bundle should therefore be added before it is linked to any parent, as otherwise the entries of the
+	 * parent will be copied as well.
+	 * </p>
+	 * @param classLoader The class loader with which the bundle was loaded.
+	 * @param resourceName The resource name of the bundle.
+	 * @param resourceBundle The loaded bundle.
+	 * @throws NullPointerException if the given class loader, resource name, and/or bundle is <code>null</code>.
+	 * @see #estimateWeight(ResourceBundle)
+	 */
+	public void put(@Nonnull final ClassLoader classLoader, @Nonnull final String resourceName, @Nonnull final ResourceBundle resourceBundle) {
+		final CompactResourceBundle cachedBundle = requireNonNull(resourceBundle) instanceof CompactResourceBundle
+				? ((CompactResourceBundle)resourceBundle).withParent(null)
+				: CompactResourceBundle.copyOf(resourceBundle);
+		final long bundleWeight = estimateWeight(cachedBundle);
+		loadCount.incrementAndGet();
+		lock.lock();
+		try {
+			expungeCollectedClassLoaders();
+			final Key key = new Key(classLoader, resourceName, collectedClassLoaders);
+			if(evictedKeys.remove(key)) {
+				reloadCount.incrementAndGet();
+			}
+			final Entry oldEntry = entries.remove(key);
+			if(oldEntry != null) {
+				weight -= oldEntry.weight;
+			}
+			if(bundleWeight > maximumWeight) {
+				return;
+			}
+			entries.put(key, new Entry(cachedBundle, bundleWeight));
+			weight += bundleWeight;
+			final Iterator<Map.Entry<Key, Entry>> entryIterator = entries.entrySet().iterator();
+			while(weight > maximumWeight && entryIterator.hasNext()) {
+				final Map.Entry<Key, Entry> eldestEntry = entryIterator.next();
+				entryIterator.remove();
+				weight -= eldestEntry.getValue().weight;
+				evictedKeys.add(eldestEntry.getKey());
+				evictionCount.incrementAndGet();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all the bundles cached for the given class loader.
+	 * @param classLoader The class loader for which cached bundles should be discarded.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 */
+	public void clear(@Nonnull final ClassLoader classLoader) {
+		requireNonNull(classLoader);
+		lock.lock();
+		try {
+			removeIf(key -> key.get() == classLoader);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Removes all cached bundles. */
+	public void clear() {
+		lock.lock();
+		try {
+			entries.clear();
+			evictedKeys.clear();
+			weight = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries with keys matching the given predicate. Must be called while holding the lock.
+	 * @param keyPredicate The predicate indicating the keys of the entries to remove.
+	 */
+	private void removeIf(@Nonnull final Predicate<Key> keyPredicate) {
+		final Iterator<Map.Entry<Key, Entry>> entryIterator = entries.entrySet().iterator();
+		while(entryIterator.hasNext()) {
+			final Map.Entry<Key, Entry> entry = entryIterator.next();
+			if(keyPredicate.test(entry.getKey())) {
+				entryIterator.remove();
+				weight -= entry.getValue().weight;
+			}
+		}
+		evictedKeys.removeIf(keyPredicate);
+	}
+
+	/** Removes all entries for class loaders that have been garbage collected. Must be called while holding the lock. */
+	private void expungeCollectedClassLoaders() {
+		if(collectedClassLoaders.poll() != null) {
+			while(collectedClassLoaders.poll() != null) {} //clear the queue; all cleared keys will be removed below
+			removeIf(key -> key.get() == null);
+		}
+	}
+
+	/** @return The number of cached bundles. */
+	public int size() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** @return The total estimated weight of the cached bundles, in bytes. */
+	public long getWeight() {
+		lock.lock();
+		try {
+			return weight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** @return The number of lookups that found a cached bundle. */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/** @return The number of lookups that did not find a cached bundle. */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/** @return The number of bundles that have been loaded and added to the cache. */
+	public long getLoadCount() {
+		return loadCount.get();
+	}
+
+	/** @return The number of bundles evicted to stay within the maximum weight. */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/** @return The number of bundles that have been loaded again after having been evicted. */
+	public long getReloadCount() {
+		return reloadCount.get();
+	}
+
+	/**
+	 * Estimates the number of bytes of memory occupied by a bundle, not including any parent bundle.
+	 * @implSpec This implementation uses {@link CompactResourceBundle#estimateByteSize()} for a compact bundle; otherwise it estimates the size of the keys and
+	 *           values returned by {@link ResourceBundle#keySet()} and {@link ResourceBundle#getObject(String)}.
+	 * @param resourceBundle The bundle the weight of which should be estimated.
+	 * @return The estimated weight of the bundle in bytes.
+	 */
+	protected long estimateWeight(@Nonnull final ResourceBundle resourceBundle) {
+		if(resourceBundle instanceof CompactResourceBundle) {
+			return ENTRY_OVERHEAD + ((CompactResourceBundle)resourceBundle).estimateByteSize();
+		}
+		long weight = ENTRY_OVERHEAD;
+		for(final String key : resourceBundle.keySet()) {
+			weight += estimateStringByteSize(key);
+			final Object value = resourceBundle.getObject(key);
+			weight += value instanceof String ? estimateStringByteSize((String)value) : OBJECT_WEIGHT;
+		}
+		return weight;
+	}
+
+	/**
+	 * Estimates the number of bytes of memory occupied by a string.
+	 * @param string The string.
+	 * @return The estimated size of the string in bytes, assuming two bytes per character.
+	 */
+	static long estimateStringByteSize(@Nonnull final String string) {
+		return STRING_OVERHEAD + 2L * string.length();
+	}
+
+	/** A cache key, weakly referencing the class loader. */
+	private static final class Key extends WeakReference<ClassLoader> {
+
+		private final String resourceName;
+
+		private final int hashCode;
+
+		/**
+		 * Constructor.
+		 * @param classLoader The class loader.
+		 * @param resourceName The resource name.
+		 * @param referenceQueue The queue with which to register the class loader reference, or <code>null</code> for a temporary lookup key.
+		 */
+		private Key(@Nonnull final ClassLoader classLoader, @Nonnull final String resourceName, @Nullable final ReferenceQueue<ClassLoader> referenceQueue) {
+			super(requireNonNull(classLoader), referenceQueue);
+			this.resourceName = requireNonNull(resourceName);
+			this.hashCode = System.identityHashCode(classLoader) * 31 + resourceName.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if(this == object) {
+				return true;
+			}
+			if(!(object instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key)object;
+			final ClassLoader classLoader = get();
+			return classLoader != null && classLoader == key.get() && hashCode == key.hashCode && resourceName.equals(key.resourceName);
+		}
+
+	}
+
+	/** A cached bundle along with its estimated weight. */
+	private static final class Entry {
+
+		/** The cached bundle, which has no parent. */
+		private final CompactResourceBundle resourceBundle;
+
+		private final long weight;
+
+		/**
+		 * Constructor.
+		 * @param resourceBundle The cached bundle.
+		 * @param weight The estimated weight of the bundle in bytes.
+		 */
+		private Entry(@Nonnull final CompactResourceBundle resourceBundle, final long weight) {
+			this.resourceBundle = resourceBundle;
+			this.weight = weight;
+		}
+
+	}
+
+}
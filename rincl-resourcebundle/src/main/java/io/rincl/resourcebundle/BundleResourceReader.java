@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+import javax.annotation.*;
+
+/**
+ * Reads the contents of resource bundle resources located by a class loader, bypassing {@link URLConnection} for the most common types of URLs.
+ * <ul>
+ * <li>A <code>file:</code> URL is read directly using a {@link FileChannel}, memory-mapping the file if it is at least {@value #MAPPING_THRESHOLD} bytes.</li>
+ * <li>A <code>jar:</code> URL referring to an entry of a local JAR file is read from a {@link ZipFile} that is opened once per JAR and shared for all
+ * subsequent reads, so that loading many bundles from the same JAR does not reopen it. A shared JAR file is reopened if the modification time or size of the
+ * file has changed since it was opened. At most {@value #MAX_OPEN_JAR_FILE_COUNT} JAR files are kept open; entries of other JAR files are read by opening
+ * the JAR file for each read.</li>
+ * <li>Any other URL is read using {@link URL#openConnection()}.</li>
+ * </ul>
+ * <p>
+ * This class is thread safe. Closing the reader closes any cached JAR files; the reader may continue to be used afterwards, reopening JAR files as needed.
+ * </p>
+ * @author Garret Wilson
+ */
+public class BundleResourceReader implements Closeable {
+
+	/** The size in bytes at or above which a file is memory-mapped rather than read into the heap. */
+	public static final int MAPPING_THRESHOLD = 64 * 1024;
+
+	/** The maximum number of JAR files held open for shared reading. */
+	public static final int MAX_OPEN_JAR_FILE_COUNT = 64;
+
+	/** The URL scheme of files. */
+	private static final String FILE_SCHEME = "file";
+
+	/** The URL scheme of JAR entries. */
+	private static final String JAR_SCHEME = "jar";
+
+	/** The separator between the JAR file URL and the entry name in a JAR URL. */
+	private static final String JAR_ENTRY_SEPARATOR = "!/";
+
+	/** The open JAR files, keyed to their paths. */
+	private final Map<Path, OpenJarFile> jarFiles = new ConcurrentHashMap<>();
+
+	/** @return The number of JAR files currently held open by this reader. */
+	int getOpenJarFileCount() {
+		return jarFiles.size();
+	}
+
+	/**
+	 * Reads the full contents of a resource.
+	 * @param resourceURL The URL of the resource to read.
+	 * @param reload Whether the resource is being reloaded, in which case no cached JAR file or URL connection will be used.
+	 * @return A buffer containing the contents of the resource, positioned at the first byte.
+	 * @throws NullPointerException if the given URL is <code>null</code>.
+	 * @throws FileNotFoundException if the resource does not exist.
+	 * @throws IOException if there is an error reading the resource.
+	 */
+	public ByteBuffer read(@Nonnull final URL resourceURL, final boolean reload) throws IOException {
+		final String scheme = resourceURL.getProtocol();
+		if(FILE_SCHEME.equals(scheme)) {
+			final Optional<Path> foundFile = findPath(resourceURL);
+			if(foundFile.isPresent()) {
+				return readFile(foundFile.get());
+			}
+		} else if(JAR_SCHEME.equals(scheme)) {
+			final String spec = resourceURL.getFile();
+			final int separatorIndex = spec.indexOf(JAR_ENTRY_SEPARATOR);
+			final String entryName = separatorIndex >= 0 ? spec.substring(separatorIndex + JAR_ENTRY_SEPARATOR.length()) : null;
+			//only handle simple entries of local JAR files; leave nested JARs and encoded entry names to the URL handler
+			if(entryName != null && !entryName.isEmpty() && entryName.indexOf('%') < 0 && entryName.indexOf(JAR_ENTRY_SEPARATOR) < 0) {
+				final Optional<Path> foundJarFile = findPath(new URL(spec.substring(0, separatorIndex)));
+				if(foundJarFile.isPresent()) {
+					return readJarEntry(foundJarFile.get(), entryName, reload);
+				}
+			}
+		}
+		final URLConnection connection = resourceURL.openConnection();
+		if(reload) {
+			connection.setUseCaches(false);
+		}
+		try (final InputStream inputStream = connection.getInputStream()) {
+			return ByteBuffer.wrap(inputStream.readAllBytes());
+		}
+	}
+
+	/**
+	 * Determines the local file path of a <code>file:</code> URL.
+	 * @param fileURL The URL of a file.
+	 * @return The path of the file, which will be empty if the URL is not a <code>file:</code> URL or cannot be converted to a path.
+	 */
+	protected static Optional<Path> findPath(@Nonnull final URL fileURL) {
+		if(!FILE_SCHEME.equals(fileURL.getProtocol())) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(Path.of(fileURL.toURI()));
+		} catch(final URISyntaxException | IllegalArgumentException | FileSystemNotFoundException exception) { //e.g. a URL with an authority component
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Determines the local file containing a resource: the file itself for a <code>file:</code> URL, or the JAR file for a <code>jar:</code> URL of an entry of
+	 * a local JAR file.
+	 * @param resourceURL The URL of a resource.
+	 * @return The path of the file containing the resource, which will be empty if the resource is not in a local file.
+	 * @throws NullPointerException if the given URL is <code>null</code>.
+	 */
+	static Optional<Path> findFile(@Nonnull final URL resourceURL) {
+		if(JAR_SCHEME.equals(resourceURL.getProtocol())) {
+			final String spec = resourceURL.getFile();
+			final int separatorIndex = spec.indexOf(JAR_ENTRY_SEPARATOR);
+			if(separatorIndex < 0) {
+				return Optional.empty();
+			}
+			try {
+				return findPath(new URL(spec.substring(0, separatorIndex)));
+			} catch(final MalformedURLException malformedURLException) {
+				return Optional.empty();
+			}
+		}
+		return findPath(resourceURL);
+	}
+
+	/**
+	 * Reads the full contents of a file, memory-mapping it if it is at least {@value #MAPPING_THRESHOLD} bytes.
+	 * @param file The file to read.
+	 * @return A buffer containing the contents of the file.
+	 * @throws FileNotFoundException if the file does not exist.
+	 * @throws IOException if there is an error reading the file.
+	 */
+	protected ByteBuffer readFile(@Nonnull final Path file) throws IOException {
+		try (final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long size = fileChannel.size();
+			if(size >= MAPPING_THRESHOLD) {
+				return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size); //the mapping remains valid after the channel is closed
+			}
+			final ByteBuffer buffer = ByteBuffer.allocate((int)size);
+			while(buffer.hasRemaining() && fileChannel.read(buffer) >= 0) {}
+			return buffer.flip();
+		} catch(final NoSuchFileException noSuchFileException) {
+			throw new FileNotFoundException(noSuchFileException.getMessage());
+		}
+	}
+
+	/**
+	 * Reads the full contents of a JAR entry, using a shared open JAR file unless reloading. A shared JAR file is replaced if the file has been modified since
+	 * it was opened.
+	 * @param jarFile The path of the JAR file.
+	 * @param entryName The name of the entry within the JAR file.
+	 * @param reload Whether the resource is being reloaded, in which case the JAR file will be opened anew and not cached.
+	 * @return A buffer containing the contents of the entry.
+	 * @throws FileNotFoundException if the JAR file or the entry does not exist.
+	 * @throws IOException if there is an error reading the JAR entry.
+	 */
+	protected ByteBuffer readJarEntry(@Nonnull final Path jarFile, @Nonnull final String entryName, final boolean reload) throws IOException {
+		if(reload) {
+			return readJarEntryDirectly(jarFile, entryName);
+		}
+		final BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+		} catch(final NoSuchFileException noSuchFileException) {
+			throw new FileNotFoundException(noSuchFileException.getMessage());
+		}
+		OpenJarFile openJarFile = jarFiles.get(jarFile);
+		if(openJarFile != null && !openJarFile.isCurrent(attributes)) { //the JAR file was modified or replaced after it was opened
+			if(jarFiles.remove(jarFile, openJarFile)) {
+				try {
+					openJarFile.zipFile.close(); //any concurrent read of the stale file will fall back to reading the file directly
+				} catch(final IOException ioException) {
+					//the stale file is being discarded anyway
+				}
+			}
+			openJarFile = null;
+		}
+		if(openJarFile == null) {
+			if(jarFiles.size() >= MAX_OPEN_JAR_FILE_COUNT) { //don't hold open any more JAR files
+				return readJarEntryDirectly(jarFile, entryName);
+			}
+			final OpenJarFile newOpenJarFile = new OpenJarFile(new ZipFile(jarFile.toFile()), attributes);
+			openJarFile = jarFiles.putIfAbsent(jarFile, newOpenJarFile);
+			if(openJarFile == null) {
+				openJarFile = newOpenJarFile;
+			} else { //another thread opened the JAR file concurrently
+				newOpenJarFile.zipFile.close();
+			}
+		}
+		try {
+			return readZipEntry(openJarFile.zipFile, entryName);
+		} catch(final FileNotFoundException fileNotFoundException) {
+			throw fileNotFoundException;
+		} catch(final IllegalStateException | IOException exception) { //the cached file was closed concurrently ("zip file closed", "Stream closed")
+			return readJarEntryDirectly(jarFile, entryName);
+		}
+	}
+
+	/**
+	 * Reads the full contents of a JAR entry by opening the JAR file for this read only.
+	 * @param jarFile The path of the JAR file.
+	 * @param entryName The name of the entry within the JAR file.
+	 * @return A buffer containing the contents of the entry.
+	 * @throws FileNotFoundException if the JAR file or the entry does not exist.
+	 * @throws IOException if there is an error reading the JAR entry.
+	 */
+	private static ByteBuffer readJarEntryDirectly(@Nonnull final Path jarFile, @Nonnull final String entryName) throws IOException {
+		try (final ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+			return readZipEntry(zipFile, entryName);
+		}
+	}
+
+	/**
+	 * Reads the full contents of an entry of an open ZIP file.
+	 * @param zipFile The ZIP file.
+	 * @param entryName The name of the entry.
+	 * @return A buffer containing the contents of the entry.
+	 * @throws FileNotFoundException if the entry does not exist.
+	 * @throws IOException if there is an error reading the entry.
+	 */
+	private static ByteBuffer readZipEntry(@Nonnull final ZipFile zipFile, @Nonnull final String entryName) throws IOException {
+		final ZipEntry zipEntry = zipFile.getEntry(requireNonNull(entryName));
+		if(zipEntry == null) {
+			throw new FileNotFoundException(String.format("JAR entry %s not found in %s.", entryName, zipFile.getName()));
+		}
+		try (final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+			return ByteBuffer.wrap(inputStream.readAllBytes());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation closes and releases all cached JAR files.
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException ioException = null;
+		for(final Iterator<OpenJarFile> openJarFileIterator = jarFiles.values().iterator(); openJarFileIterator.hasNext();) {
+			final OpenJarFile openJarFile = openJarFileIterator.next();
+			openJarFileIterator.remove();
+			try {
+				openJarFile.zipFile.close();
+			} catch(final IOException closeException) {
+				if(ioException == null) {
+					ioException = closeException;
+				} else {
+					ioException.addSuppressed(closeException);
+				}
+			}
+		}
+		if(ioException != null) {
+			throw ioException;
+		}
+	}
+
+	/** A JAR file held open for shared reading, along with the attributes of the file when it was opened. */
+	private static final class OpenJarFile {
+
+		/** The open JAR file. */
+		private final ZipFile zipFile;
+
+		/** The modification time of the file when it was opened. */
+		private final FileTime lastModifiedTime;
+
+		/** The size of the file when it was opened. */
+		private final long size;
+
+		/**
+		 * Constructor.
+		 * @param zipFile The open JAR file.
+		 * @param attributes The attributes of the file read before it was opened.
+		 */
+		private OpenJarFile(@Nonnull final ZipFile zipFile, @Nonnull final BasicFileAttributes attributes) {
+			this.zipFile = requireNonNull(zipFile);
+			this.lastModifiedTime = attributes.lastModifiedTime();
+			this.size = attributes.size();
+		}
+
+		/**
+		 * Determines whether the open JAR file is still current.
+		 * @param attributes The current attributes of the file.
+		 * @return <code>true</code> if the modification time and size of the file are unchanged since it was opened.
+		 */
+		private boolean isCurrent(@Nonnull final BasicFileAttributes attributes) {
+			return attributes.size() == size && attributes.lastModifiedTime().equals(lastModifiedTime);
+		}
+
+	}
+
+}
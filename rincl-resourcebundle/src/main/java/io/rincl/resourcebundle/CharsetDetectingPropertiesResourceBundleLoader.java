@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * Strategy for loading resource bundles from properties files stored in standard properties format, detecting the charset in a single pass over the buffered
+ * bytes. Any UTF-* encoding (including UTF-8, UTF-16BE, UTF-16LE, UTF-32BE, and UTF-32LE) for which a Byte Order Mark (BOM) is present will be recognized. If
+ * there is no BOM, the content is decoded as UTF-8 if it is valid UTF-8, and otherwise as the legacy ISO-8859-1 charset traditionally used for properties
+ * files.
+ * <p>
+ * Unlike {@link UtfPropertiesResourceBundleLoader}, this loader never needs the resource to be read again in order to fall back to ISO-8859-1.
+ * </p>
+ * @implSpec This implementation recognizes files with the extension {@value #FILENAME_EXTENSION}, stored in the format specified in
+ *           {@link Properties#load(Reader)}.
+ * @implSpec This implementation is not meant for normal registration, but is used directly by the Rincl resource bundle control for Java properties file
+ *           loading.
+ * @author Garret Wilson
+ * @see Properties#load(Reader)
+ * @see #detectByteOrderMark(ByteBuffer)
+ */
+public class CharsetDetectingPropertiesResourceBundleLoader extends UtfPropertiesResourceBundleLoader {
+
+	/** The shared singleton instance of the class. */
+	public static final CharsetDetectingPropertiesResourceBundleLoader INSTANCE = new CharsetDetectingPropertiesResourceBundleLoader();
+
+	/** This class cannot be publicly instantiated. */
+	protected CharsetDetectingPropertiesResourceBundleLoader() {
+	}
+
+	/**
+	 * Decodes properties file content, detecting its charset.
+	 * <ol>
+	 * <li>If a BOM is present, the bytes following the BOM are decoded strictly using the charset the BOM indicates.</li>
+	 * <li>Otherwise the bytes are decoded strictly as UTF-8.</li>
+	 * <li>If the bytes are not valid UTF-8, they are decoded as ISO-8859-1, which cannot fail.</li>
+	 * </ol>
+	 * @param bytes The buffer containing the bytes to decode; its position is not changed.
+	 * @return A buffer containing the decoded characters.
+	 * @throws CharacterCodingException if a BOM is present and the bytes contain an invalid sequence for the charset indicated by the BOM.
+	 * @throws IOException if the BOM indicates an unsupported mixed-endian encoding.
+	 */
+	@Override
+	protected CharBuffer decode(final ByteBuffer bytes) throws IOException {
+		try {
+			return super.decode(bytes);
+		} catch(final CharacterCodingException characterCodingException) {
+			if(detectByteOrderMark(bytes).isPresent()) { //if the charset was explicitly indicated, the content is simply invalid
+				throw characterCodingException;
+			}
+			return ISO_8859_1.decode(bytes.duplicate()); //not UTF-8; fall back to the legacy properties charset
+		}
+	}
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.util.Collections.*;
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import javax.annotation.*;
+
+/**
+ * An immutable resource bundle storing its entries in parallel arrays using open addressing with linear probing.
+ * <p>
+ * Unlike {@link PropertyResourceBundle} or a resource bundle backed by a {@link HashMap}, this implementation allocates no node object per entry, and performs
+ * lookups without synchronization. The hash of each key is stored alongside it, so that probing compares adjacent integers and only calls
+ * {@link String#equals(Object)} on a probable match.
+ * </p>
+ * <p>
+ * All resource bundles loaded by Rincl loaders are of this type. Use {@link #findObject(String)} to look up a resource with a single probe per bundle in the
+ * parent chain, rather than calling {@link #containsKey(String)} followed by {@link #getObject(String)}.
+ * </p>
+ * @author Garret Wilson
+ */
+public final class CompactResourceBundle extends ResourceBundle {
+
+	/** The maximum proportion of table slots that will be occupied. */
+	private static final int LOAD_FACTOR_INVERSE = 2;
+
+	/** The table of keys; <code>null</code> indicates an empty slot. The length is always a power of two. */
+	private final String[] keys;
+
+	/** The table of spread key hashes, in the same slots as their keys. */
+	private final int[] hashes;
+
+	/** The table of values, in the same slots as their keys. */
+	private final Object[] values;
+
+	/** The number of entries. */
+	private final int size;
+
+	/** The live, read-only view of the keys of this bundle, not including those of any parent bundle. */
+	private final Set<String> keySet = new KeySet();
+
+	/**
+	 * Map constructor.
+	 * @param map The map containing the keys and values of the bundle.
+	 * @throws NullPointerException if the given map is <code>null</code> or contains a <code>null</code> key or value.
+	 */
+	public CompactResourceBundle(@Nonnull final Map<String, ?> map) {
+		this(map.keySet().toArray(String[]::new), map.values().toArray(), map.size());
+	}
+
+	/**
+	 * Entries constructor. If the same key appears more than once, the value appearing last will be used.
+	 * @param entryKeys The keys of the entries, of which only the first <var>count</var> will be used.
+	 * @param entryValues The values of the entries, in the same order as the keys.
+	 * @param count The number of entries.
+	 * @throws NullPointerException if one of the keys or values is <code>null</code>.
+	 */
+	CompactResourceBundle(@Nonnull final String[] entryKeys, @Nonnull final Object[] entryValues, final int count) {
+		final int capacity = Integer.highestOneBit(Math.max(count * LOAD_FACTOR_INVERSE - 1, 1)) << 1;
+		keys = new String[capacity];
+		hashes = new int[capacity];
+		values = new Object[capacity];
+		int size = 0;
+		for(int i = 0; i < count; i++) {
+			final String key = requireNonNull(entryKeys[i]);
+			final Object value = requireNonNull(entryValues[i]);
+			final int hash = spread(key.hashCode());
+			final int index = indexOf(key, hash);
+			if(keys[index] == null) {
+				keys[index] = key;
+				hashes[index] = hash;
+				size++;
+			}
+			values[index] = value;
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Parent view constructor, sharing the tables of an existing bundle.
+	 * @param resourceBundle The bundle the tables of which to share.
+	 * @param parent The parent bundle, or <code>null</code> if there is no parent.
+	 */
+	private CompactResourceBundle(@Nonnull final CompactResourceBundle resourceBundle, @Nullable final ResourceBundle parent) {
+		keys = resourceBundle.keys;
+		hashes = resourceBundle.hashes;
+		values = resourceBundle.values;
+		size = resourceBundle.size;
+		setParent(parent);
+	}
+
+	/**
+	 * Spreads the bits of a hash code so that the higher bits influence the table index.
+	 * @param hashCode The hash code to spread.
+	 * @return The spread hash code.
+	 */
+	private static int spread(final int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+	/**
+	 * Determines the slot for a key; either the slot holding the key, or the empty slot where it would be stored.
+	 * @param key The key to look up.
+	 * @return The index of the slot for the key.
+	 */
+	private int indexOf(@Nonnull final String key) {
+		return indexOf(key, spread(key.hashCode()));
+	}
+
+	/**
+	 * Determines the slot for a key with a known hash; either the slot holding the key, or the empty slot where it would be stored.
+	 * @param key The key to look up.
+	 * @param hash The spread hash code of the key.
+	 * @return The index of the slot for the key.
+	 */
+	private int indexOf(@Nonnull final String key, final int hash) {
+		final String[] keys = this.keys;
+		final int[] hashes = this.hashes;
+		final int mask = keys.length - 1;
+		int index = hash & mask;
+		String slotKey;
+		while((slotKey = keys[index]) != null && (hashes[index] != hash || !slotKey.equals(key))) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	/**
+	 * Creates a compact copy of the entries of a bundle. If the bundle has a parent, the entries of the parent will be included as well.
+	 * @param resourceBundle The bundle to copy.
+	 * @return A new compact bundle containing the entries of the given bundle.
+	 * @throws NullPointerException if the given bundle is <code>null</code>.
+	 */
+	static CompactResourceBundle copyOf(@Nonnull final ResourceBundle resourceBundle) {
+		final Map<String, Object> entries = new HashMap<>();
+		for(final String key : resourceBundle.keySet()) {
+			entries.put(key, resourceBundle.getObject(key));
+		}
+		return new CompactResourceBundle(entries);
+	}
+
+	/**
+	 * Sets the parent bundle of this bundle, to which lookups will delegate for keys not in this bundle.
+	 * <p>
+	 * This method must only be called on a bundle not yet shared with other threads. To link a bundle that may be shared, such as one retrieved from a
+	 * {@link BundleCache}, use {@link #withParent(ResourceBundle)}.
+	 * </p>
+	 * @param parent The parent bundle, or <code>null</code> if there is no parent.
+	 */
+	void setParentBundle(@Nullable final ResourceBundle parent) {
+		setParent(parent);
+	}
+
+	/**
+	 * Returns a bundle with the same entries as this bundle but with the given parent bundle. The entry tables are shared rather than copied, and this bundle is
+	 * not modified.
+	 * @param parent The parent bundle, or <code>null</code> if there is no parent.
+	 * @return A new bundle sharing the entries of this bundle and linked to the given parent.
+	 */
+	CompactResourceBundle withParent(@Nullable final ResourceBundle parent) {
+		return new CompactResourceBundle(this, parent);
+	}
+
+	/** @return The number of entries in this bundle, not including those of any parent bundle. */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Estimates the number of bytes of memory occupied by this bundle, including its tables, keys, and string values, but not including any parent bundle.
+	 * @return The estimated size of this bundle in bytes.
+	 */
+	public long estimateByteSize() {
+		long byteSize = 3L * 16 + (long)keys.length * (4 + 4 + 4); //array headers; key, hash, and value slots assuming compressed references
+		for(int index = 0; index < keys.length; index++) {
+			final String key = keys[index];
+			if(key != null) {
+				byteSize += BundleCache.estimateStringByteSize(key);
+				final Object value = values[index];
+				byteSize += value instanceof String ? BundleCache.estimateStringByteSize((String)value) : 16;
+			}
+		}
+		return byteSize;
+	}
+
+	@Override
+	protected Object handleGetObject(final String key) {
+		return values[indexOf(requireNonNull(key))];
+	}
+
+	/**
+	 * Finds the object for the given key in this resource bundle or in one of its parents, without throwing an exception if the resource is missing.
+	 * @implSpec This implementation hashes the key once and probes each compact bundle in the parent chain directly. Any other type of parent bundle is checked
+	 *           using {@link ResourceBundle#containsKey(String)} and {@link ResourceBundle#getObject(String)}.
+	 * @param key The key of the desired object.
+	 * @return The object for the given key, which will be empty if there is no such object in this bundle or its parents.
+	 * @throws NullPointerException if the given key is <code>null</code>.
+	 */
+	public Optional<Object> findObject(@Nonnull final String key) {
+		final int hash = spread(key.hashCode());
+		ResourceBundle resourceBundle = this;
+		do {
+			if(!(resourceBundle instanceof CompactResourceBundle)) { //fall back to the general approach for other bundle types
+				return resourceBundle.containsKey(key) ? Optional.of(resourceBundle.getObject(key)) : Optional.empty();
+			}
+			final CompactResourceBundle compactResourceBundle = (CompactResourceBundle)resourceBundle;
+			final Object value = compactResourceBundle.values[compactResourceBundle.indexOf(key, hash)];
+			if(value != null) {
+				return Optional.of(value);
+			}
+			resourceBundle = compactResourceBundle.parent;
+		} while(resourceBundle != null);
+		return Optional.empty();
+	}
+
+	/**
+	 * Streams the keys of this bundle and of its parent bundles, each key appearing once. The keys of each compact bundle are streamed directly from its table,
+	 * and a key of a parent bundle is skipped if a more specific bundle contains it, so that no set of keys is accumulated. The keys of any other type of parent
+	 * bundle, including the keys of its own parents, are retrieved using {@link ResourceBundle#keySet()}.
+	 * @return A stream of the keys of this bundle and its parents.
+	 */
+	public Stream<String> keys() {
+		final List<ResourceBundle> resourceBundles = new ArrayList<>();
+		ResourceBundle resourceBundle = this;
+		do {
+			resourceBundles.add(resourceBundle);
+			resourceBundle = resourceBundle instanceof CompactResourceBundle ? ((CompactResourceBundle)resourceBundle).parent : null; //keySet() includes parents
+		} while(resourceBundle != null);
+		return IntStream.range(0, resourceBundles.size()).boxed().flatMap(bundleIndex -> {
+			final ResourceBundle bundle = resourceBundles.get(bundleIndex);
+			final Stream<String> keys = bundle instanceof CompactResourceBundle ? ((CompactResourceBundle)bundle).keySet.stream() : bundle.keySet().stream();
+			return bundleIndex == 0 ? keys : keys.filter(key -> {
+				for(int shadowingBundleIndex = 0; shadowingBundleIndex < bundleIndex; shadowingBundleIndex++) { //all shadowing bundles are compact
+					if(((CompactResourceBundle)resourceBundles.get(shadowingBundleIndex)).keySet.contains(key)) {
+						return false;
+					}
+				}
+				return true;
+			});
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns a live view of the keys of this bundle, requiring no copying and providing constant-time lookup.
+	 */
+	@Override
+	protected Set<String> handleKeySet() {
+		return keySet;
+	}
+
+	@Override
+	public Enumeration<String> getKeys() {
+		if(parent == null) {
+			return enumeration(keySet);
+		}
+		final Set<String> allKeys = new LinkedHashSet<>(keySet);
+		for(final Enumeration<String> parentKeys = parent.getKeys(); parentKeys.hasMoreElements();) {
+			allKeys.add(parentKeys.nextElement());
+		}
+		return enumeration(allKeys);
+	}
+
+	/** A read-only view of the keys in the table. */
+	private final class KeySet extends AbstractSet<String> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(final Object object) {
+			return object instanceof String && keys[indexOf((String)object)] != null;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new Iterator<String>() {
+
+				/** The index of the next occupied slot, or the table length if there are no more. */
+				private int nextIndex = findOccupied(0);
+
+				/**
+				 * Finds the next occupied slot.
+				 * @param fromIndex The index at which to start searching.
+				 * @return The index of the next occupied slot at or after the given index, or the table length if there are no more.
+				 */
+				private int findOccupied(int fromIndex) {
+					while(fromIndex < keys.length && keys[fromIndex] == null) {
+						fromIndex++;
+					}
+					return fromIndex;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return nextIndex < keys.length;
+				}
+
+				@Override
+				public String next() {
+					if(!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					final String key = keys[nextIndex];
+					nextIndex = findOccupied(nextIndex + 1);
+					return key;
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import java.nio.CharBuffer;
+import java.util.*;
+
+import javax.annotation.*;
+
+/**
+ * An unsynchronized parser of the properties file format specified in {@link Properties#load(java.io.Reader)}, producing a {@link CompactResourceBundle}.
+ * <p>
+ * The parser works directly on the characters of a buffer, without going through a {@link java.io.Reader} or a synchronized {@link Properties} table. Keys
+ * and values containing no escape sequences are created directly from the buffer contents.
+ * </p>
+ * @author Garret Wilson
+ * @see Properties#load(java.io.Reader)
+ */
+public final class PropertiesParser {
+
+	/** The initial capacity of the entry arrays. */
+	private static final int INITIAL_ENTRY_CAPACITY = 64;
+
+	/** The characters to parse. */
+	private final char[] chars;
+
+	/** The index one past the last character to parse. */
+	private final int end;
+
+	/** The current parse position. */
+	private int position;
+
+	/** The buffer holding the current logical line. */
+	private char[] lineBuffer = new char[128];
+
+	/** The keys parsed so far. */
+	private String[] entryKeys = new String[INITIAL_ENTRY_CAPACITY];
+
+	/** The values parsed so far. */
+	private String[] entryValues = new String[INITIAL_ENTRY_CAPACITY];
+
+	/** The number of entries parsed so far. */
+	private int entryCount = 0;
+
+	/**
+	 * Characters constructor.
+	 * @param chars The array containing the characters to parse.
+	 * @param offset The index of the first character to parse.
+	 * @param length The number of characters to parse.
+	 */
+	private PropertiesParser(@Nonnull final char[] chars, final int offset, final int length) {
+		this.chars = chars;
+		this.position = offset;
+		this.end = offset + length;
+	}
+
+	/**
+	 * Parses the properties in the remaining characters of a buffer into a resource bundle. The position of the buffer is not changed.
+	 * @param buffer The buffer containing properties in the format specified in {@link Properties#load(java.io.Reader)}.
+	 * @return A new resource bundle containing the parsed properties.
+	 * @throws NullPointerException if the given buffer is <code>null</code>.
+	 * @throws IllegalArgumentException if a malformed <code>\\uXXXX</code> escape sequence is encountered.
+	 */
+	public static CompactResourceBundle parse(@Nonnull final CharBuffer buffer) {
+		final PropertiesParser parser;
+		if(buffer.hasArray()) {
+			parser = new PropertiesParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		} else {
+			final char[] chars = new char[buffer.remaining()];
+			buffer.duplicate().get(chars);
+			parser = new PropertiesParser(chars, 0, chars.length);
+		}
+		return parser.parse();
+	}
+
+	/**
+	 * Parses the properties in a character sequence into a resource bundle.
+	 * @param charSequence The characters containing properties in the format specified in {@link Properties#load(java.io.Reader)}.
+	 * @return A new resource bundle containing the parsed properties.
+	 * @throws NullPointerException if the given character sequence is <code>null</code>.
+	 * @throws IllegalArgumentException if a malformed <code>\\uXXXX</code> escape sequence is encountered.
+	 */
+	public static CompactResourceBundle parse(@Nonnull final CharSequence charSequence) {
+		return parse(CharBuffer.wrap(charSequence.toString().toCharArray()));
+	}
+
+	/**
+	 * Parses all the properties.
+	 * @return A new resource bundle containing the parsed properties.
+	 */
+	private CompactResourceBundle parse() {
+		int lineLength;
+		while((lineLength = readLine()) >= 0) {
+			parseLine(lineLength);
+		}
+		return new CompactResourceBundle(entryKeys, entryValues, entryCount);
+	}
+
+	/**
+	 * Determines whether the given character is whitespace as recognized by the properties format.
+	 * @param c The character to check.
+	 * @return <code>true</code> if the character is a space, tab, or form feed.
+	 */
+	private static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+	/**
+	 * Reads the next logical line into the line buffer, skipping blank lines and comment lines, joining continuation lines, and removing leading whitespace.
+	 * @return The length of the logical line in the line buffer, or -1 if there are no more logical lines.
+	 */
+	private int readLine() {
+		int length = 0;
+		boolean skipWhitespace = true;
+		boolean isCommentLine = false;
+		boolean isNewLine = true;
+		boolean appendedLineBegin = false;
+		boolean precedingBackslash = false;
+		boolean skipLF = false;
+		while(true) {
+			if(position >= end) {
+				if(length == 0 || isCommentLine) {
+					return -1;
+				}
+				return precedingBackslash ? length - 1 : length;
+			}
+			final char c = chars[position++];
+			if(skipLF) {
+				skipLF = false;
+				if(c == '\n') {
+					continue;
+				}
+			}
+			if(skipWhitespace) {
+				if(isWhitespace(c) || (!appendedLineBegin && (c == '\r' || c == '\n'))) {
+					continue;
+				}
+				skipWhitespace = false;
+				appendedLineBegin = false;
+			}
+			if(isNewLine) {
+				isNewLine = false;
+				if(c == '#' || c == '!') {
+					isCommentLine = true;
+					continue;
+				}
+			}
+			if(c != '\n' && c != '\r') {
+				if(!isCommentLine) {
+					if(length == lineBuffer.length) {
+						lineBuffer = Arrays.copyOf(lineBuffer, length * 2);
+					}
+					lineBuffer[length++] = c;
+					precedingBackslash = c == '\\' ? !precedingBackslash : false;
+				}
+			} else if(isCommentLine || length == 0) { //end of a comment or blank line; start over
+				isCommentLine = false;
+				isNewLine = true;
+				skipWhitespace = true;
+				length = 0;
+			} else if(precedingBackslash) { //continuation line
+				length--;
+				skipWhitespace = true;
+				appendedLineBegin = true;
+				precedingBackslash = false;
+				if(c == '\r') {
+					skipLF = true;
+				}
+			} else {
+				return length;
+			}
+		}
+	}
+
+	/**
+	 * Splits a logical line into a key and value and adds them as an entry.
+	 * @param length The length of the logical line in the line buffer.
+	 */
+	private void parseLine(final int length) {
+		final char[] line = lineBuffer;
+		int keyLength = 0;
+		int valueStart = length;
+		boolean hasSeparator = false;
+		boolean precedingBackslash = false;
+		while(keyLength < length) {
+			final char c = line[keyLength];
+			if(!precedingBackslash && (c == '=' || c == ':')) {
+				valueStart = keyLength + 1;
+				hasSeparator = true;
+				break;
+			} else if(!precedingBackslash && isWhitespace(c)) {
+				valueStart = keyLength + 1;
+				break;
+			}
+			precedingBackslash = c == '\\' ? !precedingBackslash : false;
+			keyLength++;
+		}
+		while(valueStart < length) {
+			final char c = line[valueStart];
+			if(!isWhitespace(c)) {
+				if(!hasSeparator && (c == '=' || c == ':')) {
+					hasSeparator = true;
+				} else {
+					break;
+				}
+			}
+			valueStart++;
+		}
+		if(entryCount == entryKeys.length) {
+			entryKeys = Arrays.copyOf(entryKeys, entryCount * 2);
+			entryValues = Arrays.copyOf(entryValues, entryCount * 2);
+		}
+		entryKeys[entryCount] = unescape(line, 0, keyLength);
+		entryValues[entryCount] = unescape(line, valueStart, length - valueStart);
+		entryCount++;
+	}
+
+	/**
+	 * Converts a range of characters to a string, interpreting escape sequences.
+	 * @param line The characters to convert.
+	 * @param offset The index of the first character to convert.
+	 * @param length The number of characters to convert.
+	 * @return The unescaped string.
+	 * @throws IllegalArgumentException if a malformed <code>\\uXXXX</code> escape sequence is encountered.
+	 */
+	private static String unescape(@Nonnull final char[] line, final int offset, final int length) {
+		final int end = offset + length;
+		int index = offset;
+		while(index < end && line[index] != '\\') {
+			index++;
+		}
+		if(index == end) { //no escape sequences
+			return new String(line, offset, length);
+		}
+		final StringBuilder stringBuilder = new StringBuilder(length).append(line, offset, index - offset);
+		while(index < end) {
+			char c = line[index++];
+			if(c == '\\') {
+				if(index == end) { //a trailing unpaired backslash is removed when reading the line, so this should not happen; ignore it
+					break;
+				}
+				c = line[index++];
+				switch(c) {
+					case 'u':
+						if(end - index < 4) {
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+						int value = 0;
+						for(int i = 0; i < 4; i++) {
+							final char digitChar = line[index++];
+							final int digit = digitChar < 0x80 ? Character.digit(digitChar, 16) : -1; //only ASCII hex digits are allowed
+							if(digit < 0) {
+								throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+							}
+							value = (value << 4) | digit;
+						}
+						c = (char)value;
+						break;
+					case 't':
+						c = '\t';
+						break;
+					case 'r':
+						c = '\r';
+						break;
+					case 'n':
+						c = '\n';
+						break;
+					case 'f':
+						c = '\f';
+						break;
+					default: //any other escaped character represents itself
+						break;
+				}
+			}
+			stringBuilder.append(c);
+		}
+		return stringBuilder.toString();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Collections.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+
+import javax.annotation.*;
+
+/**
+ * An index of the resource bundle files present on the class path, generated at build time by {@link ResourceBundleIndexer}.
+ * <p>
+ * Each JAR file or class directory may contain an index file at {@value #RESOURCE_NAME}, listing the resource names of all the resource bundle files it
+ * contains, one per line, such as <code>com/example/FooBar_pt_BR.properties</code>. Blank lines and lines beginning with <code>#</code> are ignored.
+ * </p>
+ * <p>
+ * An index is authoritative only for the directories (i.e. packages) it mentions: if some index lists a bundle file in a directory, a resource not listed in
+ * any index for that directory is considered not to exist, and need not be probed using {@link ClassLoader#getResource(String)}. Resources in directories not
+ * mentioned by any index are always considered possibly to exist. Thus a package whose bundle files are split between an indexed and an unindexed JAR is not
+ * supported.
+ * </p>
+ * @author Garret Wilson
+ * @see ResourceBundleIndexer
+ */
+public final class ResourceBundleIndex {
+
+	/** The name of the index resource, relative to the root of each class path entry. */
+	public static final String RESOURCE_NAME = "META-INF/rincl/bundles.idx";
+
+	/** The character introducing a comment line in an index file. */
+	public static final char COMMENT_CHAR = '#';
+
+	/** An index containing no entries, and thus considering all resources as possibly existing. */
+	public static final ResourceBundleIndex EMPTY = new ResourceBundleIndex(emptySet());
+
+	private final Set<String> resourceNames;
+
+	/** @return The names of the indexed bundle resources. */
+	public Set<String> getResourceNames() {
+		return resourceNames;
+	}
+
+	/** The directories for which this index is authoritative. */
+	private final Set<String> directories;
+
+	/**
+	 * Resource names constructor.
+	 * @param resourceNames The names of the indexed bundle resources, such as <code>com/example/FooBar_pt_BR.properties</code>.
+	 * @throws NullPointerException if the given resource names is <code>null</code>.
+	 */
+	public ResourceBundleIndex(@Nonnull final Collection<String> resourceNames) {
+		this.resourceNames = unmodifiableSet(new HashSet<>(resourceNames));
+		final Set<String> directories = new HashSet<>();
+		for(final String resourceName : this.resourceNames) {
+			directories.add(getDirectory(resourceName));
+		}
+		this.directories = unmodifiableSet(directories);
+	}
+
+	/** @return <code>true</code> if this index contains no entries. */
+	public boolean isEmpty() {
+		return resourceNames.isEmpty();
+	}
+
+	/**
+	 * Determines whether the given bundle resource may exist.
+	 * @param resourceName The name of a bundle resource, such as <code>com/example/FooBar_pt_BR.properties</code>.
+	 * @return <code>false</code> if this index is authoritative for the directory of the given resource and the resource is not indexed; otherwise
+	 *         <code>true</code>, indicating that the resource must be probed.
+	 * @throws NullPointerException if the given resource name is <code>null</code>.
+	 */
+	public boolean mayContain(@Nonnull final String resourceName) {
+		return resourceNames.contains(requireNonNull(resourceName)) || !directories.contains(getDirectory(resourceName));
+	}
+
+	/**
+	 * Determines the directory portion of a resource name.
+	 * @param resourceName The resource name.
+	 * @return The part of the resource name before the last slash, or the empty string if the resource is in the root directory.
+	 */
+	private static String getDirectory(@Nonnull final String resourceName) {
+		final int slashIndex = resourceName.lastIndexOf('/');
+		return slashIndex >= 0 ? resourceName.substring(0, slashIndex) : "";
+	}
+
+	/**
+	 * Loads and combines all the indexes visible to a class loader.
+	 * @param classLoader The class loader from which the {@value #RESOURCE_NAME} resources should be loaded.
+	 * @return An index of all bundle resources listed in the index files, which will be {@link #EMPTY} if there are no index files.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 * @throws IOException if there is an error reading an index file.
+	 */
+	public static ResourceBundleIndex load(@Nonnull final ClassLoader classLoader) throws IOException {
+		final Set<String> resourceNames = new HashSet<>();
+		final Enumeration<URL> indexURLs = classLoader.getResources(RESOURCE_NAME);
+		while(indexURLs.hasMoreElements()) {
+			try (final InputStream inputStream = indexURLs.nextElement().openStream()) {
+				read(inputStream, resourceNames);
+			}
+		}
+		return resourceNames.isEmpty() ? EMPTY : new ResourceBundleIndex(resourceNames);
+	}
+
+	/**
+	 * Reads the resource names from a single index file.
+	 * @param inputStream The input stream containing index contents in UTF-8.
+	 * @param resourceNames The collection to which the resource names will be added.
+	 * @throws IOException if there is an error reading the index.
+	 */
+	static void read(@Nonnull final InputStream inputStream, @Nonnull final Collection<String> resourceNames) throws IOException {
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+		String line;
+		while((line = reader.readLine()) != null) {
+			line = line.trim();
+			if(!line.isEmpty() && line.charAt(0) != COMMENT_CHAR) {
+				resourceNames.add(line);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+import static java.util.stream.Collectors.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+import javax.annotation.*;
+
+/**
+ * Build-time generator of a {@link ResourceBundleIndex}.
+ * <p>
+ * The indexer walks a class output directory, such as <code>target/classes</code>, and writes a {@value ResourceBundleIndex#RESOURCE_NAME} file listing every
+ * resource bundle file found having one of the filename extensions supported by the {@link RinclResourceBundleControl}. The index is then packaged with the
+ * other resources. In a Maven build, for example, the indexer may be invoked in the <code>process-classes</code> phase using the
+ * <code>exec-maven-plugin</code> <code>java</code> goal, with this class as the main class and <code>${project.build.outputDirectory}</code> as the argument.
+ * </p>
+ * @author Garret Wilson
+ * @see ResourceBundleIndex
+ */
+public class ResourceBundleIndexer {
+
+	private final Set<String> filenameExtensions;
+
+	/**
+	 * Default constructor, indexing files with the extensions supported by {@link RinclResourceBundleControl#DEFAULT}.
+	 * @see RinclResourceBundleControl#getFilenameExtensions()
+	 */
+	public ResourceBundleIndexer() {
+		this(RinclResourceBundleControl.DEFAULT);
+	}
+
+	/**
+	 * Resource bundle control constructor.
+	 * @param resourceBundleControl The resource bundle control indicating the filename extensions of resource bundle files to index.
+	 * @throws NullPointerException if the given resource bundle control is <code>null</code>.
+	 * @see RinclResourceBundleControl#getFilenameExtensions()
+	 */
+	public ResourceBundleIndexer(@Nonnull final RinclResourceBundleControl resourceBundleControl) {
+		this.filenameExtensions = resourceBundleControl.getFilenameExtensions();
+	}
+
+	/**
+	 * Finds the names of all resource bundle files within a directory tree.
+	 * @param directory The root of the class path directory to search.
+	 * @return The resource names, relative to the given directory and using forward slashes, in sorted order.
+	 * @throws NullPointerException if the given directory is <code>null</code>.
+	 * @throws IOException if there is an error walking the directory tree.
+	 */
+	public List<String> findResourceNames(@Nonnull final Path directory) throws IOException {
+		try (final Stream<Path> paths = Files.walk(requireNonNull(directory))) {
+			return paths.filter(Files::isRegularFile).map(path -> toResourceName(directory.relativize(path))).filter(this::isBundleResourceName).sorted()
+					.collect(toList());
+		}
+	}
+
+	/**
+	 * Determines whether the given resource name has one of the indexed filename extensions.
+	 * @param resourceName The resource name to check.
+	 * @return <code>true</code> if the resource name ends with a full stop followed by one of the indexed filename extensions.
+	 */
+	protected boolean isBundleResourceName(@Nonnull final String resourceName) {
+		for(final String filenameExtension : filenameExtensions) {
+			final int extensionIndex = resourceName.length() - filenameExtension.length();
+			if(extensionIndex > 1 && resourceName.charAt(extensionIndex - 1) == '.' && resourceName.endsWith(filenameExtension)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes an index for all the resource bundle files within a directory tree, at {@value ResourceBundleIndex#RESOURCE_NAME} relative to the directory.
+	 * @param directory The root of the class path directory to index.
+	 * @return The path to the index file written.
+	 * @throws NullPointerException if the given directory is <code>null</code>.
+	 * @throws IOException if there is an error walking the directory tree or writing the index.
+	 */
+	public Path index(@Nonnull final Path directory) throws IOException {
+		final List<String> resourceNames = findResourceNames(directory);
+		final Path indexFile = directory.resolve(ResourceBundleIndex.RESOURCE_NAME);
+		Files.createDirectories(indexFile.getParent());
+		try (final Writer writer = Files.newBufferedWriter(indexFile, UTF_8)) {
+			writer.write(ResourceBundleIndex.COMMENT_CHAR + " Rincl resource bundle index; generated by " + getClass().getName() + '\n');
+			for(final String resourceName : resourceNames) {
+				writer.write(resourceName);
+				writer.write('\n');
+			}
+		}
+		return indexFile;
+	}
+
+	/**
+	 * Converts a relative path to a class path resource name.
+	 * @param relativePath The path relative to the class path root.
+	 * @return The resource name, using forward slashes as separators.
+	 */
+	private static String toResourceName(@Nonnull final Path relativePath) {
+		final StringJoiner resourceName = new StringJoiner("/");
+		relativePath.forEach(segment -> resourceName.add(segment.toString()));
+		return resourceName.toString();
+	}
+
+	/**
+	 * Generates an index for each class path directory given.
+	 * @param args The class output directories to index.
+	 * @throws IOException if there is an error indexing one of the directories.
+	 */
+	public static void main(@Nonnull final String... args) throws IOException {
+		final ResourceBundleIndexer indexer = new ResourceBundleIndexer();
+		for(final String arg : args) {
+			indexer.index(Paths.get(arg));
+		}
+	}
+
+}
@@ -16,8 +16,10 @@
 
 package io.rincl.resourcebundle;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -56,4 +58,24 @@ public interface ResourceBundleLoader {
 	 */
 	public @Nonnull ResourceBundle load(@Nonnull final InputStream inputStream) throws IOException;
 
+	/**
+	 * Loads a resource bundle from the remaining bytes of the given buffer, which may be a memory-mapped buffer not backed by an array.
+	 * <p>
+	 * The position of the buffer may be changed by this method.
+	 * </p>
+	 * @implSpec The default implementation delegates to {@link #load(InputStream)} using an input stream over the bytes of the buffer, copying them only if the
+	 *           buffer is not backed by an accessible array.
+	 * @param buffer The buffer containing the bytes from which the resource bundle will be loaded.
+	 * @return A new resource bundle, loaded from the given bytes.
+	 * @throws IOException if there is an error loading a resource bundle from the given bytes.
+	 */
+	public default @Nonnull ResourceBundle load(@Nonnull final ByteBuffer buffer) throws IOException {
+		if(buffer.hasArray()) {
+			return load(new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()));
+		}
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return load(new ByteArrayInputStream(bytes));
+	}
+
 }
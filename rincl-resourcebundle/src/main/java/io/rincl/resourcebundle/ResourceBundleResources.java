@@ -19,22 +19,34 @@
 import static java.util.Objects.*;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
-import io.confound.config.ConfigurationException;
-import io.confound.config.Section;
+import io.confound.config.*;
 import io.rincl.*;
 
 /**
  * Access to i18n resources stored in a {@link ResourceBundle}.
+ * <p>
+ * Sections are supported over dotted key prefixes: the section <code>checkout</code> provides the resource <code>checkout.title</code> using the key
+ * <code>title</code>. The first time a section is requested, the dotted keys of the bundle (including those of its parent bundles) are sorted into a single
+ * array, so that the keys of each section occupy a contiguous range of it, and a tree of sections is built over those ranges. Thereafter retrieving a section
+ * is a hash lookup, and retrieving a resource within a section is a binary search of its range, without building keys or copying values into sections.
+ * </p>
  * @implSpec This implementation only supports resource bundles that natively store string objects.
  * @author Garret Wilson
  */
 public class ResourceBundleResources extends AbstractStringResources {
 
+	/** The character separating the segments of a hierarchical key. */
+	public static final char KEY_SEGMENT_SEPARATOR = '.';
+
 	private final ResourceBundle resourceBundle;
 
+	/** The index of sections over the dotted keys, or <code>null</code> if the section index has not yet been built. */
+	private volatile SectionIndex sectionIndex = null;
+
 	/** @return The resource bundle serving as the source of resources. */
 	public ResourceBundle getResourceBundle() {
 		return resourceBundle;
@@ -53,30 +65,81 @@ public ResourceBundleResources(@Nonnull final Class<?> contextClass, @Nonnull fi
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation always returns {@link Optional#empty()}, as resource bundles do not support sections.
+	 * @implSpec This implementation returns a view of the resources with keys having the given key followed by {@value #KEY_SEGMENT_SEPARATOR} as a prefix, if
+	 *           there are any. The section index is built on first use.
+	 * @see #getSectionIndex()
 	 */
 	@Override
 	public Optional<Section> findSection(final String key) throws ConfigurationException {
-		return Optional.empty();
+		return Optional.ofNullable(getSectionIndex().sections.get(requireNonNull(key)));
+	}
+
+	/**
+	 * Returns the index of sections of the resource bundle, building it if needed. A race between threads merely builds an equivalent index more than once.
+	 * @return The section index.
+	 */
+	private SectionIndex getSectionIndex() {
+		SectionIndex sectionIndex = this.sectionIndex;
+		if(sectionIndex == null) {
+			sectionIndex = new SectionIndex(this);
+			this.sectionIndex = sectionIndex;
+		}
+		return sectionIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns <code>true</code>, as a resource bundle can always enumerate its keys.
+	 */
+	@Override
+	public boolean isEnumerable() {
+		return true;
 	}
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation checks the resource bundle directly using {@link ResourceBundle#containsKey(String)}.
+	 * @implSpec This implementation streams the keys of a compact resource bundle lazily using {@link CompactResourceBundle#keys()}; the keys of any other type of
+	 *           resource bundle are retrieved using {@link ResourceBundle#keySet()}. The keys of parent bundles are included.
+	 */
+	@Override
+	public Stream<String> keys() throws ConfigurationException {
+		final ResourceBundle resourceBundle = getResourceBundle();
+		if(resourceBundle instanceof CompactResourceBundle) {
+			return ((CompactResourceBundle)resourceBundle).keys();
+		}
+		return resourceBundle.keySet().stream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation checks the resource bundle directly using {@link ResourceBundle#containsKey(String)}, or
+	 *           {@link CompactResourceBundle#findObject(String)} for a compact resource bundle.
 	 */
 	@Override
 	protected boolean hasConfigurationValueImpl(String key) throws ConfigurationException {
-		return getResourceBundle().containsKey(key); //check the resource bundle directly
+		final ResourceBundle resourceBundle = getResourceBundle();
+		if(resourceBundle instanceof CompactResourceBundle) {
+			return ((CompactResourceBundle)resourceBundle).findObject(key).isPresent();
+		}
+		return resourceBundle.containsKey(key); //check the resource bundle directly
 	}
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation delegates to {@link ResourceBundle#getObject(String)}.
+	 * @implSpec This implementation delegates to {@link ResourceBundle#getObject(String)}, or to {@link CompactResourceBundle#findObject(String)} for a compact
+	 *           resource bundle, which requires only a single lookup.
 	 * @throws ConfigurationException if the requested resource is not an instance of {@link String}.
 	 */
 	@Override
 	protected Optional<String> findConfigurationValueImpl(final String key) throws ConfigurationException {
 		final ResourceBundle resourceBundle = getResourceBundle();
+		if(resourceBundle instanceof CompactResourceBundle) {
+			final Optional<Object> foundObject = ((CompactResourceBundle)resourceBundle).findObject(key);
+			if(foundObject.isPresent()) {
+				return Optional.of(toStringResource(key, foundObject.get()));
+			}
+			return Optional.empty();
+		}
 		//See if the resource bundle contains the key;
 		//otherwise, catching the exception and filling in the stack trace every time we need
 		//simply to delegate to the parent resources afterwards causes too much overhead.
@@ -86,14 +149,246 @@ protected Optional<String> findConfigurationValueImpl(final String key) throws C
 		try {
 			//ResourceBundle.getString(String) merely delegates to the ResourceBundle.getObject(String) version,
 			//so we'll do the same---but throw a better exception if the resource is not a string
-			final Object object = resourceBundle.getObject(key); //get the object
-			if(!(object instanceof String)) {
-				throw new ConfigurationException(String.format("Resource with key %s is not a string.", key));
-			}
-			return Optional.of((String)object);
+			return Optional.of(toStringResource(key, resourceBundle.getObject(key)));
 		} catch(final MissingResourceException missingResourceException) { //we don't expect this...
 			return Optional.empty(); //...but it may not be impossible
 		}
 	}
 
+	/**
+	 * Ensures that a resource retrieved from the resource bundle is a string.
+	 * @param key The key of the resource.
+	 * @param object The resource object.
+	 * @return The resource as a string.
+	 * @throws ConfigurationException if the requested resource is not an instance of {@link String}.
+	 */
+	private static String toStringResource(@Nonnull final String key, @Nonnull final Object object) throws ConfigurationException {
+		if(!(object instanceof String)) {
+			throw new ConfigurationException(String.format("Resource with key %s is not a string.", key));
+		}
+		return (String)object;
+	}
+
+	/**
+	 * Compares the part of a key following an offset with a relative key, optionally followed by a terminating character, in the same order as
+	 * {@link String#compareTo(String)} would compare the strings themselves.
+	 * @param key The key, such as <code>checkout.payment.card</code>.
+	 * @param offset The index in the key at which the part to compare begins.
+	 * @param relativeKey The relative key, such as <code>payment</code>.
+	 * @param terminator The character following the relative key, or <code>-1</code> if the relative key stands alone.
+	 * @return A negative number, zero, or a positive number if the part of the key sorts before, the same as, or after the relative key and terminator.
+	 */
+	private static int compareRelative(@Nonnull final String key, final int offset, @Nonnull final String relativeKey, final int terminator) {
+		final int keyLength = key.length() - offset;
+		final int relativeKeyLength = relativeKey.length();
+		final int compareLength = relativeKeyLength + (terminator >= 0 ? 1 : 0);
+		final int length = Math.min(keyLength, compareLength);
+		for(int i = 0; i < length; i++) {
+			final char keyChar = key.charAt(offset + i);
+			final char compareChar = i < relativeKeyLength ? relativeKey.charAt(i) : (char)terminator;
+			if(keyChar != compareChar) {
+				return keyChar - compareChar;
+			}
+		}
+		return keyLength - compareLength;
+	}
+
+	/**
+	 * The index of sections over the dotted keys of a resource bundle. The dotted keys are kept in a single sorted array, with their values in a parallel array.
+	 * As the keys having any given prefix are contiguous in sorted order, each section is a range of the arrays.
+	 */
+	private static final class SectionIndex {
+
+		/** The dotted keys of the bundle and its parents, in sorted order. */
+		private final String[] keys;
+
+		/** The values of the dotted keys, in the same order as the keys. */
+		private final Object[] values;
+
+		/** All the sections keyed to their full dotted key prefixes. */
+		private final Map<String, PrefixSection> sections = new HashMap<>();
+
+		/**
+		 * Builds an index over the dotted keys of resources. The sections are built in a single pass over the sorted keys, keeping a stack of the sections
+		 * containing the current key; only the prefixes of sections not already on the stack are extracted from the keys.
+		 * @param root The resources the keys of which should be indexed.
+		 */
+		private SectionIndex(@Nonnull final ResourceBundleResources root) {
+			final ResourceBundle resourceBundle = root.getResourceBundle();
+			keys = resourceBundle.keySet().stream() //includes the keys of parent bundles
+					.filter(key -> key.indexOf(KEY_SEGMENT_SEPARATOR) >= 0).sorted().toArray(String[]::new);
+			values = new Object[keys.length];
+			final Deque<PrefixSection> openSections = new ArrayDeque<>();
+			for(int keyIndex = 0; keyIndex < keys.length; keyIndex++) {
+				final String key = keys[keyIndex];
+				values[keyIndex] = resourceBundle.getObject(key);
+				//close the sections that do not contain this key
+				while(!openSections.isEmpty() && !openSections.peek().contains(key)) {
+					openSections.pop().toIndex = keyIndex;
+				}
+				//open the sections of the remaining prefixes of this key
+				final PrefixSection parentSection = openSections.peek();
+				final int fromSeparatorIndex = parentSection != null ? parentSection.offset - 1 : -1;
+				for(int separatorIndex = key.indexOf(KEY_SEGMENT_SEPARATOR, fromSeparatorIndex + 1); separatorIndex >= 0; separatorIndex = key
+						.indexOf(KEY_SEGMENT_SEPARATOR, separatorIndex + 1)) {
+					final PrefixSection enclosingSection = openSections.peek();
+					final String prefix = key.substring(0, separatorIndex);
+					final PrefixSection section = new PrefixSection(root, this, prefix, keyIndex);
+					sections.put(prefix, section);
+					if(enclosingSection != null) {
+						enclosingSection.subsections.put(prefix.substring(enclosingSection.offset), section);
+					}
+					openSections.push(section);
+				}
+			}
+			while(!openSections.isEmpty()) {
+				openSections.pop().toIndex = keys.length;
+			}
+		}
+
+	}
+
+	/**
+	 * A view of the resources having a common dotted key prefix, over a range of the sorted keys of the section index. No keys or values are copied; each
+	 * section only refers to its range and to its child sections.
+	 * @author Garret Wilson
+	 */
+	private static final class PrefixSection extends AbstractStringResources implements Section {
+
+		/** The root resources of which this is a section. */
+		private final ResourceBundleResources root;
+
+		/** The index containing the keys and values of this section. */
+		private final SectionIndex sectionIndex;
+
+		/** The dotted key prefix of this section, such as <code>checkout.payment</code>. */
+		private final String prefix;
+
+		/** The offset of the relative key within each key of this section; that is, the length of the prefix and separator. */
+		private final int offset;
+
+		/** The index of the first key of this section in the section index. */
+		private final int fromIndex;
+
+		/** The index after the last key of this section in the section index; only updated while the index is being built. */
+		private int toIndex;
+
+		/** The child sections keyed to their relative key segments. */
+		private final Map<String, PrefixSection> subsections = new HashMap<>();
+
+		/**
+		 * Constructor.
+		 * @param root The root resources of which this is a section.
+		 * @param sectionIndex The index containing the keys and values of this section.
+		 * @param prefix The dotted key prefix of this section.
+		 * @param fromIndex The index of the first key of this section in the section index.
+		 */
+		PrefixSection(@Nonnull final ResourceBundleResources root, @Nonnull final SectionIndex sectionIndex, @Nonnull final String prefix, final int fromIndex) {
+			super(root.getContextClass());
+			this.root = root;
+			this.sectionIndex = sectionIndex;
+			this.prefix = prefix;
+			this.offset = prefix.length() + 1;
+			this.fromIndex = fromIndex;
+			this.toIndex = fromIndex;
+		}
+
+		/**
+		 * Determines whether a key belongs in this section.
+		 * @param key The full key.
+		 * @return <code>true</code> if the key starts with the prefix of this section followed by {@value ResourceBundleResources#KEY_SEGMENT_SEPARATOR}.
+		 */
+		private boolean contains(@Nonnull final String key) {
+			return key.length() >= offset && key.charAt(offset - 1) == KEY_SEGMENT_SEPARATOR && key.startsWith(prefix);
+		}
+
+		/**
+		 * Finds the first key of this section that does not sort before the given relative key followed by the given terminator.
+		 * @param relativeKey The key relative to this section.
+		 * @param terminator The character following the relative key, or <code>-1</code> if the relative key stands alone.
+		 * @return The index in the section index of the first key not before the relative key, or {@link #toIndex} if there is none.
+		 */
+		private int lowerBound(@Nonnull final String relativeKey, final int terminator) {
+			final String[] keys = sectionIndex.keys;
+			int low = fromIndex;
+			int high = toIndex;
+			while(low < high) {
+				final int middle = (low + high) >>> 1;
+				if(compareRelative(keys[middle], offset, relativeKey, terminator) < 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Finds the index of a resource of this section.
+		 * @param relativeKey The key relative to this section.
+		 * @return The index of the resource in the section index, or <code>-1</code> if this section has no resource with the given key.
+		 */
+		private int indexOf(@Nonnull final String relativeKey) {
+			final int index = lowerBound(relativeKey, -1);
+			return index < toIndex && compareRelative(sectionIndex.keys[index], offset, relativeKey, -1) == 0 ? index : -1;
+		}
+
+		@Override
+		public Configuration getSectionRoot() {
+			return root;
+		}
+
+		@Override
+		public Optional<String> getSectionType() {
+			return Optional.empty();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @implSpec This implementation returns <code>true</code>, as the keys of a section are a range of the section index.
+		 */
+		@Override
+		public boolean isEnumerable() {
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @implSpec This implementation streams the keys in the range of this section, relative to this section.
+		 */
+		@Override
+		public Stream<String> keys() throws ConfigurationException {
+			return Arrays.stream(sectionIndex.keys, fromIndex, toIndex).map(key -> key.substring(offset));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @implSpec This implementation looks up a child section directly; a section several levels down, indicated by a dotted key, is looked up by its full
+		 *           prefix.
+		 */
+		@Override
+		public Optional<Section> findSection(final String key) throws ConfigurationException {
+			if(requireNonNull(key).indexOf(KEY_SEGMENT_SEPARATOR) >= 0) {
+				return Optional.ofNullable(sectionIndex.sections.get(prefix + KEY_SEGMENT_SEPARATOR + key));
+			}
+			return Optional.ofNullable(subsections.get(key));
+		}
+
+		@Override
+		protected boolean hasConfigurationValueImpl(final String key) throws ConfigurationException {
+			return indexOf(key) >= 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @throws ConfigurationException if the requested resource is not an instance of {@link String}.
+		 */
+		@Override
+		protected Optional<String> findConfigurationValueImpl(final String key) throws ConfigurationException {
+			final int index = indexOf(key);
+			return index >= 0 ? Optional.of(toStringResource(key, sectionIndex.values[index])) : Optional.empty();
+		}
+
+	}
+
 }
@@ -18,9 +18,13 @@
 
 import static java.util.Objects.*;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 
 import io.confound.config.ConfigurationException;
 import io.rincl.*;
@@ -36,6 +40,20 @@
  * To create factory that loads resources only from a single named resource bundle, use the {@link BaseNameStrategy#forBaseNames(String...)} base name strategy,
  * indicating the base name of the resources file, coupled with the {@link ResolvingClassStrategy#NO_ANCESTORS} resolving class strategy.
  * </p>
+ * <p>
+ * The resources found for each context class and locale are cached. So that the cache does not prevent class loaders from being garbage collected when an
+ * application is redeployed, cached resources are associated with the context class itself using a {@link ClassValue}, and any information kept about class
+ * loaders references them only weakly. The cache for the classes of a particular class loader may be explicitly discarded using
+ * {@link #clearCache(ClassLoader)}. Resources are not cached if any resolving class of the context class was defined by a class loader other than that of
+ * the context class or one of its ancestors, as the cache would otherwise keep that class loader, such as that of a web application using a context class
+ * from a shared library, from being garbage collected.
+ * </p>
+ * <p>
+ * If several threads request resources for the same context class and locale at the same time and the resources are not yet cached, only one thread loads the
+ * resources; the others wait for that load to complete and share its result. The number of requests served this way is available from
+ * {@link #getCoalescedLoadCount()}. A request made by the thread performing a load for the same context class and locale, such as from within
+ * {@link #loadResources(Class, Locale)}, loads the resources again rather than waiting for the load it is part of.
+ * </p>
  * @author Garret Wilson
  * @see ResourceBundleResources
  */
@@ -167,6 +185,36 @@ protected ResourcesFactory getParentResourcesFactory() {
 		return resolvingClassStrategy;
 	}
 
+	/**
+	 * The current cache of resources of each context class, stored with the class itself so as not to prevent its class loader from being collected. A stale
+	 * cache is replaced rather than cleared, so that a load begun before the cache became stale stores its result only in the discarded cache.
+	 */
+	private final ClassValue<AtomicReference<ResourcesCache>> contextClassResourcesCaches = new ClassValue<>() {
+		@Override
+		protected AtomicReference<ResourcesCache> computeValue(final Class<?> contextClass) {
+			return new AtomicReference<>(new ResourcesCache(cacheGeneration, getParentResourcesFactory().getResourcesGeneration()));
+		}
+	};
+
+	/** The generation of the cache, incremented each time some part of the cache is cleared. */
+	private volatile long cacheGeneration = 0;
+
+	/** The cache generation at which the entire cache was last cleared. */
+	private long allClearedGeneration = 0;
+
+	/** The lock guarding the record of cache clearing. */
+	private final Lock cacheClearingLock = new ReentrantLock();
+
+	/** The cache generation at which the cache of each class loader was last cleared, weakly referencing the class loaders. */
+	private final Map<ClassLoader, Long> classLoaderClearedGenerations = new WeakHashMap<>();
+
+	private final LongAdder coalescedLoadCount = new LongAdder();
+
+	/** @return The number of requests for resources that waited for and shared the result of a load already in progress, rather than loading the resources. */
+	public long getCoalescedLoadCount() {
+		return coalescedLoadCount.sum();
+	}
+
 	/**
 	 * Constructor that searches for base names based upon class names up the hierarchy of the class.
 	 * @see RinclResourceBundleControl#DEFAULT
@@ -291,7 +339,7 @@ public ResourceBundleResourcesFactory(@Nonnull final ResourcesFactory parentReso
 	/**
 	 * {@inheritDoc}
 	 * <p>
-	 * TODO implement resources caching
+	 * The resources found are cached for subsequent requests with the same context class and locale.
 	 * </p>
 	 * @implSpec This implementation returns a hierarchy of {@link ResourceBundleResources} implementations from the discovered resource bundles loaded via
 	 *           {@link ResourceBundle#getBundle(String, Locale, ClassLoader, ResourceBundle.Control)}; using the base names returned by the
@@ -301,9 +349,244 @@ public ResourceBundleResourcesFactory(@Nonnull final ResourcesFactory parentReso
 	 * @see Rincl#getLocale(Locale.Category)
 	 * @see Locale.Category#DISPLAY
 	 * @see #getResourceBundleControl()
+	 * @see #loadResources(Class, Locale)
+	 * @see #clearCache(ClassLoader)
 	 */
 	@Override
 	public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) throws ConfigurationException {
+		final ResourcesCache resourcesCache = getResourcesCache(contextClass);
+		final Optional<Resources> cachedResources = resourcesCache.localeResources.get(requireNonNull(locale));
+		if(cachedResources != null) {
+			return cachedResources;
+		}
+		//Coalesce concurrent loads using a future rather than ConcurrentHashMap.computeIfAbsent(),
+		//which would hold a monitor during the load and block unrelated keys in the same bin.
+		final InFlightLoad load = new InFlightLoad(Thread.currentThread());
+		final InFlightLoad inFlightLoad = resourcesCache.inFlightLoads.putIfAbsent(locale, load);
+		if(inFlightLoad != null) {
+			if(inFlightLoad.ownerThread == Thread.currentThread()) { //a recursive request from within the load; waiting would never end
+				return loadResources(contextClass, locale);
+			}
+			//another thread is already loading these resources; wait for it
+			coalescedLoadCount.increment();
+			try {
+				return inFlightLoad.join();
+			} catch(final CompletionException completionException) {
+				final Throwable cause = completionException.getCause();
+				if(cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				}
+				if(cause instanceof Error) {
+					throw (Error)cause;
+				}
+				throw completionException;
+			}
+		}
+		final Optional<Resources> result;
+		try {
+			final Optional<Resources> resources = loadResources(contextClass, locale);
+			final Optional<Resources> existingResources = isCacheable(contextClass) ? resourcesCache.localeResources.putIfAbsent(locale, resources) : null;
+			result = existingResources != null ? existingResources : resources;
+		} catch(final RuntimeException | Error throwable) {
+			resourcesCache.inFlightLoads.remove(locale, load); //remove the failed load before completing it so that later requests try again
+			load.completeExceptionally(throwable);
+			throw throwable;
+		}
+		resourcesCache.inFlightLoads.remove(locale, load);
+		load.complete(result);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Resources already cached are returned in a completed future without using the executor. If resources for the same context class and locale are already
+	 * being loaded, whether synchronously or asynchronously, the returned future completes when that load completes.
+	 * </p>
+	 * @implSpec This implementation loads the resources of the resolving classes using {@link #loadResolvingResources(Class, Locale)} on the given executor,
+	 *           while concurrently requesting resources from the parent resources factory using
+	 *           {@link ResourcesFactory#findResourcesAsync(Class, Locale, Executor)}, and then combines them as {@link #loadResources(Class, Locale)} would.
+	 * @see #findResources(Class, Locale)
+	 */
+	@Override
+	public CompletableFuture<Optional<Resources>> findResourcesAsync(final Class<?> contextClass, final Locale locale, final Executor executor) {
+		requireNonNull(executor);
+		final ResourcesCache resourcesCache = getResourcesCache(contextClass);
+		final Optional<Resources> cachedResources = resourcesCache.localeResources.get(requireNonNull(locale));
+		if(cachedResources != null) {
+			return CompletableFuture.completedFuture(cachedResources);
+		}
+		final InFlightLoad load = new InFlightLoad(null); //the owner thread is only known once the executor runs the load
+		final InFlightLoad inFlightLoad = resourcesCache.inFlightLoads.putIfAbsent(locale, load);
+		if(inFlightLoad != null) { //another caller is already loading these resources
+			coalescedLoadCount.increment();
+			return inFlightLoad.copy(); //don't let the caller complete the shared future
+		}
+		try { //if the executor rejects the task, the load must still be removed and completed, or later requests would wait for it forever
+			final CompletableFuture<Optional<Resources>> parentResourcesFuture = getParentResourcesFactory().findResourcesAsync(contextClass, locale, executor);
+			final CompletableFuture<Optional<Resources>> resolvingResourcesFuture = CompletableFuture.supplyAsync(() -> {
+				load.ownerThread = Thread.currentThread(); //a recursive request from within the load will not wait for it
+				return loadResolvingResources(contextClass, locale);
+			}, executor);
+			resolvingResourcesFuture.thenCombine(parentResourcesFuture, ResourceBundleResourcesFactory::withParentResources)
+					.whenComplete((resources, throwable) -> {
+						if(throwable != null) {
+							resourcesCache.inFlightLoads.remove(locale, load); //remove the failed load before completing it so that later requests try again
+							load.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+						} else {
+							final Optional<Resources> existingResources = isCacheable(contextClass)
+									? resourcesCache.localeResources.putIfAbsent(locale, resources)
+									: null;
+							resourcesCache.inFlightLoads.remove(locale, load);
+							load.complete(existingResources != null ? existingResources : resources);
+						}
+					});
+		} catch(final RuntimeException | Error throwable) {
+			resourcesCache.inFlightLoads.remove(locale, load);
+			load.completeExceptionally(throwable);
+			throw throwable;
+		}
+		return load.copy();
+	}
+
+	/**
+	 * Determines whether resources loaded for a context class may be cached with the context class. Resources may be cached only if each resolving class of the
+	 * context class was defined by the class loader of the context class or by one of its ancestors, so that the cache does not reference a class loader that
+	 * may be discarded before that of the context class.
+	 * @param contextClass The context class the resources of which were loaded.
+	 * @return <code>true</code> if the resources of the context class may be cached.
+	 * @see #getResolvingClassStrategy()
+	 */
+	private boolean isCacheable(@Nonnull final Class<?> contextClass) {
+		final ClassLoader contextClassLoader = contextClass.getClassLoader();
+		for(final Class<?> resolvingClass : (Iterable<Class<?>>)() -> getResolvingClassStrategy().resolvingClasses(contextClass).iterator()) {
+			final ClassLoader resolvingClassLoader = resolvingClass.getClassLoader();
+			if(resolvingClassLoader == null) { //the bootstrap class loader is never discarded
+				continue;
+			}
+			ClassLoader ancestorClassLoader = contextClassLoader;
+			while(ancestorClassLoader != null && ancestorClassLoader != resolvingClassLoader) {
+				ancestorClassLoader = ancestorClassLoader.getParent();
+			}
+			if(ancestorClassLoader == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the current cache of resources for a context class, first replacing it with a new, empty cache if the cache of the class loader of the class has
+	 * been cleared since the cache was created, or if the generation of the resources provided by the parent resources factory has changed. Any load still in
+	 * progress for a replaced cache stores its result in the replaced cache, so that stale resources never reach the current cache.
+	 * @param contextClass The context class the resources of which are cached.
+	 * @return The current cached resources for the context class.
+	 * @see #clearCache(ClassLoader)
+	 */
+	private ResourcesCache getResourcesCache(@Nonnull final Class<?> contextClass) {
+		final AtomicReference<ResourcesCache> resourcesCacheReference = contextClassResourcesCaches.get(contextClass);
+		while(true) {
+			final ResourcesCache resourcesCache = resourcesCacheReference.get();
+			final long generation = cacheGeneration;
+			final long parentGeneration = getParentResourcesFactory().getResourcesGeneration();
+			boolean isStale = resourcesCache.parentGeneration != parentGeneration; //the cached resources may contain stale parent resources
+			if(!isStale && resourcesCache.checkedGeneration != generation) { //some part of the cache has been cleared since this cache was last checked
+				final long clearedGeneration;
+				cacheClearingLock.lock();
+				try {
+					clearedGeneration = Math.max(allClearedGeneration, classLoaderClearedGenerations.getOrDefault(contextClass.getClassLoader(), 0L));
+				} finally {
+					cacheClearingLock.unlock();
+				}
+				isStale = clearedGeneration > resourcesCache.generation;
+				if(!isStale) {
+					resourcesCache.checkedGeneration = generation;
+				}
+			}
+			if(!isStale) {
+				return resourcesCache;
+			}
+			final ResourcesCache newResourcesCache = new ResourcesCache(generation, parentGeneration);
+			if(resourcesCacheReference.compareAndSet(resourcesCache, newResourcesCache)) {
+				return newResourcesCache;
+			} //otherwise another thread replaced the cache; check the replacement
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the sum of the generation of this factory's cache, which changes each time any part of the cache is cleared, and the
+	 *           generation of the parent resources factory.
+	 * @see #clearCache(ClassLoader)
+	 * @see #clearCache()
+	 */
+	@Override
+	public long getResourcesGeneration() {
+		return cacheGeneration + getParentResourcesFactory().getResourcesGeneration();
+	}
+
+	/**
+	 * Discards all cached resources for context classes defined by the given class loader, as well as any resource bundles cached for the class loader. This
+	 * method should be called when an application is undeployed or reloaded.
+	 * @implSpec This implementation also calls {@link ResourceBundle#clearCache(ClassLoader)}, and {@link RinclResourceBundleControl#clearCache(ClassLoader)} if
+	 *           the resource bundle control is a {@link RinclResourceBundleControl}.
+	 * @param classLoader The class loader for which cached information should be discarded.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 */
+	public void clearCache(@Nonnull final ClassLoader classLoader) {
+		cacheClearingLock.lock();
+		try {
+			final long generation = cacheGeneration + 1;
+			classLoaderClearedGenerations.put(requireNonNull(classLoader), generation);
+			cacheGeneration = generation;
+		} finally {
+			cacheClearingLock.unlock();
+		}
+		ResourceBundle.clearCache(classLoader);
+		final ResourceBundle.Control resourceBundleControl = getResourceBundleControl();
+		if(resourceBundleControl instanceof RinclResourceBundleControl) {
+			((RinclResourceBundleControl)resourceBundleControl).clearCache(classLoader);
+		}
+	}
+
+	/** Discards all cached resources. Resource bundles cached by {@link ResourceBundle} are not affected. */
+	public void clearCache() {
+		cacheClearingLock.lock();
+		try {
+			final long generation = cacheGeneration + 1;
+			allClearedGeneration = generation;
+			cacheGeneration = generation;
+		} finally {
+			cacheClearingLock.unlock();
+		}
+	}
+
+	/**
+	 * Finds resources for the given context class and locale without consulting the cache.
+	 * @implSpec This implementation returns a hierarchy of {@link ResourceBundleResources} implementations from the discovered resource bundles, as described in
+	 *           {@link #findResources(Class, Locale)}.
+	 * @param contextClass The context class for which resources should be found.
+	 * @param locale The locale of the resources.
+	 * @return The resources for the class and locale, if any.
+	 * @throws NullPointerException if the given context class and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getResourceBundle(Class, Locale)
+	 */
+	protected Optional<Resources> loadResources(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) throws ConfigurationException {
+		return withParentResources(loadResolvingResources(contextClass, locale), getParentResourcesFactory().findResources(contextClass, locale));
+	}
+
+	/**
+	 * Loads the resources of the classes resolved for the given context class and locale, not including any resources from the parent resources factory.
+	 * @param contextClass The context class for which resources should be found.
+	 * @param locale The locale of the resources.
+	 * @return The resources for the class and its resolving classes, if any.
+	 * @throws NullPointerException if the given context class and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getResolvingClassStrategy()
+	 * @see #getResourceBundle(Class, Locale)
+	 */
+	protected Optional<Resources> loadResolvingResources(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) throws ConfigurationException {
 		Resources resources = null; //at first we don't know if we'll find any resources
 		//get a list of the resolving classes to use, and for each one try to get a resource bundle
 		for(final Class<?> resolvingClass : (Iterable<Class<?>>)() -> getResolvingClassStrategy().resolvingClasses(contextClass).iterator()) {
@@ -313,10 +596,63 @@ public Optional<Resources> findResources(final Class<?> contextClass, final Loca
 				resources = resources == null ? resolvingResources : resources.withFallback(resolvingResources);
 			}
 		}
-		final Optional<Resources> parentResources = getParentResourcesFactory().findResources(contextClass, locale);
+		return Optional.ofNullable(resources);
+	}
+
+	/**
+	 * Combines resources found for a context class with those provided by the parent resources factory.
+	 * @param resources The resources found for the context class and its resolving classes, if any.
+	 * @param parentResources The resources provided by the parent resources factory, if any.
+	 * @return The parent resources if there are no resources for the context class; otherwise the resources for the context class, falling back to the parent
+	 *         resources if present.
+	 */
+	private static Optional<Resources> withParentResources(@Nonnull final Optional<Resources> resources, @Nonnull final Optional<Resources> parentResources) {
 		//if there are no resources for the class and its hierarchy, we use the parent resources (if any) as is
 		//otherwise, if there are parent resources, add them as a fallback
-		return resources == null ? parentResources : Optional.of(Resources.withFallback(resources, parentResources));
+		return resources.isEmpty() ? parentResources : Optional.of(Resources.withFallback(resources.get(), parentResources));
+	}
+
+	/**
+	 * Loads in a single sweep the indexed resource bundles visible to the given class loader, so that later resource lookups need not locate and read each
+	 * bundle separately. This is useful at application startup when resources for many classes and locales will be needed.
+	 * @implSpec This implementation delegates to {@link RinclResourceBundleControl#preload(ClassLoader)} if the resource bundle control is a
+	 *           {@link RinclResourceBundleControl}; otherwise no bundles are preloaded.
+	 * @param classLoader The class loader, usually that of the application classes, the bundles of which should be preloaded.
+	 * @return The number of bundles preloaded.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 * @throws IOException if there is an error scanning the class path locations of the class loader.
+	 * @see #getResourceBundleControl()
+	 * @see ResourceBundleIndex
+	 */
+	public int preload(@Nonnull final ClassLoader classLoader) throws IOException {
+		requireNonNull(classLoader);
+		final ResourceBundle.Control resourceBundleControl = getResourceBundleControl();
+		if(!(resourceBundleControl instanceof RinclResourceBundleControl)) {
+			return 0;
+		}
+		return ((RinclResourceBundleControl)resourceBundleControl).preload(classLoader);
+	}
+
+	/**
+	 * Loads in a single sweep the resource bundles in the given packages visible to the given class loader, so that later resource lookups need not locate and
+	 * read each bundle separately.
+	 * @implSpec This implementation delegates to {@link RinclResourceBundleControl#preload(ClassLoader, String...)} if the resource bundle control is a
+	 *           {@link RinclResourceBundleControl}; otherwise no bundles are preloaded.
+	 * @param classLoader The class loader, usually that of the application classes, the bundles of which should be preloaded.
+	 * @param packageNames The names of the packages, such as <code>com.example</code>, the bundles of which should be preloaded.
+	 * @return The number of bundles preloaded.
+	 * @throws NullPointerException if the given class loader and/or package names is <code>null</code>.
+	 * @throws IOException if there is an error scanning the class path locations of the class loader.
+	 * @see #getResourceBundleControl()
+	 */
+	public int preload(@Nonnull final ClassLoader classLoader, @Nonnull final String... packageNames) throws IOException {
+		requireNonNull(classLoader);
+		requireNonNull(packageNames);
+		final ResourceBundle.Control resourceBundleControl = getResourceBundleControl();
+		if(!(resourceBundleControl instanceof RinclResourceBundleControl)) {
+			return 0;
+		}
+		return ((RinclResourceBundleControl)resourceBundleControl).preload(classLoader, packageNames);
 	}
 
 	/**
@@ -324,6 +660,9 @@ public Optional<Resources> findResources(final Class<?> contextClass, final Loca
 	 * @implSpec This implementation calls {@link ResourceBundle#getBundle(String, Locale, ClassLoader, ResourceBundle.Control)} using the base names returned by
 	 *           {@link #getBaseNameStrategy()} for the reference class, the given locale, the class loader of the reference class, and the resource bundle
 	 *           control returned by {@link #getResourceBundleControl()}. Only the first base name that returns a resource bundle will be used.
+	 * @implSpec If the resource bundle control is a {@link RinclResourceBundleControl}, this implementation instead calls
+	 *           {@link RinclResourceBundleControl#findBundle(String, Locale, ClassLoader)}, which bypasses the cache of {@link ResourceBundle} and its
+	 *           per-bundle loading locks.
 	 * @param referenceClass The class with which these resources are related.
 	 * @param locale The locale to use for retrieving the resource bundles.
 	 * @return The resource bundle discovered for the given context class and locale.
@@ -342,8 +681,16 @@ protected Optional<ResourceBundle> getResourceBundle(@Nonnull final Class<?> ref
 				//we may decide to do the lookup ourselves and then load a Configuration loaded using an installed ConfigurationFileFormat,
 				//returning it wrapped in a ConfigurationResources decorator.
 
+				final ResourceBundle.Control resourceBundleControl = getResourceBundleControl();
+				if(resourceBundleControl instanceof RinclResourceBundleControl) { //load without the cache and loading locks of ResourceBundle
+					final Optional<ResourceBundle> foundResourceBundle = ((RinclResourceBundleControl)resourceBundleControl).findBundle(baseName, locale, classLoader);
+					if(foundResourceBundle.isPresent()) {
+						return foundResourceBundle;
+					}
+					continue;
+				}
 				try {
-					return Optional.of(ResourceBundle.getBundle(baseName, locale, classLoader, getResourceBundleControl()));
+					return Optional.of(ResourceBundle.getBundle(baseName, locale, classLoader, resourceBundleControl));
 				} catch(final MissingResourceException missingResourceException) { //if we couldn't get the resource bundle
 					//keep searching
 				}
@@ -352,4 +699,51 @@ protected Optional<ResourceBundle> getResourceBundle(@Nonnull final Class<?> ref
 		return Optional.empty();
 	}
 
+	/** The cached resources of a single context class. */
+	private static final class ResourcesCache {
+
+		/** The resources found for the context class, keyed to locales. */
+		private final Map<Locale, Optional<Resources>> localeResources = new ConcurrentHashMap<>();
+
+		/** The loads of resources currently in progress, keyed to locales. */
+		private final Map<Locale, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
+		/** The cache generation at which the cache was created; the cache is stale if its class loader was cleared in a later generation. */
+		private final long generation;
+
+		/** The cache generation at which the cache was last confirmed not to be stale. */
+		private volatile long checkedGeneration;
+
+		/** The generation of the resources of the parent resources factory when the cache was created. */
+		private final long parentGeneration;
+
+		/**
+		 * Constructor.
+		 * @param generation The current cache generation.
+		 * @param parentGeneration The current generation of the resources of the parent resources factory.
+		 */
+		private ResourcesCache(final long generation, final long parentGeneration) {
+			this.generation = generation;
+			this.checkedGeneration = generation;
+			this.parentGeneration = parentGeneration;
+		}
+
+	}
+
+	/** A load of resources in progress, completed with the resources loaded. */
+	private static final class InFlightLoad extends CompletableFuture<Optional<Resources>> {
+
+		/** The thread performing the load, or <code>null</code> if not yet known. */
+		private volatile Thread ownerThread;
+
+		/**
+		 * Constructor.
+		 * @param ownerThread The thread performing the load, or <code>null</code> if not yet known.
+		 */
+		private InFlightLoad(@Nullable final Thread ownerThread) {
+			this.ownerThread = ownerThread;
+		}
+
+	}
+
 }
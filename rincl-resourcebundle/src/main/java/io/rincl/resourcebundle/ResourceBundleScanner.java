@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.util.Objects.*;
+import static java.util.stream.Collectors.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.*;
+import java.util.zip.*;
+
+import javax.annotation.*;
+
+/**
+ * Scans class path locations, that is JAR files and directories, for all the resource bundle files they contain, and loads them in bulk.
+ * <p>
+ * Each location is scanned only once, and the bundle files found are parsed in parallel using the {@link ResourceBundleLoader} registered with the
+ * {@link RinclResourceBundleControl} for their filename extensions. This is much faster than locating each bundle candidate of each base name and locale
+ * separately through a class loader when many bundles are needed, such as at application startup.
+ * </p>
+ * @author Garret Wilson
+ * @see RinclResourceBundleControl#preload(ClassLoader)
+ */
+public class ResourceBundleScanner {
+
+	/** The name of the system property containing the class path of the system class loader. */
+	private static final String CLASS_PATH_PROPERTY = "java.class.path";
+
+	private final RinclResourceBundleControl resourceBundleControl;
+
+	/**
+	 * Resource bundle control constructor.
+	 * @param resourceBundleControl The resource bundle control indicating the resource bundle loaders to use for the files found.
+	 * @throws NullPointerException if the given resource bundle control is <code>null</code>.
+	 */
+	public ResourceBundleScanner(@Nonnull final RinclResourceBundleControl resourceBundleControl) {
+		this.resourceBundleControl = requireNonNull(resourceBundleControl);
+	}
+
+	/**
+	 * Determines the local class path locations searched by a class loader, in the order in which they are searched.
+	 * @implSpec This implementation recognizes the local file URLs of each {@link URLClassLoader} in the class loader hierarchy, as well as the
+	 *           <code>java.class.path</code> entries of the system class loader. Any other class loaders in the hierarchy are ignored.
+	 * @param classLoader The class loader for which class path locations should be determined.
+	 * @return The existing JAR files and directories used by the class loader and its ancestors, parent locations first. A class loader that does not delegate
+	 *         to its parent first may actually search them in some other order.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 */
+	public static List<Path> findClassPathLocations(@Nonnull final ClassLoader classLoader) {
+		final Deque<ClassLoader> classLoaders = new ArrayDeque<>();
+		for(ClassLoader ancestor = requireNonNull(classLoader); ancestor != null; ancestor = ancestor.getParent()) {
+			classLoaders.push(ancestor); //parents are searched first
+		}
+		final ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+		final Set<Path> locations = new LinkedHashSet<>();
+		for(final ClassLoader ancestor : classLoaders) {
+			if(ancestor instanceof URLClassLoader) {
+				for(final URL url : ((URLClassLoader)ancestor).getURLs()) {
+					BundleResourceReader.findPath(url).ifPresent(locations::add);
+				}
+			} else if(ancestor == systemClassLoader) {
+				for(final String classPathEntry : System.getProperty(CLASS_PATH_PROPERTY, "").split(File.pathSeparator)) {
+					if(!classPathEntry.isEmpty()) {
+						locations.add(Paths.get(classPathEntry).toAbsolutePath());
+					}
+				}
+			}
+		}
+		return locations.stream().filter(Files::exists).collect(toList());
+	}
+
+	/**
+	 * Loads all the resource bundles in the given class path locations. If the same resource is present in more than one location, the one in the earliest
+	 * location is used, just as a class loader would find it. Resource bundle files that cannot be loaded are skipped.
+	 * @param locations The JAR files and directories to scan, in class path order.
+	 * @return The loaded resource bundles, keyed to their resource names such as <code>com/example/FooBar_pt.properties</code>.
+	 * @throws NullPointerException if the given locations is <code>null</code>.
+	 * @throws IOException if there is an error scanning one of the locations.
+	 * @see #load(Collection, Predicate)
+	 */
+	public Map<String, ResourceBundle> load(@Nonnull final Collection<Path> locations) throws IOException {
+		return load(locations, resourceName -> true);
+	}
+
+	/**
+	 * Loads the resource bundles in the given class path locations with resource names accepted by the given filter. Resource bundle files not accepted by the
+	 * filter are not read. If the same resource is present in more than one location, the one in the earliest location is used, just as a class loader would
+	 * find it. Resource bundle files that cannot be loaded are skipped.
+	 * @param locations The JAR files and directories to scan, in class path order.
+	 * @param resourceNameFilter The filter indicating the resource names, such as <code>com/example/FooBar_pt.properties</code>, of the bundles to load.
+	 * @return The loaded resource bundles, keyed to their resource names.
+	 * @throws NullPointerException if the given locations and/or filter is <code>null</code>.
+	 * @throws IOException if there is an error scanning one of the locations.
+	 */
+	public Map<String, ResourceBundle> load(@Nonnull final Collection<Path> locations, @Nonnull final Predicate<String> resourceNameFilter)
+			throws IOException {
+		return loadBundles(locations, resourceNameFilter, null);
+	}
+
+	/**
+	 * Loads the resource bundles in the given class path locations of a class loader with resource names accepted by the given filter. Resource bundle files
+	 * not accepted by the filter are not read. If the same resource is present in more than one location, the class loader is asked using
+	 * {@link ClassLoader#getResource(String)} which one it would use, so that the result does not depend on the order in which the class loader searches its
+	 * locations; if the class loader would use none of them, the resource is not loaded. Resource bundle files that cannot be loaded are skipped.
+	 * @param locations The JAR files and directories to scan.
+	 * @param resourceNameFilter The filter indicating the resource names, such as <code>com/example/FooBar_pt.properties</code>, of the bundles to load.
+	 * @param classLoader The class loader searching the locations.
+	 * @return The loaded resource bundles, keyed to their resource names.
+	 * @throws NullPointerException if the given locations, filter, and/or class loader is <code>null</code>.
+	 * @throws IOException if there is an error scanning one of the locations.
+	 */
+	public Map<String, ResourceBundle> load(@Nonnull final Collection<Path> locations, @Nonnull final Predicate<String> resourceNameFilter,
+			@Nonnull final ClassLoader classLoader) throws IOException {
+		return loadBundles(locations, resourceNameFilter, requireNonNull(classLoader));
+	}
+
+	/**
+	 * Loads the resource bundles in the given class path locations with resource names accepted by the given filter.
+	 * @param locations The JAR files and directories to scan.
+	 * @param resourceNameFilter The filter indicating the resource names of the bundles to load.
+	 * @param classLoader The class loader to ask which location to use for a resource present in more than one location, or <code>null</code> if the earliest
+	 *          location should be used.
+	 * @return The loaded resource bundles, keyed to their resource names.
+	 * @throws IOException if there is an error scanning one of the locations.
+	 */
+	private Map<String, ResourceBundle> loadBundles(@Nonnull final Collection<Path> locations, @Nonnull final Predicate<String> resourceNameFilter,
+			@Nullable final ClassLoader classLoader) throws IOException {
+		requireNonNull(resourceNameFilter);
+		final List<ZipFile> zipFiles = new ArrayList<>();
+		try {
+			//determine the location of each bundle resource, the earliest location taking precedence
+			final Map<String, BundleFile> bundleFiles = new LinkedHashMap<>();
+			final Map<String, List<BundleFile>> shadowedBundleFiles = new HashMap<>();
+			final Consumer<BundleFile> addBundleFile = bundleFile -> {
+				if(bundleFiles.putIfAbsent(bundleFile.resourceName, bundleFile) != null) {
+					shadowedBundleFiles.computeIfAbsent(bundleFile.resourceName, resourceName -> new ArrayList<>()).add(bundleFile);
+				}
+			};
+			for(final Path location : locations) {
+				if(Files.isDirectory(location)) {
+					for(final String resourceName : new ResourceBundleIndexer(resourceBundleControl).findResourceNames(location)) {
+						if(resourceNameFilter.test(resourceName)) {
+							addBundleFile.accept(new BundleFile(resourceName, location, null));
+						}
+					}
+				} else if(Files.isRegularFile(location)) {
+					final ZipFile zipFile = new ZipFile(location.toFile());
+					zipFiles.add(zipFile);
+					zipFile.stream().filter(zipEntry -> !zipEntry.isDirectory()).map(ZipEntry::getName)
+							.filter(resourceName -> resourceBundleControl.findResourceBundleLoader(resourceName).isPresent() && resourceNameFilter.test(resourceName))
+							.forEach(resourceName -> addBundleFile.accept(new BundleFile(resourceName, location, zipFile)));
+				}
+			}
+			//if the class loader is known, let it decide which of several locations of a resource it would use
+			if(classLoader != null) {
+				for(final Map.Entry<String, List<BundleFile>> shadowedBundleFilesEntry : shadowedBundleFiles.entrySet()) {
+					final String resourceName = shadowedBundleFilesEntry.getKey();
+					final Optional<Path> foundFile = Optional.ofNullable(classLoader.getResource(resourceName)).flatMap(BundleResourceReader::findFile)
+							.map(file -> file.toAbsolutePath().normalize());
+					BundleFile winningBundleFile = null;
+					if(foundFile.isPresent()) {
+						final List<BundleFile> candidateBundleFiles = new ArrayList<>(shadowedBundleFilesEntry.getValue());
+						candidateBundleFiles.add(0, bundleFiles.get(resourceName));
+						for(final BundleFile candidateBundleFile : candidateBundleFiles) {
+							if(candidateBundleFile.getFile().toAbsolutePath().normalize().equals(foundFile.get())) {
+								winningBundleFile = candidateBundleFile;
+								break;
+							}
+						}
+					}
+					if(winningBundleFile != null) {
+						bundleFiles.put(resourceName, winningBundleFile);
+					} else { //the class loader would use some other resource; leave it to be loaded normally
+						bundleFiles.remove(resourceName);
+					}
+				}
+			}
+			//load the bundles in parallel
+			final Map<String, ResourceBundle> resourceBundles = new ConcurrentHashMap<>(bundleFiles.size());
+			bundleFiles.values().parallelStream().forEach(bundleFile -> {
+				try {
+					resourceBundles.put(bundleFile.resourceName, bundleFile.load());
+				} catch(final IOException | RuntimeException exception) {
+					//skip the bundle; loading it normally later will report the problem
+				}
+			});
+			return resourceBundles;
+		} finally {
+			for(final ZipFile zipFile : zipFiles) {
+				zipFile.close();
+			}
+		}
+	}
+
+	/** A resource bundle file found in a class path location. */
+	private final class BundleFile {
+
+		/** The class path resource name of the file. */
+		private final String resourceName;
+
+		/** The directory or JAR file in which the resource was found. */
+		private final Path location;
+
+		/** The open JAR file, or <code>null</code> if the location is a directory. */
+		@Nullable
+		private final ZipFile zipFile;
+
+		/**
+		 * Constructor.
+		 * @param resourceName The class path resource name of the file.
+		 * @param location The directory or JAR file in which the resource was found.
+		 * @param zipFile The open JAR file, or <code>null</code> if the location is a directory.
+		 */
+		private BundleFile(@Nonnull final String resourceName, @Nonnull final Path location, @Nullable final ZipFile zipFile) {
+			this.resourceName = resourceName;
+			this.location = location;
+			this.zipFile = zipFile;
+		}
+
+		/** @return The file of the resource, or the JAR file containing it. */
+		private Path getFile() {
+			return zipFile != null ? location : location.resolve(resourceName);
+		}
+
+		/**
+		 * Reads and loads the resource bundle file.
+		 * @return The loaded resource bundle.
+		 * @throws IOException if there is an error reading or loading the file.
+		 */
+		private ResourceBundle load() throws IOException {
+			final ResourceBundleLoader resourceBundleLoader = resourceBundleControl.findResourceBundleLoader(resourceName)
+					.orElseThrow(() -> new IllegalStateException("No loader for " + resourceName));
+			final byte[] bytes;
+			if(zipFile != null) {
+				try (final InputStream inputStream = zipFile.getInputStream(zipFile.getEntry(resourceName))) {
+					bytes = inputStream.readAllBytes();
+				}
+			} else {
+				bytes = Files.readAllBytes(location.resolve(resourceName));
+			}
+			return resourceBundleLoader.load(ByteBuffer.wrap(bytes));
+		}
+
+	}
+
+}
@@ -23,7 +23,11 @@
 import java.io.*;
 import java.net.*;
 import java.nio.charset.CharacterCodingException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.annotation.*;
@@ -53,6 +57,28 @@
  * This library provides an {@link XmlPropertiesResourceBundleLoader} resource bundle loader, registered as a service provider using exactly the mechanism
  * described here.
  * </p>
+ * <p>
+ * If a class loader provides a {@link ResourceBundleIndex} generated at build time, this control consults the index before probing the class loader for a
+ * bundle resource, so that candidate bundles known not to exist are skipped without a class path lookup.
+ * </p>
+ * <p>
+ * This control also remembers for each class loader the candidate bundles found to be absent in each format, so that {@link #newBundle(String, Locale, String,
+ * ClassLoader, boolean)} does not probe the class loader again for a bundle name and format it has already failed to find, unless reloading. Absence is
+ * recorded per bundle name and format rather than per bundle family, so that the bundles of a family may be stored in different formats.
+ * </p>
+ * <p>
+ * Bundle resources in local files and JAR files are read directly using a {@link BundleResourceReader}, which keeps each JAR file open for reading subsequent
+ * bundles rather than opening a URL connection for every bundle.
+ * </p>
+ * <p>
+ * The indexed bundles visible to a class loader, or the bundles in given packages, may be loaded in a single sweep using {@link #preload(ClassLoader)} or
+ * {@link #preload(ClassLoader, String...)}, which scan each JAR file and directory only once and parse the bundles found in parallel into the bundle cache.
+ * </p>
+ * <p>
+ * Bundles loaded by the registered resource bundle loaders are kept in a {@link BundleCache} bounded by estimated memory use, so that they are not parsed again
+ * when the soft references of the {@link ResourceBundle} cache are cleared. Use {@link #clearCache(ClassLoader)} rather than only
+ * {@link ResourceBundle#clearCache(ClassLoader)} to force bundles to be reloaded.
+ * </p>
  * @author Garret Wilson
  * @see ResourceBundleLoader
  */
@@ -80,6 +106,48 @@ public class RinclResourceBundleControl extends ResourceBundle.Control {
 	/** The map of registered resource bundle loaders, associated with their format type identifiers. */
 	private final Map<String, ResourceBundleLoader> formatResourceBundleLoaders;
 
+	/** The formats supported by this control, in the order they will be attempted. */
+	private final List<String> formats;
+
+	/** The filename extensions of the resource bundle files this control can load. */
+	private final Set<String> filenameExtensions;
+
+	/**
+	 * Returns the filename extensions of the resource bundle files this control can load; that is, the extensions supported by the registered resource bundle
+	 * loaders, including the {@value CharsetDetectingPropertiesResourceBundleLoader#FILENAME_EXTENSION} extension for the {@link #JAVA_PROPERTIES_FORMAT} format.
+	 * @return The supported resource bundle filename extensions.
+	 */
+	public Set<String> getFilenameExtensions() {
+		return filenameExtensions;
+	}
+
+	/** The reader of bundle resource contents. */
+	private final BundleResourceReader bundleResourceReader = new BundleResourceReader();
+
+	/** @return The reader this control uses to read the contents of bundle resources found by a class loader. */
+	protected BundleResourceReader getBundleResourceReader() {
+		return bundleResourceReader;
+	}
+
+	/** The lock guarding the index cache and the absent bundle names. */
+	private final Lock classLoaderCachesLock = new ReentrantLock();
+
+	/** The bundle indexes loaded for each class loader, weakly referencing the class loaders. */
+	private final Map<ClassLoader, ResourceBundleIndex> classLoaderIndexes = new WeakHashMap<>();
+
+	/** The maximum number of absent bundle names to remember for each format of a class loader, preventing unbounded growth from arbitrary lookups. */
+	static final int MAX_ABSENT_BUNDLE_NAME_COUNT = 10_000;
+
+	/** The names of the bundles known to be absent from each class loader, keyed to format; weakly referencing the class loaders. */
+	private final Map<ClassLoader, Map<String, Set<String>>> classLoaderAbsentBundleNames = new WeakHashMap<>();
+
+	private final BundleCache bundleCache;
+
+	/** @return The size-bounded cache of bundles loaded by the registered resource bundle loaders. */
+	public BundleCache getBundleCache() {
+		return bundleCache;
+	}
+
 	/**
 	 * Resource bundle loaders constructor. The provided resource bundle loaders will be registered with this control instance.
 	 * <p>
@@ -89,15 +157,28 @@ public class RinclResourceBundleControl extends ResourceBundle.Control {
 	 * </p>
 	 * <p>
 	 * A special resource bundle loader for handling UTF-8 encoded properties files is also registered (but can be overridden by one of the given resource bundle
-	 * loaders), with fallback to the default ISO-8859-1 properties file handling.
+	 * loaders), detecting in a single pass whether to fall back to the default ISO-8859-1 properties file handling.
 	 * </p>
 	 * @param resourceBundleLoaders The resource bundle loaders
+	 * @see BundleCache#DEFAULT_MAXIMUM_WEIGHT
 	 */
 	public RinclResourceBundleControl(@Nonnull final Stream<ResourceBundleLoader> resourceBundleLoaders) {
+		this(resourceBundleLoaders, new BundleCache());
+	}
+
+	/**
+	 * Resource bundle loaders and bundle cache constructor. The provided resource bundle loaders will be registered with this control instance.
+	 * @param resourceBundleLoaders The resource bundle loaders
+	 * @param bundleCache The cache in which to keep bundles loaded by the resource bundle loaders.
+	 * @throws NullPointerException if the given bundle cache is <code>null</code>.
+	 * @see #RinclResourceBundleControl(Stream)
+	 */
+	public RinclResourceBundleControl(@Nonnull final Stream<ResourceBundleLoader> resourceBundleLoaders, @Nonnull final BundleCache bundleCache) {
+		this.bundleCache = requireNonNull(bundleCache);
 		//use a LinkedHashMap to remember the given order of resource bundle loaders
 		final Map<String, ResourceBundleLoader> resourceBundleLoadersMap = new LinkedHashMap<>();
-		//register special support for the traditional properties format in UTF-8
-		resourceBundleLoadersMap.put(JAVA_PROPERTIES_FORMAT, UtfPropertiesResourceBundleLoader.INSTANCE);
+		//register special support for the traditional properties format in UTF-8, falling back to ISO-8859-1
+		resourceBundleLoadersMap.put(JAVA_PROPERTIES_FORMAT, CharsetDetectingPropertiesResourceBundleLoader.INSTANCE);
 		//register all the given resource bundle loaders, potentially overriding the properties format we installed
 		resourceBundleLoaders.forEach(resourceBundleLoader -> {
 			resourceBundleLoader.getFilenameExtensions().forEach(format -> {
@@ -105,6 +186,156 @@ public RinclResourceBundleControl(@Nonnull final Stream<ResourceBundleLoader> re
 			});
 		});
 		formatResourceBundleLoaders = unmodifiableMap(resourceBundleLoadersMap);
+		//start with the default supported formats
+		final List<String> formats = new ArrayList<>(FORMAT_DEFAULT);
+		//add each new format if it isn't already in our list
+		resourceBundleLoadersMap.keySet().stream()
+				//the list is probably so small that searching the list is faster than messing with a linked hash set
+				.filter(format -> !formats.contains(format)) //TODO create negative predicate utility; see http://stackoverflow.com/a/28236099/421049
+				.forEach(formats::add);
+		this.formats = unmodifiableList(formats);
+		final Set<String> filenameExtensions = new LinkedHashSet<>();
+		resourceBundleLoadersMap.keySet().forEach(format -> filenameExtensions.add(getResourceSuffix(format)));
+		this.filenameExtensions = unmodifiableSet(filenameExtensions);
+	}
+
+	/**
+	 * Determines the resource name suffix to use for a resource bundle format.
+	 * @param format A resource-based format identifier.
+	 * @return The suffix to use for the resource, which is the format itself except for the special Java-recognized formats.
+	 */
+	protected static String getResourceSuffix(@Nonnull final String format) {
+		return JAVA_PROPERTIES_FORMAT.equals(format) ? PropertiesFiles.FILENAME_EXTENSION : format;
+	}
+
+	/**
+	 * Finds the resource bundle loader registered for the filename extension of the given resource name.
+	 * @param resourceName The name of a resource such as <code>com/example/FooBar_pt.properties</code>.
+	 * @return The loader registered for the longest filename extension matching the resource name, if any.
+	 * @throws NullPointerException if the given resource name is <code>null</code>.
+	 */
+	public Optional<ResourceBundleLoader> findResourceBundleLoader(@Nonnull final String resourceName) {
+		ResourceBundleLoader foundResourceBundleLoader = null;
+		int foundSuffixLength = 0;
+		for(final Map.Entry<String, ResourceBundleLoader> formatResourceBundleLoader : formatResourceBundleLoaders.entrySet()) {
+			final String suffix = getResourceSuffix(formatResourceBundleLoader.getKey());
+			final int suffixIndex = resourceName.length() - suffix.length();
+			if(suffix.length() > foundSuffixLength && suffixIndex > 1 && resourceName.charAt(suffixIndex - 1) == '.' && resourceName.endsWith(suffix)) {
+				foundResourceBundleLoader = formatResourceBundleLoader.getValue();
+				foundSuffixLength = suffix.length();
+			}
+		}
+		return Optional.ofNullable(foundResourceBundleLoader);
+	}
+
+	/**
+	 * Preloads in a single sweep the resource bundles listed in the {@link ResourceBundleIndex} of the given class loader, so that later requests for those
+	 * bundles will not need to locate and read each one separately. If the class loader has no index, no bundles are preloaded.
+	 * @param classLoader The class loader the bundles of which should be preloaded.
+	 * @return The number of bundles preloaded.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 * @throws IOException if there is an error loading the index or scanning the class path locations.
+	 * @see #getResourceBundleIndex(ClassLoader)
+	 * @see ResourceBundleScanner#findClassPathLocations(ClassLoader)
+	 */
+	public int preload(@Nonnull final ClassLoader classLoader) throws IOException {
+		final Set<String> indexedResourceNames = getResourceBundleIndex(classLoader).getResourceNames();
+		if(indexedResourceNames.isEmpty()) {
+			return 0;
+		}
+		return preload(classLoader, ResourceBundleScanner.findClassPathLocations(classLoader), indexedResourceNames::contains);
+	}
+
+	/**
+	 * Preloads in a single sweep the resource bundles in the given packages visible to the given class loader, so that later requests for those bundles will not
+	 * need to locate and read each one separately. Bundles in subpackages are not included.
+	 * @param classLoader The class loader the bundles of which should be preloaded.
+	 * @param packageNames The names of the packages, such as <code>com.example</code>, the bundles of which should be preloaded.
+	 * @return The number of bundles preloaded.
+	 * @throws NullPointerException if the given class loader and/or package names is <code>null</code>.
+	 * @throws IOException if there is an error scanning the class path locations.
+	 * @see ResourceBundleScanner#findClassPathLocations(ClassLoader)
+	 */
+	public int preload(@Nonnull final ClassLoader classLoader, @Nonnull final String... packageNames) throws IOException {
+		final Set<String> directories = new HashSet<>(packageNames.length);
+		for(final String packageName : packageNames) {
+			directories.add(packageName.replace('.', '/'));
+		}
+		return preload(classLoader, ResourceBundleScanner.findClassPathLocations(classLoader), resourceName -> {
+			final int slashIndex = resourceName.lastIndexOf('/');
+			return directories.contains(slashIndex >= 0 ? resourceName.substring(0, slashIndex) : "");
+		});
+	}
+
+	/**
+	 * Preloads in a single sweep the resource bundles with resource names accepted by the given filter in the given class path locations, so that later requests
+	 * for those bundles using the given class loader will not need to locate and read each one separately.
+	 * <p>
+	 * Preloaded bundles are added to the {@link #getBundleCache()}, and thus count against its maximum weight and may be evicted like any other cached bundle.
+	 * Preloaded bundles are never used when reloading. The locations must be those actually searched by the class loader, or bundles may be provided that the
+	 * class loader would not have found. For a resource present in more than one location, the class loader is asked which one it would use, so the locations
+	 * need not be in the order the class loader searches them.
+	 * </p>
+	 * @param classLoader The class loader for which bundles should be preloaded.
+	 * @param locations The JAR files and directories searched by the class loader.
+	 * @param resourceNameFilter The filter indicating the resource names, such as <code>com/example/FooBar_pt.properties</code>, of the bundles to preload.
+	 * @return The number of bundles preloaded.
+	 * @throws NullPointerException if the given class loader, locations, and/or filter is <code>null</code>.
+	 * @throws IOException if there is an error scanning the class path locations.
+	 * @see ResourceBundleScanner#load(Collection, Predicate, ClassLoader)
+	 */
+	public int preload(@Nonnull final ClassLoader classLoader, @Nonnull final Collection<Path> locations, @Nonnull final Predicate<String> resourceNameFilter)
+			throws IOException {
+		requireNonNull(classLoader);
+		final Map<String, ResourceBundle> resourceBundles = new ResourceBundleScanner(this).load(locations, resourceNameFilter, classLoader);
+		final BundleCache bundleCache = getBundleCache();
+		resourceBundles.forEach((resourceName, resourceBundle) -> bundleCache.put(classLoader, resourceName, resourceBundle));
+		return resourceBundles.size();
+	}
+
+	/**
+	 * Discards the information cached for the given class loader, including its bundle index, the bundles known to be absent, and its bundles in the bundle
+	 * cache, including any preloaded bundles. Any JAR files held open for reading bundle resources are closed, as they may belong to the class loader.
+	 * @param classLoader The class loader for which cached information should be discarded.
+	 * @throws NullPointerException if the given class loader is <code>null</code>.
+	 */
+	public void clearCache(@Nonnull final ClassLoader classLoader) {
+		requireNonNull(classLoader);
+		classLoaderCachesLock.lock();
+		try {
+			classLoaderIndexes.remove(classLoader);
+			classLoaderAbsentBundleNames.remove(classLoader);
+		} finally {
+			classLoaderCachesLock.unlock();
+		}
+		getBundleCache().clear(classLoader);
+		try {
+			getBundleResourceReader().close(); //JAR files will be reopened as needed
+		} catch(final IOException ioException) {
+			//the files are being discarded anyway
+		}
+	}
+
+	/**
+	 * Retrieves the index of bundle resources visible to the given class loader, loading and caching it if needed.
+	 * @param classLoader The class loader for which an index should be returned.
+	 * @return The combined index of bundle resources for the class loader, which will be {@link ResourceBundleIndex#EMPTY} if the class loader has no
+	 *         indexes.
+	 * @throws IOException if there is an error loading the index.
+	 * @see ResourceBundleIndex#load(ClassLoader)
+	 */
+	protected ResourceBundleIndex getResourceBundleIndex(@Nonnull final ClassLoader classLoader) throws IOException {
+		classLoaderCachesLock.lock();
+		try {
+			ResourceBundleIndex resourceBundleIndex = classLoaderIndexes.get(requireNonNull(classLoader));
+			if(resourceBundleIndex == null) {
+				resourceBundleIndex = ResourceBundleIndex.load(classLoader);
+				classLoaderIndexes.put(classLoader, resourceBundleIndex);
+			}
+			return resourceBundleIndex;
+		} finally {
+			classLoaderCachesLock.unlock();
+		}
 	}
 
 	/**
@@ -113,45 +344,97 @@ public RinclResourceBundleControl(@Nonnull final Stream<ResourceBundleLoader> re
 	 */
 	@Override
 	public List<String> getFormats(final String baseName) {
-		//get the default supported formats
-		final List<String> formats = new ArrayList<>(super.getFormats(baseName));
-		//add each new format if it isn't already in our list
-		formatResourceBundleLoaders.keySet().stream()
-				//the list is probably so small that searching the list is faster than messing with a linked hash set
-				.filter(format -> !formats.contains(format)) //TODO create negative predicate utility; see http://stackoverflow.com/a/28236099/421049
-				.forEach(formats::add);
+		requireNonNull(baseName);
 		return formats;
 	}
 
+	/**
+	 * Returns the names of the bundles known to be absent from the given class loader in the given format.
+	 * @param classLoader The class loader from which bundles are loaded.
+	 * @param format The format of the bundles.
+	 * @return The modifiable, thread-safe set of absent bundle names.
+	 */
+	Set<String> getAbsentBundleNames(@Nonnull final ClassLoader classLoader, @Nonnull final String format) {
+		final Map<String, Set<String>> formatAbsentBundleNames;
+		classLoaderCachesLock.lock();
+		try {
+			formatAbsentBundleNames = classLoaderAbsentBundleNames.computeIfAbsent(requireNonNull(classLoader), key -> new ConcurrentHashMap<>());
+		} finally {
+			classLoaderCachesLock.unlock();
+		}
+		return formatAbsentBundleNames.computeIfAbsent(requireNonNull(format), key -> ConcurrentHashMap.newKeySet());
+	}
+
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation adds support for additional formats using the registered {@link ResourceBundleLoader}s.
+	 * @implSpec This implementation adds support for additional formats using the registered {@link ResourceBundleLoader}s. For resource-based formats, no
+	 *           bundle is returned if the {@link ResourceBundleIndex} of the class loader indicates that the resource does not exist. Unless reloading, no
+	 *           bundle is returned if the bundle was already found to be absent in the format using the class loader, and bundles are retrieved from and added
+	 *           to the bundle cache. Whether the bundle is absent in the format is recorded for later requests.
+	 * @see #getResourceBundleIndex(ClassLoader)
+	 * @see #getBundleResourceReader()
+	 * @see #getBundleCache()
 	 */
 	@Override
 	public ResourceBundle newBundle(final String baseName, final Locale locale, final String format, final ClassLoader classLoader, final boolean reload)
 			throws IllegalAccessException, InstantiationException, IOException {
+		final String bundleName = toBundleName(baseName, locale);
+		final Set<String> absentBundleNames = getAbsentBundleNames(classLoader, format);
+		if(!reload && absentBundleNames.contains(bundleName)) { //this bundle was already looked for in this format
+			return null;
+		}
+		final ResourceBundle resourceBundle = loadBundle(baseName, locale, format, classLoader, reload);
+		if(resourceBundle == null) {
+			if(absentBundleNames.size() < MAX_ABSENT_BUNDLE_NAME_COUNT) {
+				absentBundleNames.add(bundleName);
+			}
+		} else if(reload) { //the bundle may have been added since it was found to be absent
+			absentBundleNames.remove(bundleName);
+		}
+		return resourceBundle;
+	}
+
+	/**
+	 * Instantiates a resource bundle for the given bundle name of the given format and locale, using the given class loader if necessary.
+	 * @param baseName The base bundle name of the resource bundle.
+	 * @param locale The locale for which the resource bundle should be instantiated.
+	 * @param format The resource bundle format to be loaded.
+	 * @param classLoader The class loader to use to load the bundle.
+	 * @param reload The flag to indicate bundle reloading.
+	 * @return The resource bundle instance, or <code>null</code> if none could be found.
+	 * @throws IllegalAccessException if the class or its nullary constructor is not accessible.
+	 * @throws InstantiationException if the instantiation of a class fails for some other reason.
+	 * @throws IOException if an error occurred when reading resources using any I/O operations.
+	 * @see #newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	protected ResourceBundle loadBundle(@Nonnull final String baseName, @Nonnull final Locale locale, @Nonnull final String format,
+			@Nonnull final ClassLoader classLoader, final boolean reload) throws IllegalAccessException, InstantiationException, IOException {
 		//see if we have a resource bundle registered for this format
 		final ResourceBundleLoader resourceBundleLoader = formatResourceBundleLoaders.get(requireNonNull(format));
 		if(resourceBundleLoader != null) {
 			final boolean isJavaProperties = JAVA_PROPERTIES_FORMAT.equals(format);
 			assert isJavaProperties //the "java.properties" format was registered specially
 					|| resourceBundleLoader.getFilenameExtensions().contains(format) : "Resource bundle loader incorrectly registered.";
+			final String bundleName = toBundleName(baseName, locale);
+			//normally we use the format as the extension, except for the special Java-recognized formats
+			final String resourceName = toResourceName(bundleName, getResourceSuffix(format));
+			//skip the lookup altogether if the build-time index knows the resource doesn't exist
+			if(!getResourceBundleIndex(classLoader).mayContain(resourceName)) {
+				return null;
+			}
+			final BundleCache bundleCache = getBundleCache();
+			if(!reload) {
+				final Optional<ResourceBundle> cachedBundle = bundleCache.find(classLoader, resourceName);
+				if(cachedBundle.isPresent()) { //the bundle may have been loaded previously or in a bulk sweep
+					return cachedBundle.get();
+				}
+			}
 			try {
-				final String bundleName = toBundleName(baseName, locale);
-				//normally we use the format as the extension, except for the special Java-recognized formats
-				final String suffix = isJavaProperties ? PropertiesFiles.FILENAME_EXTENSION : format;
-				final String resourceName = toResourceName(bundleName, suffix);
 				final URL resourceURL = classLoader.getResource(resourceName);
 				if(resourceURL != null) {
-					final URLConnection connection = resourceURL.openConnection();
-					if(connection != null) {
-						if(reload) {
-							connection.setUseCaches(false);
-						}
-						try (final InputStream inputStream = new BufferedInputStream(connection.getInputStream())) {
-							return resourceBundleLoader.load(inputStream);
-						}
-					}
+					final ResourceBundle resourceBundle = resourceBundleLoader.load(getBundleResourceReader().read(resourceURL, reload));
+					bundleCache.put(classLoader, resourceName, resourceBundle);
+					return resourceBundle;
 				}
 			} catch(final CharacterCodingException characterCodingException) {
 				//if the traditional properties format was requested,
@@ -166,4 +449,84 @@ public ResourceBundle newBundle(final String baseName, final Locale locale, fina
 		return super.newBundle(baseName, locale, format, classLoader, reload);
 	}
 
+	/**
+	 * Finds the resource bundle for the given base name and locale, along with its chain of parent bundles, using the same candidate and fallback locale rules
+	 * as {@link ResourceBundle#getBundle(String, Locale, ClassLoader, ResourceBundle.Control)}, but without going through that method or its cache.
+	 * <p>
+	 * This method avoids the cache of {@link ResourceBundle} and the lock it holds for each bundle being loaded; the control itself coordinates only through
+	 * {@link java.util.concurrent} locks, and reads bundle resources using the {@link BundleResourceReader}. Lookups are nevertheless not free of intrinsic
+	 * locks: bundle resources are located using the class loader, bundles in formats not handled by a registered {@link ResourceBundleLoader}, such as the
+	 * <code>java.class</code> format, are loaded using {@link ClassLoader#loadClass(String)}, and reading from a JAR file locks the file, all of which may
+	 * synchronize. Loaded bundles are cached in the {@link #getBundleCache()}.
+	 * </p>
+	 * <p>
+	 * The bundles returned are linked to their parents using new bundles sharing the entries of the loaded bundles, so that the bundles in the bundle cache are
+	 * never modified. Bundles not produced by a registered {@link ResourceBundleLoader}, such as class-based bundles, are first copied into a
+	 * {@link CompactResourceBundle}. The bundles returned do not report their locale via {@link ResourceBundle#getLocale()}.
+	 * </p>
+	 * @param baseName The base name of the resource bundle, a fully qualified class name.
+	 * @param locale The locale for which a resource bundle is desired.
+	 * @param classLoader The class loader from which to load the resource bundle.
+	 * @return The resource bundle found, which will be empty if no bundle of the family could be found.
+	 * @throws NullPointerException if the given base name, locale, and/or class loader is <code>null</code>.
+	 * @see #getCandidateLocales(String, Locale)
+	 * @see #getFallbackLocale(String, Locale)
+	 */
+	public Optional<ResourceBundle> findBundle(@Nonnull final String baseName, @Nonnull final Locale locale, @Nonnull final ClassLoader classLoader) {
+		requireNonNull(baseName);
+		requireNonNull(classLoader);
+		ResourceBundle baseBundle = null;
+		for(Locale targetLocale = requireNonNull(locale); targetLocale != null; targetLocale = getFallbackLocale(baseName, targetLocale)) {
+			final List<Locale> candidateLocales = getCandidateLocales(baseName, targetLocale);
+			//load the chain from the least specific candidate, linking each bundle found to the one found before it
+			ResourceBundle bundle = null;
+			Locale bundleLocale = null;
+			for(final ListIterator<Locale> candidateLocaleIterator = candidateLocales.listIterator(candidateLocales.size()); candidateLocaleIterator.hasPrevious();) {
+				final Locale candidateLocale = candidateLocaleIterator.previous();
+				final Optional<CompactResourceBundle> foundCandidateBundle = findCandidateBundle(baseName, candidateLocale, classLoader);
+				if(foundCandidateBundle.isPresent()) {
+					bundle = foundCandidateBundle.get().withParent(bundle); //don't modify the bundle itself, which may be cached
+					bundleLocale = candidateLocale;
+				}
+			}
+			if(bundle != null) {
+				final boolean isBaseBundle = Locale.ROOT.equals(bundleLocale);
+				//like ResourceBundle.getBundle(), only accept the base bundle if it was requested explicitly; otherwise try the fallback locale first
+				if(!isBaseBundle || bundleLocale.equals(locale) || (candidateLocales.size() == 1 && bundleLocale.equals(candidateLocales.get(0)))) {
+					return Optional.of(bundle);
+				}
+				if(baseBundle == null) {
+					baseBundle = bundle;
+				}
+			}
+		}
+		return Optional.ofNullable(baseBundle);
+	}
+
+	/**
+	 * Finds a single bundle of the given base name and candidate locale, trying each of the formats returned by {@link #getFormats(String)}. As with
+	 * {@link ResourceBundle#getBundle(String, Locale, ClassLoader, ResourceBundle.Control)}, a bundle that cannot be loaded is considered not to exist.
+	 * @param baseName The base name of the resource bundle.
+	 * @param candidateLocale The candidate locale of the bundle.
+	 * @param classLoader The class loader from which to load the resource bundle.
+	 * @return The bundle found, which will be empty if there is no such bundle.
+	 * @see #newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	protected Optional<CompactResourceBundle> findCandidateBundle(@Nonnull final String baseName, @Nonnull final Locale candidateLocale,
+			@Nonnull final ClassLoader classLoader) {
+		for(final String format : getFormats(baseName)) {
+			final ResourceBundle resourceBundle;
+			try {
+				resourceBundle = newBundle(baseName, candidateLocale, format, classLoader, false);
+			} catch(final IllegalAccessException | InstantiationException | IOException | RuntimeException exception) {
+				continue; //ResourceBundle.getBundle() likewise ignores bundles that cannot be loaded
+			}
+			if(resourceBundle != null) {
+				return Optional.of(
+						resourceBundle instanceof CompactResourceBundle ? (CompactResourceBundle)resourceBundle : CompactResourceBundle.copyOf(resourceBundle));
+			}
+		}
+		return Optional.empty();
+	}
+
 }
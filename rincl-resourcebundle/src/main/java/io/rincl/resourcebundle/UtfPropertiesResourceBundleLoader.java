@@ -20,10 +20,13 @@
 import static java.util.Collections.*;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.CharacterCodingException;
 import java.util.*;
 
-import com.globalmentor.io.BOMInputStreamReader;
+import javax.annotation.*;
+
+import com.globalmentor.io.ByteOrderMark;
 
 /**
  * Strategy for loading resource bundles from properties files stored in standard properties format but using the UTF-8 charset by default, or any UTF-*
@@ -31,8 +34,9 @@
  * the input stream does not contain valid UTF-* data; it does not fall back to ISO-8859-1.
  * @implSpec This implementation recognizes files with the extension {@value #FILENAME_EXTENSION}, stored in the format specified in
  *           {@link Properties#load(Reader)}.
- * @implSpec This implementation is not meant for normal registration, but is used directly by the Rincl resource bundle control to improve Java properties file
- *           loading.
+ * @implSpec This implementation parses the properties using a {@link PropertiesParser}, producing a {@link CompactResourceBundle}.
+ * @implSpec This implementation is not meant for normal registration. The Rincl resource bundle control uses
+ *           {@link CharsetDetectingPropertiesResourceBundleLoader} instead, which falls back to ISO-8859-1 without reading the properties file again.
  * @author Garret Wilson
  * @see Properties#load(Reader)
  */
@@ -55,13 +59,59 @@ public Set<String> getFilenameExtensions() {
 
 	/**
 	 * {@inheritDoc}
+	 * @implSpec This implementation reads all the bytes of the input stream and delegates to {@link #load(ByteBuffer)}.
 	 * @throws CharacterCodingException if the given input stream contains an invalid byte sequence for the charset indicated by the BOM; or if no BOM was
 	 *           present, an invalid byte sequence for the UTF-8 charset.
 	 */
 	@Override
 	public ResourceBundle load(final InputStream inputStream) throws IOException {
-		//get a reader using the charset indicated by a BOM, if any; defaulting to UTF-8
-		return new PropertyResourceBundle(new BOMInputStreamReader(inputStream, UTF_8));
+		return load(ByteBuffer.wrap(inputStream.readAllBytes()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation decodes the bytes using {@link #decode(ByteBuffer)}, and parses the resulting characters using
+	 *           {@link PropertiesParser#parse(CharBuffer)}.
+	 * @throws CharacterCodingException if the given bytes contain an invalid sequence for the charset indicated by the BOM; or if no BOM was present, an
+	 *           invalid byte sequence for the UTF-8 charset.
+	 */
+	@Override
+	public ResourceBundle load(final ByteBuffer buffer) throws IOException {
+		try {
+			return PropertiesParser.parse(decode(buffer));
+		} catch(final IllegalArgumentException illegalArgumentException) { //malformed escape sequence
+			throw new IOException(illegalArgumentException.getMessage(), illegalArgumentException);
+		}
+	}
+
+	/**
+	 * Decodes properties file content using the charset indicated by a BOM, if any; defaulting to UTF-8.
+	 * @param bytes The buffer containing the bytes to decode; its position is not changed.
+	 * @return A buffer containing the decoded characters.
+	 * @throws CharacterCodingException if the bytes contain an invalid sequence for the charset indicated by the BOM; or if no BOM was present, an invalid byte
+	 *           sequence for the UTF-8 charset.
+	 * @throws IOException if the BOM indicates an unsupported mixed-endian encoding.
+	 * @see #detectByteOrderMark(ByteBuffer)
+	 */
+	protected CharBuffer decode(@Nonnull final ByteBuffer bytes) throws IOException {
+		final Optional<ByteOrderMark> foundByteOrderMark = detectByteOrderMark(bytes);
+		if(foundByteOrderMark.isPresent()) {
+			final ByteOrderMark byteOrderMark = foundByteOrderMark.get().checkUsualIO();
+			return byteOrderMark.toCharset().newDecoder().decode(bytes.duplicate().position(bytes.position() + byteOrderMark.getLength()));
+		}
+		return UTF_8.newDecoder().decode(bytes.duplicate()); //new decoders report malformed input rather than replacing it
+	}
+
+	/**
+	 * Detects the Byte Order Mark at the start of the remaining bytes of a buffer, without changing its position.
+	 * @param bytes The buffer containing the bytes to check.
+	 * @return The Byte Order Mark present, if any.
+	 * @see ByteOrderMark#detect(byte[])
+	 */
+	protected static Optional<ByteOrderMark> detectByteOrderMark(@Nonnull final ByteBuffer bytes) {
+		final byte[] leadingBytes = new byte[Math.min(bytes.remaining(), ByteOrderMark.MAX_BYTE_COUNT)];
+		bytes.duplicate().get(leadingBytes);
+		return ByteOrderMark.detect(leadingBytes);
 	}
 
 }
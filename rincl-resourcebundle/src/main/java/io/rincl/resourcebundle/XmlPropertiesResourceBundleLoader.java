@@ -21,7 +21,7 @@
 import java.io.*;
 import java.util.*;
 
-import com.globalmentor.util.HashMapResourceBundle;
+import javax.xml.stream.*;
 
 /**
  * Strategy for loading resource bundles from properties files stored in XML format.
@@ -29,6 +29,10 @@
  * This implementation recognizes files with the extension {@value #FILENAME_EXTENSION}, stored in the XML schema recognized by
  * {@link Properties#loadFromXML(InputStream)}.
  * </p>
+ * <p>
+ * The entries are read in a single streaming pass using StAX directly into a {@link CompactResourceBundle}, without building an intermediate document or
+ * {@link Properties} table. The document type declaration is not processed, so the properties DTD is never retrieved.
+ * </p>
  * @author Garret Wilson
  * @see Properties#loadFromXML(InputStream)
  */
@@ -37,16 +41,84 @@ public class XmlPropertiesResourceBundleLoader implements ResourceBundleLoader {
 	/** The supported filename extension. */
 	public static final String FILENAME_EXTENSION = "properties.xml";
 
+	/** The name of the root element. */
+	public static final String ELEMENT_PROPERTIES = "properties";
+	/** The name of the optional comment element. */
+	public static final String ELEMENT_COMMENT = "comment";
+	/** The name of the property entry element. */
+	public static final String ELEMENT_ENTRY = "entry";
+	/** The name of the property entry key attribute. */
+	public static final String ATTRIBUTE_KEY = "key";
+
+	/** The shared factory for creating XML stream readers; thread-safe once configured. */
+	private static final XMLInputFactory XML_INPUT_FACTORY;
+
+	static {
+		XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false); //never retrieve the properties DTD
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+	}
+
 	@Override
 	public Set<String> getFilenameExtensions() {
 		return singleton(FILENAME_EXTENSION);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @throws InvalidPropertiesFormatException if the input stream does not contain a valid XML document in the properties format.
+	 */
 	@Override
 	public ResourceBundle load(final InputStream inputStream) throws IOException {
-		final Properties properties = new Properties();
-		properties.loadFromXML(inputStream);
-		return new HashMapResourceBundle(properties);
+		try {
+			final XMLStreamReader xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+			try {
+				return load(xmlStreamReader);
+			} finally {
+				xmlStreamReader.close(); //does not close the underlying input stream
+			}
+		} catch(final XMLStreamException xmlStreamException) {
+			throw new InvalidPropertiesFormatException(xmlStreamException);
+		}
+	}
+
+	/**
+	 * Loads a resource bundle from an XML stream reader positioned at the start of a properties document.
+	 * @param xmlStreamReader The reader of the properties XML document.
+	 * @return A new resource bundle containing the properties in the document.
+	 * @throws XMLStreamException if there is an error reading the XML.
+	 * @throws InvalidPropertiesFormatException if the document does not conform to the properties format.
+	 */
+	protected ResourceBundle load(final XMLStreamReader xmlStreamReader) throws XMLStreamException, InvalidPropertiesFormatException {
+		int eventType;
+		do { //skip the prolog, including any document type declaration
+			eventType = xmlStreamReader.next();
+		} while(eventType != XMLStreamConstants.START_ELEMENT && eventType != XMLStreamConstants.END_DOCUMENT);
+		if(eventType != XMLStreamConstants.START_ELEMENT || !ELEMENT_PROPERTIES.equals(xmlStreamReader.getLocalName())) {
+			throw new InvalidPropertiesFormatException("Expected root element <" + ELEMENT_PROPERTIES + ">.");
+		}
+		final List<String> keys = new ArrayList<>();
+		final List<String> values = new ArrayList<>();
+		while(xmlStreamReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			final String elementName = xmlStreamReader.getLocalName();
+			switch(elementName) {
+				case ELEMENT_COMMENT:
+					xmlStreamReader.getElementText(); //skip the comment
+					break;
+				case ELEMENT_ENTRY:
+					final String key = xmlStreamReader.getAttributeValue(null, ATTRIBUTE_KEY);
+					if(key == null) {
+						throw new InvalidPropertiesFormatException("Property <" + ELEMENT_ENTRY + "> missing `" + ATTRIBUTE_KEY + "` attribute.");
+					}
+					keys.add(key);
+					values.add(xmlStreamReader.getElementText()); //leaves the reader at the end of the entry element
+					break;
+				default:
+					throw new InvalidPropertiesFormatException("Unexpected element <" + elementName + ">.");
+			}
+		}
+		return new CompactResourceBundle(keys.toArray(String[]::new), values.toArray(), keys.size());
 	}
 
 }
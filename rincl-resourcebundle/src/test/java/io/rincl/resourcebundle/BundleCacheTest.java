@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static com.globalmentor.io.ClassResources.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests for {@link BundleCache}.
+ * @author Garret Wilson
+ */
+public class BundleCacheTest {
+
+	/**
+	 * Creates a bundle with a single entry.
+	 * @param value The value of the entry.
+	 * @return A new bundle.
+	 */
+	private static ResourceBundle createBundle(final String value) {
+		return new CompactResourceBundle(Map.of("key", value));
+	}
+
+	/** @see BundleCache#find(ClassLoader, String) */
+	@Test
+	public void testFind() {
+		final BundleCache bundleCache = new BundleCache();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final ResourceBundle resourceBundle = createBundle("value");
+		assertThat(bundleCache.find(classLoader, "foo.properties"), is(Optional.empty()));
+		bundleCache.put(classLoader, "foo.properties", resourceBundle);
+		assertThat(bundleCache.find(classLoader, "foo.properties").orElseThrow().getString("key"), is("value"));
+		assertThat(bundleCache.find(new ClassLoader(classLoader) {}, "foo.properties"), is(Optional.empty()));
+		assertThat(bundleCache.size(), is(1));
+		assertThat(bundleCache.getWeight(), is(greaterThan(0L)));
+		assertThat(bundleCache.getHitCount(), is(1L));
+		assertThat(bundleCache.getMissCount(), is(2L));
+		assertThat(bundleCache.getLoadCount(), is(1L));
+	}
+
+	/**
+	 * Tests that linking a bundle, either as added or as found, to a parent does not cause the cached bundle to have a parent.
+	 * @see BundleCache#put(ClassLoader, String, ResourceBundle)
+	 * @see BundleCache#find(ClassLoader, String)
+	 */
+	@Test
+	public void testCachedBundleHasNoParent() {
+		final BundleCache bundleCache = new BundleCache();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final CompactResourceBundle parentBundle = new CompactResourceBundle(Map.of("parentKey", "parentValue"));
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of("key", "value"));
+		bundleCache.put(classLoader, "foo.properties", resourceBundle);
+		resourceBundle.setParentBundle(parentBundle);
+		final CompactResourceBundle foundBundle = (CompactResourceBundle)bundleCache.find(classLoader, "foo.properties").orElseThrow();
+		assertThat(foundBundle, is(not(sameInstance(resourceBundle))));
+		assertThat(foundBundle.containsKey("parentKey"), is(false));
+		foundBundle.setParentBundle(parentBundle);
+		assertThat(foundBundle.getString("parentKey"), is("parentValue"));
+		final ResourceBundle refoundBundle = bundleCache.find(classLoader, "foo.properties").orElseThrow();
+		assertThat(refoundBundle, is(not(sameInstance(foundBundle))));
+		assertThat(refoundBundle.getString("key"), is("value"));
+		assertThat(refoundBundle.containsKey("parentKey"), is(false));
+	}
+
+	/**
+	 * Tests that the least recently used bundles are evicted when the maximum weight is exceeded, and that loading them again is counted as a reload.
+	 * @see BundleCache#put(ClassLoader, String, ResourceBundle)
+	 */
+	@Test
+	public void testEvictLeastRecentlyUsed() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final long bundleWeight = new BundleCache().estimateWeight(createBundle("value"));
+		final BundleCache bundleCache = new BundleCache(bundleWeight * 2);
+		bundleCache.put(classLoader, "a.properties", createBundle("value"));
+		bundleCache.put(classLoader, "b.properties", createBundle("value"));
+		assertThat(bundleCache.find(classLoader, "a.properties").isPresent(), is(true)); //a is now more recently used than b
+		bundleCache.put(classLoader, "c.properties", createBundle("value"));
+		assertThat(bundleCache.size(), is(2));
+		assertThat(bundleCache.getWeight(), is(bundleWeight * 2));
+		assertThat(bundleCache.getEvictionCount(), is(1L));
+		assertThat(bundleCache.find(classLoader, "b.properties").isPresent(), is(false));
+		assertThat(bundleCache.find(classLoader, "a.properties").isPresent(), is(true));
+		assertThat(bundleCache.find(classLoader, "c.properties").isPresent(), is(true));
+		assertThat(bundleCache.getReloadCount(), is(0L));
+		bundleCache.put(classLoader, "b.properties", createBundle("value"));
+		assertThat(bundleCache.getReloadCount(), is(1L));
+	}
+
+	/** @see BundleCache#put(ClassLoader, String, ResourceBundle) */
+	@Test
+	public void testBundleHeavierThanMaximumNotCached() {
+		final BundleCache bundleCache = new BundleCache(10);
+		bundleCache.put(getClass().getClassLoader(), "a.properties", createBundle("value"));
+		assertThat(bundleCache.size(), is(0));
+		assertThat(bundleCache.getWeight(), is(0L));
+	}
+
+	/** @see BundleCache#clear(ClassLoader) */
+	@Test
+	public void testClearClassLoader() {
+		final BundleCache bundleCache = new BundleCache();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final ClassLoader otherClassLoader = new ClassLoader(classLoader) {};
+		bundleCache.put(classLoader, "a.properties", createBundle("value"));
+		bundleCache.put(otherClassLoader, "a.properties", createBundle("other"));
+		bundleCache.clear(otherClassLoader);
+		assertThat(bundleCache.size(), is(1));
+		assertThat(bundleCache.find(classLoader, "a.properties").isPresent(), is(true));
+		assertThat(bundleCache.find(otherClassLoader, "a.properties").isPresent(), is(false));
+	}
+
+	/**
+	 * Tests that the control does not read a bundle again after the {@link ResourceBundle} cache is cleared, but does after the control cache is cleared.
+	 * @see RinclResourceBundleControl#newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	@Test
+	public void testControlUsesBundleCache() {
+		final AtomicInteger fetchCount = new AtomicInteger();
+		final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			public URL getResource(final String name) {
+				if(name.endsWith(".properties")) {
+					fetchCount.incrementAndGet();
+				}
+				return super.getResource(name);
+			}
+		};
+		final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.empty());
+		final String baseName = getClassLoaderResourcePath(getClass(), "FooBar").replace('/', '.');
+		assertThat(ResourceBundle.getBundle(baseName, Locale.ROOT, classLoader, control).getString("foo"), is("bar"));
+		assertThat(fetchCount.get(), is(1));
+		ResourceBundle.clearCache(classLoader);
+		assertThat(ResourceBundle.getBundle(baseName, Locale.ROOT, classLoader, control).getString("foo"), is("bar"));
+		assertThat(fetchCount.get(), is(1));
+		assertThat(control.getBundleCache().getHitCount(), is(1L));
+		control.clearCache(classLoader);
+		ResourceBundle.clearCache(classLoader);
+		assertThat(ResourceBundle.getBundle(baseName, Locale.ROOT, classLoader, control).getString("foo"), is("bar"));
+		assertThat(fetchCount.get(), is(2));
+	}
+
+}
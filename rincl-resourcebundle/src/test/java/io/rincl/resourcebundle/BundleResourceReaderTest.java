@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.jar.*;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link BundleResourceReader}.
+ * @author Garret Wilson
+ */
+public class BundleResourceReaderTest {
+
+	@TempDir
+	Path tempDirectory;
+
+	/**
+	 * Creates a JAR file containing the given entries.
+	 * @param jarFile The path of the JAR file to create.
+	 * @param entries The contents of the entries, keyed to entry names.
+	 * @return The path of the JAR file.
+	 * @throws IOException if there is an error writing the JAR file.
+	 */
+	private static Path createJar(final Path jarFile, final Map<String, String> entries) throws IOException {
+		try (final JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for(final Map.Entry<String, String> entry : entries.entrySet()) {
+				jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+				jarOutputStream.write(entry.getValue().getBytes(UTF_8));
+				jarOutputStream.closeEntry();
+			}
+		}
+		return jarFile;
+	}
+
+	/**
+	 * Returns the remaining contents of a buffer as a UTF-8 string.
+	 * @param buffer The buffer to decode.
+	 * @return The decoded string.
+	 */
+	private static String toString(final ByteBuffer buffer) {
+		return UTF_8.decode(buffer).toString();
+	}
+
+	/** @see BundleResourceReader#read(URL, boolean) */
+	@Test
+	public void testReadFile() throws IOException {
+		final Path file = Files.writeString(tempDirectory.resolve("FooBar.properties"), "foo=bar", UTF_8);
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			final ByteBuffer buffer = reader.read(file.toUri().toURL(), false);
+			assertThat(buffer.isDirect(), is(false));
+			assertThat(toString(buffer), is("foo=bar"));
+		}
+	}
+
+	/** @see BundleResourceReader#read(URL, boolean) */
+	@Test
+	public void testReadLargeFileMapped() throws IOException {
+		final String content = "x=" + "y".repeat(BundleResourceReader.MAPPING_THRESHOLD);
+		final Path file = Files.writeString(tempDirectory.resolve("Large.properties"), content, UTF_8);
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			final ByteBuffer buffer = reader.read(file.toUri().toURL(), false);
+			assertThat(buffer.isDirect(), is(true));
+			assertThat(toString(buffer), is(content));
+		}
+	}
+
+	/** @see BundleResourceReader#read(URL, boolean) */
+	@Test
+	public void testReadMissingFileThrowsException() throws IOException {
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			assertThrows(FileNotFoundException.class, () -> reader.read(tempDirectory.resolve("missing.properties").toUri().toURL(), false));
+		}
+	}
+
+	/**
+	 * Tests that multiple entries of a JAR file are read from a single open JAR file.
+	 * @see BundleResourceReader#read(URL, boolean)
+	 */
+	@Test
+	public void testReadJarEntriesSharesJarFile() throws IOException {
+		final Path jarFile = createJar(tempDirectory.resolve("bundles.jar"),
+				Map.of("com/example/FooBar.properties", "foo=bar", "com/example/FooBar_pt.properties", "foo=barra"));
+		final BundleResourceReader reader = new BundleResourceReader();
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {jarFile.toUri().toURL()}, null)) {
+			final URL resourceURL = classLoader.getResource("com/example/FooBar.properties");
+			assertThat(resourceURL.getProtocol(), is("jar"));
+			assertThat(toString(reader.read(resourceURL, false)), is("foo=bar"));
+			assertThat(toString(reader.read(classLoader.getResource("com/example/FooBar_pt.properties"), false)), is("foo=barra"));
+			assertThat(reader.getOpenJarFileCount(), is(1));
+			reader.close();
+			assertThat(reader.getOpenJarFileCount(), is(0));
+			assertThat(toString(reader.read(resourceURL, true)), is("foo=bar"));
+			assertThat(reader.getOpenJarFileCount(), is(0)); //reloading bypasses the cache
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Tests that a shared JAR file is reopened if the JAR file is replaced after it was opened.
+	 * @see BundleResourceReader#read(URL, boolean)
+	 */
+	@Test
+	public void testReadJarEntryReopensModifiedJarFile() throws IOException {
+		final Path jarFile = createJar(tempDirectory.resolve("bundles.jar"), Map.of("com/example/FooBar.properties", "foo=bar"));
+		final URL resourceURL = new URL("jar:" + jarFile.toUri() + "!/com/example/FooBar.properties");
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			assertThat(toString(reader.read(resourceURL, false)), is("foo=bar"));
+			final FileTime lastModifiedTime = Files.getLastModifiedTime(jarFile);
+			final Path newJarFile = createJar(tempDirectory.resolve("new-bundles.jar"), Map.of("com/example/FooBar.properties", "foo=barre"));
+			Files.move(newJarFile, jarFile, StandardCopyOption.REPLACE_EXISTING);
+			Files.setLastModifiedTime(jarFile, FileTime.fromMillis(lastModifiedTime.toMillis() + 10_000));
+			assertThat(toString(reader.read(resourceURL, false)), is("foo=barre"));
+			assertThat(reader.getOpenJarFileCount(), is(1));
+		}
+	}
+
+	/**
+	 * Tests that no more than {@link BundleResourceReader#MAX_OPEN_JAR_FILE_COUNT} JAR files are held open, and that entries of other JAR files can still be
+	 * read.
+	 * @see BundleResourceReader#read(URL, boolean)
+	 */
+	@Test
+	public void testReadJarEntriesBoundsOpenJarFiles() throws IOException {
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			for(int i = 0; i <= BundleResourceReader.MAX_OPEN_JAR_FILE_COUNT; i++) {
+				final Path jarFile = createJar(tempDirectory.resolve("bundles" + i + ".jar"), Map.of("com/example/FooBar.properties", "foo=bar" + i));
+				assertThat(toString(reader.read(new URL("jar:" + jarFile.toUri() + "!/com/example/FooBar.properties"), false)), is("foo=bar" + i));
+			}
+			assertThat(reader.getOpenJarFileCount(), is(BundleResourceReader.MAX_OPEN_JAR_FILE_COUNT));
+		}
+	}
+
+	/** @see BundleResourceReader#read(URL, boolean) */
+	@Test
+	public void testReadMissingJarEntryThrowsException() throws IOException {
+		final Path jarFile = createJar(tempDirectory.resolve("bundles.jar"), Map.of("com/example/FooBar.properties", "foo=bar"));
+		try (final BundleResourceReader reader = new BundleResourceReader()) {
+			assertThrows(FileNotFoundException.class, () -> reader.read(new URL("jar:" + jarFile.toUri() + "!/com/example/Missing.properties"), false));
+		}
+	}
+
+	/**
+	 * Tests that the resource bundle control loads bundles from a JAR file.
+	 * @see RinclResourceBundleControl#newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	@Test
+	public void testControlLoadsBundlesFromJar() throws IOException {
+		final Path jarFile = createJar(tempDirectory.resolve("bundles.jar"), Map.of("com/example/FooBar.properties", "foo=bar\nteacup=teacup",
+				"com/example/FooBar_pt.properties", "teacup=chávena", "com/example/XmlFooBar.properties.xml",
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?><properties><entry key=\"foo\">bar</entry></properties>"));
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {jarFile.toUri().toURL()}, null)) {
+			final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+			final ResourceBundle resourceBundle = ResourceBundle.getBundle("com.example.FooBar", Locale.forLanguageTag("pt"), classLoader, control);
+			assertThat(resourceBundle.getString("teacup"), is("chávena"));
+			assertThat(resourceBundle.getString("foo"), is("bar"));
+			assertThat(ResourceBundle.getBundle("com.example.XmlFooBar", Locale.ROOT, classLoader, control).getString("foo"), is("bar"));
+			assertThat(control.getBundleResourceReader().getOpenJarFileCount(), is(1));
+			control.getBundleResourceReader().close();
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static com.globalmentor.io.ClassResources.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests for {@link CharsetDetectingPropertiesResourceBundleLoader}.
+ * @author Garret Wilson
+ */
+public class CharsetDetectingPropertiesResourceBundleLoaderTest {
+
+	/** @see CharsetDetectingPropertiesResourceBundleLoader#getFilenameExtensions() */
+	@Test
+	public void testGetFilenameExtensionSuffixes() {
+		assertThat(CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.getFilenameExtensions(), containsInAnyOrder("properties"));
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesIso88591() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-iso-8859-1.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf8NoBom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-8-no-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf8Bom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-8-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf16BeBom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-16be-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf16LeBom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-16le-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf32BeBom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-32be-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * @see CharsetDetectingPropertiesResourceBundleLoader#load(InputStream)
+	 * @throws IOException if there is an error loading the test resources file.
+	 */
+	@Test
+	public void testLoadPropertiesUtf32LeBom() throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("test-utf-32le-bom.properties"))) {
+			final ResourceBundle resourceBundle = CharsetDetectingPropertiesResourceBundleLoader.INSTANCE.load(inputStream);
+			assertThat(resourceBundle.getString("test"), is("touché"));
+		}
+	}
+
+	/**
+	 * Tests that a legacy ISO-8859-1 properties file is only fetched once from the class loader by the resource bundle control.
+	 * @see RinclResourceBundleControl#newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	@Test
+	public void testControlLoadsPropertiesIso88591InSinglePass() throws IOException, InstantiationException, IllegalAccessException {
+		final AtomicInteger fetchCount = new AtomicInteger();
+		final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			public URL getResource(final String name) {
+				fetchCount.incrementAndGet();
+				return super.getResource(name);
+			}
+		};
+		final ResourceBundle resourceBundle = RinclResourceBundleControl.DEFAULT.newBundle(getClassLoaderResourcePath(getClass(), "test-iso-8859-1"), Locale.ROOT,
+				RinclResourceBundleControl.JAVA_PROPERTIES_FORMAT, classLoader, true);
+		assertThat(resourceBundle.getString("test"), is("touché"));
+		assertThat(fetchCount.get(), is(1));
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static com.globalmentor.io.ClassResources.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests for {@link CompactResourceBundle}.
+ * @author Garret Wilson
+ */
+public class CompactResourceBundleTest {
+
+	/** @see CompactResourceBundle#getObject(String) */
+	@Test
+	public void testGetObject() {
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of("foo", "bar", "answer", 42));
+		assertThat(resourceBundle.size(), is(2));
+		assertThat(resourceBundle.getString("foo"), is("bar"));
+		assertThat(resourceBundle.getObject("answer"), is(42));
+		assertThrows(MissingResourceException.class, () -> resourceBundle.getObject("missing"));
+	}
+
+	/** @see CompactResourceBundle#keySet() */
+	@Test
+	public void testKeySet() {
+		final Map<String, String> map = new HashMap<>();
+		for(int i = 0; i < 100; i++) {
+			map.put("key" + i, "value" + i);
+		}
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(map);
+		assertThat(resourceBundle.keySet(), is(map.keySet()));
+		assertThat(resourceBundle.containsKey("key99"), is(true));
+		assertThat(resourceBundle.containsKey("key100"), is(false));
+		assertThat(Collections.list(resourceBundle.getKeys()), containsInAnyOrder(map.keySet().toArray()));
+	}
+
+	/** @see CompactResourceBundle#CompactResourceBundle(String[], Object[], int) */
+	@Test
+	public void testDuplicateKeysLastWins() {
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(new String[] {"a", "b", "a", "ignored"}, new Object[] {"1", "2", "3", "4"}, 3);
+		assertThat(resourceBundle.size(), is(2));
+		assertThat(resourceBundle.getString("a"), is("3"));
+		assertThat(resourceBundle.containsKey("ignored"), is(false));
+	}
+
+	/** @see CompactResourceBundle#CompactResourceBundle(Map) */
+	@Test
+	public void testEmpty() {
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of());
+		assertThat(resourceBundle.size(), is(0));
+		assertThat(resourceBundle.keySet(), is(empty()));
+		assertThat(resourceBundle.containsKey("foo"), is(false));
+	}
+
+	/** @see CompactResourceBundle#findObject(String) */
+	@Test
+	public void testFindObject() {
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of("foo", "bar"));
+		assertThat(resourceBundle.findObject("foo"), is(Optional.of("bar")));
+		assertThat(resourceBundle.findObject("missing"), is(Optional.empty()));
+	}
+
+	/**
+	 * Tests that lookups continue through the parent chain established by {@link ResourceBundle#getBundle(String, Locale, ClassLoader, ResourceBundle.Control)}.
+	 * @see CompactResourceBundle#findObject(String)
+	 */
+	@Test
+	public void testFindObjectInParents() {
+		final ResourceBundle resourceBundle = ResourceBundle.getBundle(getClassLoaderResourcePath(getClass(), "FooBar"), Locale.forLanguageTag("pt-BR"),
+				getClass().getClassLoader(), RinclResourceBundleControl.DEFAULT);
+		assertThat(resourceBundle, is(instanceOf(CompactResourceBundle.class)));
+		final CompactResourceBundle compactResourceBundle = (CompactResourceBundle)resourceBundle;
+		assertThat(compactResourceBundle.findObject("teacup"), is(Optional.of("xícara")));
+		assertThat(compactResourceBundle.findObject("foo"), is(Optional.of("bar")));
+		assertThat(compactResourceBundle.findObject("missing"), is(Optional.empty()));
+	}
+
+	/** Tests keys with colliding hash codes. */
+	@Test
+	public void testHashCollisions() {
+		assertThat("Aa".hashCode(), is("BB".hashCode()));
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of("Aa", "1", "BB", "2", "AaAa", "3", "BBBB", "4", "AaBB", "5"));
+		assertThat(resourceBundle.getString("Aa"), is("1"));
+		assertThat(resourceBundle.getString("BB"), is("2"));
+		assertThat(resourceBundle.getString("AaBB"), is("5"));
+		assertThat(resourceBundle.containsKey("BBAa"), is(false));
+	}
+
+	/** @see CompactResourceBundle#keys() */
+	@Test
+	public void testKeysIncludesParentsOnce() {
+		final CompactResourceBundle grandparent = new CompactResourceBundle(Map.of("a", "3", "d", "3"));
+		final CompactResourceBundle parent = new CompactResourceBundle(Map.of("a", "2", "b", "2", "c", "2"));
+		parent.setParentBundle(grandparent);
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(Map.of("a", "1", "b", "1"));
+		resourceBundle.setParentBundle(parent);
+		assertThat(resourceBundle.keys().collect(Collectors.toList()), containsInAnyOrder("a", "b", "c", "d"));
+		final ResourceBundleResources resources = new ResourceBundleResources(getClass(), resourceBundle);
+		assertThat(resources.stringEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
+				is(Map.of("a", "1", "b", "1", "c", "2", "d", "3")));
+	}
+
+}
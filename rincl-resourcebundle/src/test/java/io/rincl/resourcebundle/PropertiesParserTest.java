@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests for {@link PropertiesParser}.
+ * @author Garret Wilson
+ */
+public class PropertiesParserTest {
+
+	/**
+	 * Parses properties using both the parser and {@link Properties#load(Reader)} and verifies that the results are identical.
+	 * @param text The properties text to parse.
+	 * @return The bundle produced by the parser.
+	 * @throws IOException if there is an error loading the properties.
+	 */
+	private static CompactResourceBundle assertParsesLikeProperties(final String text) throws IOException {
+		final Properties properties = new Properties();
+		properties.load(new StringReader(text));
+		final CompactResourceBundle resourceBundle = PropertiesParser.parse(text);
+		assertThat(resourceBundle.keySet(), is(properties.stringPropertyNames()));
+		for(final String key : properties.stringPropertyNames()) {
+			assertThat(key, resourceBundle.getString(key), is(properties.getProperty(key)));
+		}
+		return resourceBundle;
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseEmpty() throws IOException {
+		assertThat(assertParsesLikeProperties("").size(), is(0));
+		assertThat(assertParsesLikeProperties("\n\r\n  \t\n").size(), is(0));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseSeparators() throws IOException {
+		final CompactResourceBundle resourceBundle = assertParsesLikeProperties("a=1\nb:2\nc 3\nd = 4\ne\t:\t5\nf  =  = 6\ng\nh=\n  i=7  \n");
+		assertThat(resourceBundle.size(), is(9));
+		assertThat(resourceBundle.getString("f"), is("= 6"));
+		assertThat(resourceBundle.getString("g"), is(""));
+		assertThat(resourceBundle.getString("i"), is("7  "));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseComments() throws IOException {
+		final CompactResourceBundle resourceBundle = assertParsesLikeProperties("#comment\n!comment=x\n  # indented comment\na=1 # not a comment\n#last");
+		assertThat(resourceBundle.size(), is(1));
+		assertThat(resourceBundle.getString("a"), is("1 # not a comment"));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseContinuationLines() throws IOException {
+		final CompactResourceBundle resourceBundle = assertParsesLikeProperties(
+				"a=one \\\n    two \\\r\n\tthree\nb=x\\\\\nc=y\\\\\\\n  z\nd=\\\n\ne=end\\");
+		assertThat(resourceBundle.getString("a"), is("one two three"));
+		assertThat(resourceBundle.getString("b"), is("x\\"));
+		assertThat(resourceBundle.getString("c"), is("y\\z"));
+		assertThat(resourceBundle.getString("e"), is("end"));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseLineTerminators() throws IOException {
+		assertThat(assertParsesLikeProperties("a=1\rb=2\r\nc=3\n\rd=4").size(), is(4));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseEscapes() throws IOException {
+		final CompactResourceBundle resourceBundle = assertParsesLikeProperties(
+				"key\\ with\\=separators\\:=value\nescapes=\\t\\r\\n\\f\\q\\\\\nunicode=touch\\u00E9\\u00e9\n\\#notcomment=\\ leading");
+		assertThat(resourceBundle.getString("key with=separators:"), is("value"));
+		assertThat(resourceBundle.getString("unicode"), is("touchéé"));
+		assertThat(resourceBundle.getString("#notcomment"), is(" leading"));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseDuplicateKeysLastWins() throws IOException {
+		final CompactResourceBundle resourceBundle = assertParsesLikeProperties("a=1\nb=2\na=3");
+		assertThat(resourceBundle.size(), is(2));
+		assertThat(resourceBundle.getString("a"), is("3"));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseManyEntries() throws IOException {
+		final StringBuilder stringBuilder = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			stringBuilder.append("key").append(i).append('=').append("value").append(i).append('\n');
+		}
+		assertThat(assertParsesLikeProperties(stringBuilder.toString()).size(), is(1000));
+	}
+
+	/** @see PropertiesParser#parse(CharSequence) */
+	@Test
+	public void testParseMalformedUnicodeEscapeThrowsException() {
+		assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("a=\\u00G9"));
+		assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("a=\\u00"));
+	}
+
+	/** @see PropertiesParser#parse(CharBuffer) */
+	@Test
+	public void testParseBufferDoesNotChangePosition() {
+		final CharBuffer buffer = CharBuffer.wrap("xxa=1\nb=2".toCharArray());
+		buffer.position(2);
+		final CompactResourceBundle resourceBundle = PropertiesParser.parse(buffer);
+		assertThat(resourceBundle.getString("a"), is("1"));
+		assertThat(resourceBundle.getString("b"), is("2"));
+		assertThat(buffer.position(), is(2));
+	}
+
+}
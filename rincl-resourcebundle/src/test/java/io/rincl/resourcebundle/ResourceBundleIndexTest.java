@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link ResourceBundleIndex} and {@link ResourceBundleIndexer}.
+ * @author Garret Wilson
+ */
+public class ResourceBundleIndexTest {
+
+	@TempDir
+	Path classesDirectory;
+
+	@BeforeEach
+	public void createBundleFiles() throws IOException {
+		final Path exampleDirectory = Files.createDirectories(classesDirectory.resolve("com").resolve("example"));
+		Files.writeString(exampleDirectory.resolve("FooBar.properties"), "foo=bar", UTF_8);
+		Files.writeString(exampleDirectory.resolve("FooBar_pt.properties"), "foo=barra", UTF_8);
+		Files.writeString(exampleDirectory.resolve("XmlFooBar.properties.xml"),
+				"<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\"><properties><entry key=\"foo\">bar</entry></properties>", UTF_8);
+		Files.writeString(exampleDirectory.resolve("readme.txt"), "not a bundle", UTF_8);
+	}
+
+	/** @see ResourceBundleIndexer#findResourceNames(Path) */
+	@Test
+	public void testIndexerFindResourceNames() throws IOException {
+		assertThat(new ResourceBundleIndexer().findResourceNames(classesDirectory),
+				contains("com/example/FooBar.properties", "com/example/FooBar_pt.properties", "com/example/XmlFooBar.properties.xml"));
+	}
+
+	/** @see ResourceBundleIndex#mayContain(String) */
+	@Test
+	public void testMayContain() throws IOException {
+		new ResourceBundleIndexer().index(classesDirectory);
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null)) {
+			final ResourceBundleIndex index = ResourceBundleIndex.load(classLoader);
+			assertThat(index.isEmpty(), is(false));
+			assertThat(index.mayContain("com/example/FooBar.properties"), is(true));
+			assertThat(index.mayContain("com/example/FooBar_pt.properties"), is(true));
+			assertThat(index.mayContain("com/example/FooBar_fr.properties"), is(false));
+			assertThat(index.mayContain("com/example/FooBar.properties.xml"), is(false));
+			assertThat(index.mayContain("com/other/Other.properties"), is(true)); //not an indexed directory
+		}
+	}
+
+	/** Tests that a class loader without an index file produces an index which considers all resources as possibly existing. */
+	@Test
+	public void testNoIndex() throws IOException {
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null)) {
+			final ResourceBundleIndex index = ResourceBundleIndex.load(classLoader);
+			assertThat(index.isEmpty(), is(true));
+			assertThat(index.mayContain("com/example/FooBar_fr.properties"), is(true));
+		}
+	}
+
+	/**
+	 * Tests that the resource bundle control does not probe the class loader for indexed bundles that do not exist.
+	 * @see RinclResourceBundleControl#newBundle(String, Locale, String, ClassLoader, boolean)
+	 */
+	@Test
+	public void testControlSkipsProbingNonexistentIndexedBundles() throws Exception {
+		new ResourceBundleIndexer().index(classesDirectory);
+		final AtomicInteger probeCount = new AtomicInteger();
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null) {
+			@Override
+			public URL getResource(final String name) {
+				probeCount.incrementAndGet();
+				return super.getResource(name);
+			}
+		}) {
+			final RinclResourceBundleControl control = RinclResourceBundleControl.DEFAULT;
+			assertThat(control.newBundle("com.example.FooBar", new Locale("pt"), RinclResourceBundleControl.JAVA_PROPERTIES_FORMAT, classLoader, false)
+					.getString("foo"), is("barra"));
+			assertThat(probeCount.get(), is(1));
+			assertThat(control.newBundle("com.example.FooBar", Locale.FRENCH, RinclResourceBundleControl.JAVA_PROPERTIES_FORMAT, classLoader, false),
+					is(nullValue()));
+			assertThat(control.newBundle("com.example.FooBar", Locale.ROOT, XmlPropertiesResourceBundleLoader.FILENAME_EXTENSION, classLoader, false),
+					is(nullValue()));
+			assertThat(probeCount.get(), is(1));
+			assertThat(ResourceBundle.getBundle("com.example.FooBar", new Locale("pt", "BR"), classLoader, control).getString("foo"), is("barra"));
+		}
+	}
+
+}
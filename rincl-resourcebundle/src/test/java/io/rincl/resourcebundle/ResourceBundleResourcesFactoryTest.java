@@ -0,0 +1,438 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.*;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.*;
+
+import io.confound.config.ConfigurationException;
+import io.rincl.*;
+
+/**
+ * Tests of {@link ResourceBundleResourcesFactory}.
+ * @author Garret Wilson
+ */
+public class ResourceBundleResourcesFactoryTest {
+
+	/**
+	 * A class loader that defines its own copy of {@link FooBar}, delegating everything else, including resources, to its parent.
+	 */
+	private static class FooBarClassLoader extends ClassLoader {
+
+		/**
+		 * Parent class loader constructor.
+		 * @param parent The parent class loader.
+		 */
+		public FooBarClassLoader(final ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if(!name.equals(FooBar.class.getName())) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized(getClassLoadingLock(name)) {
+				final Class<?> loadedClass = findLoadedClass(name);
+				if(loadedClass != null) {
+					return loadedClass;
+				}
+				try (final InputStream inputStream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					final byte[] bytes = inputStream.readAllBytes();
+					return defineClass(name, bytes, 0, bytes.length);
+				} catch(final IOException ioException) {
+					throw new ClassNotFoundException(name, ioException);
+				}
+			}
+		}
+	}
+
+	/** @see ResourceBundleResourcesFactory#findResources(Class, Locale) */
+	@Test
+	public void testFindResourcesCached() {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		assertThat(resources.getString("foo"), is("bar"));
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		assertThat(factory.findResources(FooBar.class, new Locale("pt")).orElseThrow(), is(not(sameInstance(resources))));
+	}
+
+	/** @see ResourceBundleResourcesFactory#clearCache(ClassLoader) */
+	@Test
+	public void testClearCacheForClassLoader() {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		factory.clearCache(new FooBarClassLoader(getClass().getClassLoader())); //some other class loader
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		factory.clearCache(FooBar.class.getClassLoader());
+		final Resources reloadedResources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		assertThat(reloadedResources, is(not(sameInstance(resources))));
+		assertThat(reloadedResources.getString("foo"), is("bar"));
+	}
+
+	/** @see ResourceBundleResourcesFactory#clearCache() */
+	@Test
+	public void testClearCache() {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		factory.clearCache();
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(not(sameInstance(resources))));
+	}
+
+	/**
+	 * Tests that a class loader that is no longer used can be garbage collected after resources have been found and cached for one of its classes.
+	 * @see ResourceBundleResourcesFactory#findResources(Class, Locale)
+	 */
+	@Test
+	public void testCacheDoesNotPinClassLoader() throws Exception {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final WeakReference<ClassLoader> classLoaderReference = findResourcesInDiscardableClassLoader(factory);
+		for(int i = 0; i < 100 && classLoaderReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat(classLoaderReference.get(), is(nullValue()));
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow().getString("foo"), is("bar")); //keep the factory reachable
+	}
+
+	/**
+	 * Tests that a class loader that is no longer used can be garbage collected after resources have been found for a context class of a parent class loader
+	 * using a resolving class defined by the discarded class loader, as when a shared library class is resolved to web application resources.
+	 * @see ResourceBundleResourcesFactory#findResources(Class, Locale)
+	 */
+	@Test
+	public void testCacheDoesNotPinResolvingClassLoader() throws Exception {
+		//resolve each context class to the class of the same name defined by the context class loader of the thread
+		final ResolvingClassStrategy resolvingClassStrategy = contextClass -> {
+			try {
+				return Stream.of(Class.forName(contextClass.getName(), false, Thread.currentThread().getContextClassLoader()));
+			} catch(final ClassNotFoundException classNotFoundException) {
+				throw new IllegalStateException(classNotFoundException);
+			}
+		};
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(resolvingClassStrategy);
+		final WeakReference<ClassLoader> classLoaderReference = findResourcesUsingDiscardableClassLoader(factory);
+		for(int i = 0; i < 100 && classLoaderReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat(classLoaderReference.get(), is(nullValue()));
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow().getString("foo"), is("bar")); //keep the factory reachable
+	}
+
+	/**
+	 * Finds resources for {@link FooBar} with the thread context class loader set to a new class loader defining its own copy of the class, discarding all
+	 * references to the class loader.
+	 * @param factory The factory to use for finding resources.
+	 * @return A weak reference to the class loader.
+	 */
+	private WeakReference<ClassLoader> findResourcesUsingDiscardableClassLoader(final ResourceBundleResourcesFactory factory) {
+		final ClassLoader classLoader = new FooBarClassLoader(getClass().getClassLoader());
+		final Thread thread = Thread.currentThread();
+		final ClassLoader threadContextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			for(final Locale locale : List.of(Locale.ROOT, new Locale("pt"), new Locale("pt", "BR"))) {
+				final Resources resources = factory.findResources(FooBar.class, locale).orElseThrow();
+				assertThat(resources.getString("foo"), is("bar"));
+				assertThat(resources.getContextClass(), is(not(FooBar.class)));
+			}
+		} finally {
+			thread.setContextClassLoader(threadContextClassLoader);
+		}
+		return new WeakReference<>(classLoader);
+	}
+
+	/**
+	 * Finds resources for a class defined by a new class loader, discarding all references to the class loader.
+	 * @param factory The factory to use for finding resources.
+	 * @return A weak reference to the class loader.
+	 * @throws ClassNotFoundException if the test class could not be loaded.
+	 */
+	private WeakReference<ClassLoader> findResourcesInDiscardableClassLoader(final ResourceBundleResourcesFactory factory) throws ClassNotFoundException {
+		final ClassLoader classLoader = new FooBarClassLoader(getClass().getClassLoader());
+		final Class<?> fooBarClass = classLoader.loadClass(FooBar.class.getName());
+		assertThat(fooBarClass, is(not(FooBar.class)));
+		for(final Locale locale : List.of(Locale.ROOT, new Locale("pt"), new Locale("pt", "BR"))) {
+			assertThat(factory.findResources(fooBarClass, locale).orElseThrow().getString("foo"), is("bar"));
+		}
+		return new WeakReference<>(classLoader);
+	}
+
+	/**
+	 * Tests that concurrent requests for uncached resources of the same context class and locale result in a single load.
+	 * @see ResourceBundleResourcesFactory#findResources(Class, Locale)
+	 * @see ResourceBundleResourcesFactory#getCoalescedLoadCount()
+	 */
+	@Test
+	public void testConcurrentFindResourcesLoadsOnce() throws Exception {
+		final int threadCount = 8;
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch loadStarted = new CountDownLatch(1);
+		final CountDownLatch allowLoad = new CountDownLatch(1);
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory() {
+			@Override
+			protected Optional<Resources> loadResources(final Class<?> contextClass, final Locale locale) {
+				loadCount.incrementAndGet();
+				loadStarted.countDown();
+				try {
+					allowLoad.await();
+				} catch(final InterruptedException interruptedException) {
+					throw new AssertionError(interruptedException);
+				}
+				return super.loadResources(contextClass, locale);
+			}
+		};
+		final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			final List<Future<Optional<Resources>>> futures = new ArrayList<>();
+			for(int i = 0; i < threadCount; i++) {
+				futures.add(executorService.submit(() -> factory.findResources(FooBar.class, Locale.ROOT)));
+			}
+			loadStarted.await();
+			for(int i = 0; i < 500 && factory.getCoalescedLoadCount() < threadCount - 1; i++) {
+				Thread.sleep(10);
+			}
+			assertThat(factory.getCoalescedLoadCount(), is((long)threadCount - 1));
+			allowLoad.countDown();
+			final Resources resources = futures.get(0).get().orElseThrow();
+			for(final Future<Optional<Resources>> future : futures) {
+				assertThat(future.get().orElseThrow(), is(sameInstance(resources)));
+			}
+			assertThat(loadCount.get(), is(1));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that a request waiting for a load in progress that fails with an error receives the error itself.
+	 * @see ResourceBundleResourcesFactory#findResources(Class, Locale)
+	 */
+	@Test
+	public void testConcurrentFindResourcesRethrowsError() throws Exception {
+		final CountDownLatch loadStarted = new CountDownLatch(1);
+		final CountDownLatch allowLoad = new CountDownLatch(1);
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory() {
+			@Override
+			protected Optional<Resources> loadResources(final Class<?> contextClass, final Locale locale) {
+				loadStarted.countDown();
+				try {
+					allowLoad.await();
+				} catch(final InterruptedException interruptedException) {
+					throw new AssertionError(interruptedException);
+				}
+				throw new LinkageError("test");
+			}
+		};
+		final ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			final Future<Optional<Resources>> loadingFuture = executorService.submit(() -> factory.findResources(FooBar.class, Locale.ROOT));
+			loadStarted.await();
+			final Future<Optional<Resources>> waitingFuture = executorService.submit(() -> factory.findResources(FooBar.class, Locale.ROOT));
+			for(int i = 0; i < 500 && factory.getCoalescedLoadCount() < 1; i++) {
+				Thread.sleep(10);
+			}
+			assertThat(factory.getCoalescedLoadCount(), is(1L));
+			allowLoad.countDown();
+			assertThat(Assertions.assertThrows(ExecutionException.class, loadingFuture::get).getCause(), is(instanceOf(LinkageError.class)));
+			assertThat(Assertions.assertThrows(ExecutionException.class, waitingFuture::get).getCause(), is(instanceOf(LinkageError.class)));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that a request for the same context class and locale made from within the load of those resources loads them rather than waiting forever for the
+	 * load it is part of.
+	 * @see ResourceBundleResourcesFactory#findResources(Class, Locale)
+	 */
+	@Test
+	public void testFindResourcesReentrant() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory() {
+			@Override
+			protected Optional<Resources> loadResources(final Class<?> contextClass, final Locale locale) {
+				if(loadCount.getAndIncrement() == 0) {
+					assertThat(findResources(contextClass, locale).orElseThrow().getString("foo"), is("bar"));
+				}
+				return super.loadResources(contextClass, locale);
+			}
+		};
+		final Resources resources = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> factory.findResources(FooBar.class, Locale.ROOT).orElseThrow());
+		assertThat(resources.getString("foo"), is("bar"));
+		assertThat(loadCount.get(), is(2));
+		assertThat(factory.getCoalescedLoadCount(), is(0L));
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+	}
+
+	/** @see ResourceBundleResourcesFactory#findResourcesAsync(Class, Locale, Executor) */
+	@Test
+	public void testFindResourcesAsync() throws Exception {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final Resources resources = factory.findResourcesAsync(FooBar.class, new Locale("pt")).get().orElseThrow();
+		assertThat(resources.getString("teacup"), is("chávena"));
+		assertThat(factory.findResources(FooBar.class, new Locale("pt")).orElseThrow(), is(sameInstance(resources)));
+	}
+
+	/**
+	 * Tests that cached resources are provided immediately without using the executor.
+	 * @see ResourceBundleResourcesFactory#findResourcesAsync(Class, Locale, Executor)
+	 */
+	@Test
+	public void testFindResourcesAsyncCachedDoesNotUseExecutor() {
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory();
+		final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		final CompletableFuture<Optional<Resources>> future = factory.findResourcesAsync(FooBar.class, Locale.ROOT, command -> {
+			throw new AssertionError("Executor should not be used for cached resources.");
+		});
+		assertThat(future.isDone(), is(true));
+		assertThat(future.join().orElseThrow(), is(sameInstance(resources)));
+	}
+
+	/**
+	 * Tests that resources from the parent resources factory are provided as a fallback.
+	 * @see ResourceBundleResourcesFactory#findResourcesAsync(Class, Locale, Executor)
+	 */
+	@Test
+	public void testFindResourcesAsyncChainsParentResourcesFactory() throws Exception {
+		final Resources parentResources = new ResourceBundleResourcesFactory().findResources(XmlFooBar.class, Locale.ROOT).orElseThrow();
+		final ResourcesFactory parentResourcesFactory = (contextClass, locale) -> Optional.of(parentResources);
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(parentResourcesFactory);
+		final ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			final Resources resources = factory.findResourcesAsync(FooBar.class, new Locale("pt", "BR"), executorService).get().orElseThrow();
+			assertThat(resources.getString("teacup"), is("xícara"));
+			assertThat(resources.getString("foo"), is("bar"));
+			assertThat(factory.findResourcesAsync(Object.class, Locale.ROOT, executorService).get(), is(Optional.of(parentResources))); //no bundle for Object
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that a failure of the parent resources factory completes the future exceptionally, and that the failure is not cached.
+	 * @see ResourceBundleResourcesFactory#findResourcesAsync(Class, Locale, Executor)
+	 */
+	@Test
+	public void testFindResourcesAsyncParentFailure() throws Exception {
+		final AtomicInteger failureCount = new AtomicInteger();
+		final ResourcesFactory parentResourcesFactory = (contextClass, locale) -> {
+			if(failureCount.getAndIncrement() == 0) {
+				throw new ConfigurationException("test");
+			}
+			return Optional.empty();
+		};
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(parentResourcesFactory);
+		final ExecutionException executionException = Assertions.assertThrows(ExecutionException.class,
+				() -> factory.findResourcesAsync(FooBar.class, Locale.ROOT).get());
+		assertThat(executionException.getCause(), is(instanceOf(ConfigurationException.class)));
+		assertThat(factory.findResourcesAsync(FooBar.class, Locale.ROOT).get().orElseThrow().getString("foo"), is("bar"));
+	}
+
+	/**
+	 * Tests that an executor rejecting the load does not leave a load in progress that later requests would wait for forever.
+	 * @see ResourceBundleResourcesFactory#findResourcesAsync(Class, Locale, Executor)
+	 */
+	@Test
+	public void testFindResourcesAsyncRejectingExecutor() {
+		final ResourcesFactory parentResourcesFactory = new ResourcesFactory() { //a parent that does not use the executor
+
+			@Override
+			public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) {
+				return Optional.empty();
+			}
+
+			@Override
+			public CompletableFuture<Optional<Resources>> findResourcesAsync(final Class<?> contextClass, final Locale locale, final Executor executor) {
+				return CompletableFuture.completedFuture(Optional.empty());
+			}
+		};
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(parentResourcesFactory);
+		Assertions.assertThrows(RejectedExecutionException.class, () -> factory.findResourcesAsync(FooBar.class, Locale.ROOT, command -> {
+			throw new RejectedExecutionException("test");
+		}));
+		final Resources resources = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> factory.findResources(FooBar.class, Locale.ROOT).orElseThrow());
+		assertThat(resources.getString("foo"), is("bar"));
+		assertThat(factory.findResourcesAsync(FooBar.class, Locale.ROOT, Runnable::run).join().orElseThrow(), is(sameInstance(resources)));
+	}
+
+	/**
+	 * Tests that resources loaded by a load that began before the cache was cleared are not cached after the cache is cleared.
+	 * @see ResourceBundleResourcesFactory#clearCache()
+	 */
+	@Test
+	public void testLoadInProgressDuringClearCacheIsNotCached() throws Exception {
+		final CountDownLatch loadStartedLatch = new CountDownLatch(1);
+		final CountDownLatch clearedLatch = new CountDownLatch(1);
+		final AtomicInteger parentRequestCount = new AtomicInteger();
+		final ResourcesFactory parentResourcesFactory = (contextClass, locale) -> {
+			if(parentRequestCount.getAndIncrement() == 0) { //block the first load until the cache has been cleared
+				loadStartedLatch.countDown();
+				try {
+					clearedLatch.await();
+				} catch(final InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return Optional.empty();
+		};
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(parentResourcesFactory);
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Optional<Resources>> staleLoad = executorService.submit(() -> factory.findResources(FooBar.class, Locale.ROOT));
+			loadStartedLatch.await();
+			factory.clearCache();
+			clearedLatch.countDown();
+			final Resources staleResources = staleLoad.get().orElseThrow();
+			final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+			assertThat(resources, is(not(sameInstance(staleResources))));
+			assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that cached resources are discarded when the parent resources factory changes generation.
+	 * @see ResourceBundleResourcesFactory#getResourcesGeneration()
+	 */
+	@Test
+	public void testParentGenerationChangeInvalidatesCache() {
+		final CompositeResourcesFactory parentResourcesFactory = new CompositeResourcesFactory(new ResourceBundleResourcesFactory());
+		final ResourceBundleResourcesFactory factory = new ResourceBundleResourcesFactory(parentResourcesFactory);
+		final Resources resources = factory.findResources(FooBar.class, Locale.ROOT).orElseThrow();
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		final long generation = factory.getResourcesGeneration();
+		parentResourcesFactory.clearCache();
+		assertThat(factory.getResourcesGeneration(), is(not(generation)));
+		assertThat(factory.findResources(FooBar.class, Locale.ROOT).orElseThrow(), is(not(sameInstance(resources))));
+	}
+
+}
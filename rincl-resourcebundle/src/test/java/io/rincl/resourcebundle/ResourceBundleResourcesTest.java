@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.*;
+
+import io.confound.config.*;
+import io.rincl.Resources;
+
+/**
+ * Tests of {@link ResourceBundleResources}.
+ * @author Garret Wilson
+ */
+public class ResourceBundleResourcesTest {
+
+	/** @see ResourceBundleResources#findSection(String) */
+	@Test
+	public void testFindSection() {
+		final CompactResourceBundle parentBundle = new CompactResourceBundle(Map.of("checkout.title", "Parent Checkout", "checkout.total", "Total"));
+		final CompactResourceBundle resourceBundle = new CompactResourceBundle(
+				Map.of("title", "Store", "checkout.title", "Checkout", "checkout.payment.card", "Card", "checkout.payment.cash", "Cash"));
+		resourceBundle.setParentBundle(parentBundle);
+		final ResourceBundleResources resources = new ResourceBundleResources(getClass(), resourceBundle);
+		final Section checkout = resources.getSection("checkout");
+		assertThat(checkout.getSectionRoot(), is(sameInstance(resources)));
+		assertThat(checkout.getString("title"), is("Checkout"));
+		assertThat(checkout.getString("total"), is("Total"));
+		assertThat(checkout.getString("payment.card"), is("Card"));
+		assertThat(checkout.findString("checkout.title"), is(Optional.empty()));
+		assertThat(checkout.getSection("payment").getString("cash"), is("Cash"));
+		assertThat(checkout.getSection("payment"), is(sameInstance(resources.getSection("checkout.payment"))));
+		assertThat(checkout.findSection("title"), is(Optional.empty()));
+		assertThat(resources.findSection("title"), is(Optional.empty()));
+		assertThat(resources.findSection("missing"), is(Optional.empty()));
+		assertThat(resources.getSection("checkout"), is(sameInstance(checkout)));
+	}
+
+	/**
+	 * Tests that sections contain exactly the keys with their prefix, even when other keys with similar prefixes sort between or around them.
+	 * @see ResourceBundleResources#findSection(String)
+	 */
+	@Test
+	public void testFindSectionSimilarPrefixes() {
+		final ResourceBundleResources resources = new ResourceBundleResources(getClass(), new CompactResourceBundle(Map.of("a", "A", "a-b.c", "A-B C", "a.b", "A B",
+				"a.b.c", "A B C", "a.b.c.d", "A B C D", "a.c", "A C", "a/b.c", "A/B C", "ab.c", "AB C", "b.a", "B A")));
+		final Section a = resources.getSection("a");
+		assertThat(a.getString("b"), is("A B"));
+		assertThat(a.getString("b.c"), is("A B C"));
+		assertThat(a.getString("c"), is("A C"));
+		assertThat(a.findString("a"), is(Optional.empty()));
+		assertThat(a.findString("d"), is(Optional.empty()));
+		assertThat(a.findSection("c"), is(Optional.empty()));
+		final Section ab = a.getSection("b");
+		assertThat(ab.getString("c"), is("A B C"));
+		assertThat(ab.findString("b"), is(Optional.empty()));
+		assertThat(ab.getSection("c").getString("d"), is("A B C D"));
+		assertThat(a.getSection("b.c"), is(sameInstance(ab.getSection("c"))));
+		assertThat(resources.getSection("a-b").getString("c"), is("A-B C"));
+		assertThat(resources.getSection("a/b").getString("c"), is("A/B C"));
+		assertThat(resources.getSection("ab").getString("c"), is("AB C"));
+		assertThat(resources.getSection("ab").findString("b.c"), is(Optional.empty()));
+		assertThat(resources.getSection("b").getString("a"), is("B A"));
+		assertThat(resources.findSection("a.b.c.d"), is(Optional.empty()));
+	}
+
+	/** @see ResourceBundleResources#findSection(String) */
+	@Test
+	public void testSectionKeys() {
+		final ResourceBundleResources resources = new ResourceBundleResources(getClass(),
+				new CompactResourceBundle(Map.of("title", "Store", "checkout.title", "Checkout", "checkout.payment.card", "Card", "customer.name", "Name")));
+		assertThat(resources.isEnumerable(), is(true));
+		final Resources checkout = (Resources)resources.getSection("checkout"); //sections of resources are themselves resources
+		assertThat(checkout.isEnumerable(), is(true));
+		assertThat(checkout.keys().collect(Collectors.toList()), contains("payment.card", "title"));
+		assertThat(checkout.stringEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)), is(Map.of("payment.card", "Card", "title", "Checkout")));
+	}
+
+	/** Tests that a section resource that is not a string is reported when it is requested. */
+	@Test
+	public void testFindSectionNonStringResource() {
+		final ResourceBundleResources resources = new ResourceBundleResources(getClass(),
+				new CompactResourceBundle(Map.of("section.string", "String", "section.number", 123)));
+		final Section section = resources.getSection("section");
+		assertThat(section.getString("string"), is("String"));
+		assertThrows(ConfigurationException.class, () -> section.findString("number"));
+	}
+
+}
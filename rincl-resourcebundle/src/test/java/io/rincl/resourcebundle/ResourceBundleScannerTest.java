@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.resourcebundle;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.*;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ResourceBundleScanner} and bulk preloading using {@link RinclResourceBundleControl#preload(ClassLoader)} and
+ * {@link RinclResourceBundleControl#preload(ClassLoader, String...)}.
+ * @author Garret Wilson
+ */
+public class ResourceBundleScannerTest {
+
+	@TempDir
+	Path tempDirectory;
+
+	private Path classesDirectory;
+
+	private Path jarFile;
+
+	@BeforeEach
+	public void createBundleFiles() throws IOException {
+		classesDirectory = tempDirectory.resolve("classes");
+		final Path exampleDirectory = Files.createDirectories(classesDirectory.resolve("com").resolve("example"));
+		Files.writeString(exampleDirectory.resolve("FooBar.properties"), "foo=bar\nteacup=teacup", UTF_8);
+		Files.writeString(exampleDirectory.resolve("FooBar_pt.properties"), "teacup=chávena", UTF_8);
+		Files.writeString(exampleDirectory.resolve("readme.txt"), "not a bundle", UTF_8);
+		Files.writeString(classesDirectory.resolve("log4j.properties"), "log4j.rootLogger=INFO", UTF_8);
+		jarFile = tempDirectory.resolve("bundles.jar");
+		try (final JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for(final Map.Entry<String, String> entry : Map.of("com/example/FooBar.properties", "foo=shadowed", "com/example/FooBar_pt_BR.properties",
+					"teacup=xícara", "com/example/XmlFooBar.properties.xml",
+					"<?xml version=\"1.0\" encoding=\"UTF-8\"?><properties><entry key=\"foo\">bar</entry></properties>", "com/example/Broken.properties.xml",
+					"<properties><entry>", "com/example/Example.class", "").entrySet()) {
+				jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+				jarOutputStream.write(entry.getValue().getBytes(UTF_8));
+				jarOutputStream.closeEntry();
+			}
+		}
+	}
+
+	/** @return A control supporting properties and XML properties files. */
+	private static RinclResourceBundleControl createControl() {
+		return new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+	}
+
+	/** @see ResourceBundleScanner#load(Collection) */
+	@Test
+	public void testLoad() throws IOException {
+		final Map<String, ResourceBundle> resourceBundles = new ResourceBundleScanner(createControl()).load(List.of(classesDirectory, jarFile));
+		assertThat(resourceBundles.keySet(), containsInAnyOrder("log4j.properties", "com/example/FooBar.properties", "com/example/FooBar_pt.properties",
+				"com/example/FooBar_pt_BR.properties", "com/example/XmlFooBar.properties.xml"));
+		assertThat(resourceBundles.get("com/example/FooBar.properties").getString("foo"), is("bar")); //the earlier location takes precedence
+		assertThat(resourceBundles.get("com/example/FooBar_pt_BR.properties").getString("teacup"), is("xícara"));
+		assertThat(resourceBundles.get("com/example/XmlFooBar.properties.xml").getString("foo"), is("bar"));
+	}
+
+	/** @see ResourceBundleScanner#load(Collection, java.util.function.Predicate) */
+	@Test
+	public void testLoadFiltered() throws IOException {
+		final Map<String, ResourceBundle> resourceBundles = new ResourceBundleScanner(createControl()).load(List.of(classesDirectory, jarFile),
+				resourceName -> resourceName.startsWith("com/example/FooBar_"));
+		assertThat(resourceBundles.keySet(), containsInAnyOrder("com/example/FooBar_pt.properties", "com/example/FooBar_pt_BR.properties"));
+	}
+
+	/** @see ResourceBundleScanner#findClassPathLocations(ClassLoader) */
+	@Test
+	public void testFindClassPathLocations() throws IOException {
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL(), jarFile.toUri().toURL()},
+				getClass().getClassLoader())) {
+			final List<Path> locations = ResourceBundleScanner.findClassPathLocations(classLoader);
+			assertThat(locations.subList(locations.size() - 2, locations.size()), contains(classesDirectory, jarFile));
+		}
+	}
+
+	/** @see RinclResourceBundleControl#findResourceBundleLoader(String) */
+	@Test
+	public void testFindResourceBundleLoader() {
+		final RinclResourceBundleControl control = createControl();
+		assertThat(control.findResourceBundleLoader("com/example/FooBar.properties").get(), is(CharsetDetectingPropertiesResourceBundleLoader.INSTANCE));
+		assertThat(control.findResourceBundleLoader("com/example/FooBar.properties.xml").get(), is(instanceOf(XmlPropertiesResourceBundleLoader.class)));
+		assertThat(control.findResourceBundleLoader("com/example/FooBar.txt").isPresent(), is(false));
+		assertThat(control.findResourceBundleLoader("properties").isPresent(), is(false));
+	}
+
+	/**
+	 * Creates a class loader for the test locations, counting the bundle resources it is asked to locate.
+	 * @param fetchCount The count of bundle resources located.
+	 * @return A new class loader with no parent.
+	 * @throws IOException if there is an error creating a location URL.
+	 */
+	private URLClassLoader createClassLoader(final AtomicInteger fetchCount) throws IOException {
+		return new URLClassLoader(new URL[] {classesDirectory.toUri().toURL(), jarFile.toUri().toURL()}, null) {
+			@Override
+			public URL getResource(final String name) {
+				if(name.endsWith(".properties") || name.endsWith(".properties.xml")) {
+					fetchCount.incrementAndGet();
+				}
+				return super.getResource(name);
+			}
+		};
+	}
+
+	/**
+	 * Tests that the bundles of the given packages are preloaded into the bundle cache and used without locating them using the class loader.
+	 * @see RinclResourceBundleControl#preload(ClassLoader, String...)
+	 */
+	@Test
+	public void testPreloadPackages() throws IOException {
+		final AtomicInteger fetchCount = new AtomicInteger();
+		try (final URLClassLoader classLoader = createClassLoader(fetchCount)) {
+			final RinclResourceBundleControl control = createControl();
+			assertThat(control.preload(classLoader, "com.example"), is(4)); //the root log4j.properties is not included
+			assertThat(control.getBundleCache().size(), is(4));
+			assertThat(fetchCount.getAndSet(0), is(1)); //only the bundle present in both locations is located using the class loader
+			final ResourceBundle resourceBundle = ResourceBundle.getBundle("com.example.FooBar", Locale.forLanguageTag("pt-BR"), classLoader, control);
+			assertThat(resourceBundle.getString("teacup"), is("xícara"));
+			assertThat(resourceBundle.getString("foo"), is("bar"));
+			assertThat(fetchCount.get(), is(0));
+		}
+	}
+
+	/**
+	 * Tests that only the bundles listed in the bundle index are preloaded, and that nothing is preloaded without an index.
+	 * @see RinclResourceBundleControl#preload(ClassLoader)
+	 */
+	@Test
+	public void testPreloadIndexed() throws IOException {
+		final AtomicInteger fetchCount = new AtomicInteger();
+		try (final URLClassLoader classLoader = createClassLoader(fetchCount)) {
+			assertThat(createControl().preload(classLoader), is(0));
+		}
+		final Path indexFile = classesDirectory.resolve(ResourceBundleIndex.RESOURCE_NAME);
+		Files.createDirectories(indexFile.getParent());
+		Files.writeString(indexFile, "com/example/FooBar.properties\ncom/example/FooBar_pt.properties\ncom/example/FooBar_pt_BR.properties\n", UTF_8);
+		try (final URLClassLoader classLoader = createClassLoader(fetchCount)) {
+			final RinclResourceBundleControl control = createControl();
+			assertThat(control.preload(classLoader), is(3));
+			assertThat(control.getBundleCache().size(), is(3));
+			assertThat(fetchCount.getAndSet(0), is(1)); //only the bundle present in both locations is located using the class loader
+			final ResourceBundle resourceBundle = ResourceBundle.getBundle("com.example.FooBar", Locale.forLanguageTag("pt-BR"), classLoader, control);
+			assertThat(resourceBundle.getString("teacup"), is("xícara"));
+			assertThat(fetchCount.get(), is(0));
+		}
+	}
+
+	/**
+	 * Tests that a bundle present in more than one location is preloaded from the location the class loader would use, even if the class loader does not
+	 * delegate to its parent first.
+	 * @see RinclResourceBundleControl#preload(ClassLoader, String...)
+	 * @see ResourceBundleScanner#load(Collection, java.util.function.Predicate, ClassLoader)
+	 */
+	@Test
+	public void testPreloadUsesClassLoaderPrecedence() throws IOException {
+		try (final URLClassLoader parentClassLoader = new URLClassLoader(new URL[] {jarFile.toUri().toURL()}, null)) {
+			try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, parentClassLoader)) {
+				final RinclResourceBundleControl control = createControl();
+				assertThat(control.preload(classLoader, "com.example"), is(4));
+				assertThat(ResourceBundle.getBundle("com.example.FooBar", Locale.ROOT, classLoader, control).getString("foo"), is("shadowed"));
+			}
+			try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, parentClassLoader) {
+				@Override
+				public URL getResource(final String name) { //search this class loader before its parent
+					final URL resourceURL = findResource(name);
+					return resourceURL != null ? resourceURL : super.getResource(name);
+				}
+			}) {
+				final RinclResourceBundleControl control = createControl();
+				assertThat(control.preload(classLoader, "com.example"), is(4));
+				assertThat(ResourceBundle.getBundle("com.example.FooBar", Locale.ROOT, classLoader, control).getString("foo"), is("bar"));
+			}
+		}
+	}
+
+	/**
+	 * Tests that preloaded bundles count against the maximum weight of the bundle cache.
+	 * @see RinclResourceBundleControl#preload(ClassLoader, String...)
+	 */
+	@Test
+	public void testPreloadBoundedByBundleCache() throws IOException {
+		try (final URLClassLoader classLoader = createClassLoader(new AtomicInteger())) {
+			final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()), new BundleCache(1024));
+			assertThat(control.preload(classLoader, "com.example"), is(4));
+			assertThat(control.getBundleCache().getWeight(), is(lessThanOrEqualTo(1024L)));
+			assertThat(control.getBundleCache().getEvictionCount(), is(greaterThan(0L)));
+		}
+	}
+
+}
@@ -16,10 +16,21 @@
 
 package io.rincl.resourcebundle;
 
+import static java.nio.charset.StandardCharsets.*;
+
 import java.io.IOException;
+import java.net.*;
+import java.nio.file.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 import static com.globalmentor.io.ClassResources.*;
 import static io.rincl.resourcebundle.RinclResourceBundleControl.*;
@@ -149,4 +160,166 @@ public void testNewBundleXmlPropertiesUtf8Bom() throws IOException, Instantiatio
 		assertThat(resourceBundle.getString("test"), is("touché"));
 	}
 
+	@TempDir
+	Path classesDirectory;
+
+	/**
+	 * Tests that a bundle found to be absent in a format is not probed for again unless reloading or until the cache of the class loader is cleared, and that
+	 * absence found using one class loader does not apply to another.
+	 * @see RinclResourceBundleControl#newBundle(String, Locale, String, ClassLoader, boolean)
+	 * @see RinclResourceBundleControl#clearCache(ClassLoader)
+	 */
+	@Test
+	public void testNewBundleRemembersAbsentBundles() throws IOException, InstantiationException, IllegalAccessException {
+		final Path exampleDirectory = Files.createDirectories(classesDirectory.resolve("com").resolve("example"));
+		final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.empty());
+		final String baseName = "com.example.Added";
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null);
+				final URLClassLoader otherClassLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null)) {
+			assertThat(control.newBundle(baseName, Locale.ROOT, JAVA_PROPERTIES_FORMAT, classLoader, false), is(nullValue()));
+			Files.writeString(exampleDirectory.resolve("Added.properties"), "foo=bar", UTF_8);
+			assertThat(control.newBundle(baseName, Locale.ROOT, JAVA_PROPERTIES_FORMAT, classLoader, false), is(nullValue()));
+			assertThat(control.newBundle(baseName, Locale.ROOT, JAVA_PROPERTIES_FORMAT, otherClassLoader, false).getString("foo"), is("bar"));
+			control.clearCache(classLoader);
+			assertThat(control.newBundle(baseName, Locale.ROOT, JAVA_PROPERTIES_FORMAT, classLoader, false).getString("foo"), is("bar"));
+			assertThat(control.newBundle(baseName, Locale.FRENCH, JAVA_PROPERTIES_FORMAT, classLoader, false), is(nullValue()));
+			Files.writeString(exampleDirectory.resolve("Added_fr.properties"), "foo=barre", UTF_8);
+			assertThat(control.newBundle(baseName, Locale.FRENCH, JAVA_PROPERTIES_FORMAT, classLoader, false), is(nullValue()));
+			assertThat(control.newBundle(baseName, Locale.FRENCH, JAVA_PROPERTIES_FORMAT, classLoader, true).getString("foo"), is("barre"));
+			assertThat(control.newBundle(baseName, Locale.FRENCH, JAVA_PROPERTIES_FORMAT, classLoader, false).getString("foo"), is("barre"));
+		}
+	}
+
+	/**
+	 * Tests finding the bundles of a family stored in different formats, regardless of the order in which the bundles are first requested.
+	 * @see RinclResourceBundleControl#findBundle(String, Locale, ClassLoader)
+	 */
+	@Test
+	public void testFindBundleMixedFormatFamily() throws IOException {
+		final Path exampleDirectory = Files.createDirectories(classesDirectory.resolve("com").resolve("example"));
+		Files.writeString(exampleDirectory.resolve("Mixed.properties"), "foo=bar\nteacup=teacup", UTF_8);
+		Files.writeString(exampleDirectory.resolve("Mixed_fr.properties.xml"),
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\">\n"
+						+ "<properties><entry key=\"teacup\">tasse</entry></properties>",
+				UTF_8);
+		Files.writeString(exampleDirectory.resolve("Mixed_pt.properties"), "teacup=chávena", UTF_8);
+		final String baseName = "com.example.Mixed";
+		final Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.ENGLISH);
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null)) {
+			//look up the root bundle first
+			RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+			assertThat(control.findBundle(baseName, Locale.ROOT, classLoader).orElseThrow().getString("teacup"), is("teacup"));
+			assertThat(control.findBundle(baseName, Locale.FRENCH, classLoader).orElseThrow().getString("teacup"), is("tasse"));
+			assertThat(control.findBundle(baseName, new Locale("pt"), classLoader).orElseThrow().getString("teacup"), is("chávena"));
+			//look up a translation in another format first
+			control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+			final ResourceBundle frenchBundle = control.findBundle(baseName, Locale.FRENCH, classLoader).orElseThrow();
+			assertThat(frenchBundle.getString("teacup"), is("tasse"));
+			assertThat(frenchBundle.getString("foo"), is("bar")); //from the base bundle
+			assertThat(control.findBundle(baseName, new Locale("pt"), classLoader).orElseThrow().getString("teacup"), is("chávena"));
+			assertThat(control.findBundle(baseName, Locale.ROOT, classLoader).orElseThrow().getString("teacup"), is("teacup"));
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	/** @see RinclResourceBundleControl#findBundle(String, Locale, ClassLoader) */
+	@Test
+	public void testFindBundle() {
+		final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String fooBarBaseName = FooBar.class.getName();
+		assertThat(control.findBundle(fooBarBaseName, Locale.ROOT, classLoader).orElseThrow().getString("teacup"), is("teacup"));
+		assertThat(control.findBundle(fooBarBaseName, new Locale("pt"), classLoader).orElseThrow().getString("teacup"), is("chávena"));
+		final ResourceBundle brazilianResourceBundle = control.findBundle(fooBarBaseName, new Locale("pt", "BR"), classLoader).orElseThrow();
+		assertThat(brazilianResourceBundle.getString("teacup"), is("xícara"));
+		assertThat(brazilianResourceBundle.getString("foo"), is("bar")); //from the base bundle
+		assertThat(control.findBundle(XmlFooBar.class.getName(), new Locale("fr"), classLoader).orElseThrow().getString("foo"), is("bar"));
+		assertThat(control.findBundle("com.example.Missing", new Locale("pt"), classLoader), is(Optional.empty()));
+	}
+
+	/**
+	 * Tests that linking the bundles found to their parents does not modify the bundles in the bundle cache.
+	 * @see RinclResourceBundleControl#findBundle(String, Locale, ClassLoader)
+	 */
+	@Test
+	public void testFindBundleDoesNotModifyCachedBundles() {
+		final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.of(new XmlPropertiesResourceBundleLoader()));
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String fooBarBaseName = FooBar.class.getName();
+		final Locale brazilianPortuguese = new Locale("pt", "BR");
+		assertThat(control.findBundle(fooBarBaseName, brazilianPortuguese, classLoader).orElseThrow().getString("foo"), is("bar")); //from the base bundle
+		final ResourceBundle cachedBundle = control.getBundleCache()
+				.find(classLoader, control.toResourceName(control.toBundleName(fooBarBaseName, brazilianPortuguese), "properties")).orElseThrow();
+		assertThat(cachedBundle.getString("teacup"), is("xícara"));
+		assertThat(cachedBundle.containsKey("foo"), is(false));
+	}
+
+	/**
+	 * Performs many concurrent cold lookups using {@link RinclResourceBundleControl#findBundle(String, Locale, ClassLoader)}. If the runtime supports virtual
+	 * threads, the lookups are performed on thousands of virtual threads; otherwise platform threads are used. The default locale is fixed during the test, as
+	 * it determines the fallback for locales with no bundles.
+	 * <p>
+	 * The lookups are recorded using JFR, and any virtual thread pinned during a lookup must have been pinned by one of the known remaining sources of
+	 * intrinsic locks: locating resources and classes using the class loader, and reading from a JAR file. On a runtime without virtual threads no pinning
+	 * events are recorded.
+	 * </p>
+	 * @see RinclResourceBundleControl#findBundle(String, Locale, ClassLoader)
+	 */
+	@Test
+	public void testFindBundleConcurrentColdLookups() throws Exception {
+		final int baseNameCount = 100;
+		final int lookupCount = 5000;
+		final List<Locale> locales = List.of(Locale.ROOT, new Locale("pt"), new Locale("pt", "BR"), new Locale("fr"));
+		final Path exampleDirectory = Files.createDirectories(classesDirectory.resolve("com").resolve("example"));
+		for(int i = 0; i < baseNameCount; i++) {
+			Files.writeString(exampleDirectory.resolve("Bundle" + i + ".properties"), "name=root" + i + "\nbase=base" + i, UTF_8);
+			Files.writeString(exampleDirectory.resolve("Bundle" + i + "_pt.properties"), "name=pt" + i, UTF_8);
+			Files.writeString(exampleDirectory.resolve("Bundle" + i + "_pt_BR.properties"), "name=pt_BR" + i, UTF_8);
+		}
+		ExecutorService executorService;
+		try {
+			executorService = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(final NoSuchMethodException noSuchMethodException) { //no virtual thread support
+			executorService = Executors.newFixedThreadPool(64);
+		}
+		final Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.ENGLISH);
+		final Path recordingFile = classesDirectory.resolve("lookups.jfr");
+		try (final URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, null);
+				final Recording recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace(); //ignored if the runtime has no such event
+			recording.start();
+			final RinclResourceBundleControl control = new RinclResourceBundleControl(Stream.empty());
+			final List<Future<?>> futures = new ArrayList<>(lookupCount);
+			for(int i = 0; i < lookupCount; i++) {
+				final int bundleIndex = i % baseNameCount;
+				final Locale locale = locales.get((i / baseNameCount) % locales.size());
+				futures.add(executorService.submit(() -> {
+					final ResourceBundle resourceBundle = control.findBundle("com.example.Bundle" + bundleIndex, locale, classLoader).orElseThrow();
+					final String expectedName = locale.getLanguage().equals("pt") ? locale.toString() + bundleIndex : "root" + bundleIndex;
+					assertThat(resourceBundle.getString("name"), is(expectedName));
+					assertThat(resourceBundle.getString("base"), is("base" + bundleIndex));
+				}));
+			}
+			for(final Future<?> future : futures) {
+				future.get();
+			}
+			recording.stop();
+			recording.dump(recordingFile);
+		} finally {
+			Locale.setDefault(defaultLocale);
+			executorService.shutdown();
+		}
+		for(final RecordedEvent pinnedEvent : RecordingFile.readAllEvents(recordingFile)) {
+			final List<String> frameClassNames = new ArrayList<>();
+			for(final RecordedFrame frame : pinnedEvent.getStackTrace().getFrames()) {
+				frameClassNames.add(frame.getMethod().getType().getName());
+			}
+			assertThat(frameClassNames, hasItem(anyOf(startsWith("java.lang.ClassLoader"), startsWith("java.net.URLClassLoader"),
+					startsWith("jdk.internal.loader."), startsWith("java.util.zip."), startsWith("java.util.jar."))));
+		}
+	}
+
 }
@@ -16,13 +16,18 @@
 
 package io.rincl.resourcebundle;
 
+import static java.nio.charset.StandardCharsets.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.*;
 import java.util.*;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.globalmentor.util.HashMapResourceBundle;
 
 /**
  * Tests for {@link XmlPropertiesResourceBundleLoader}.
@@ -60,4 +65,109 @@ public void testLoadXmlUtf8NoBom() throws IOException {
 		}
 	}
 
+	/**
+	 * Creates the bytes of a properties XML document.
+	 * @param entryCount The number of entries to generate.
+	 * @return The bytes of the UTF-8 encoded XML document.
+	 */
+	private static byte[] createXml(final int entryCount) {
+		final StringBuilder stringBuilder = new StringBuilder();
+		stringBuilder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		stringBuilder.append("<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\">\n");
+		stringBuilder.append("<properties>\n\t<comment>Generated &amp; large.</comment>\n");
+		for(int i = 0; i < entryCount; i++) {
+			stringBuilder.append("\t<entry key=\"key.").append(i).append("\">touché &lt;").append(i).append("&gt; <![CDATA[&]]></entry>\n");
+		}
+		stringBuilder.append("\t<entry key=\"empty\"/>\n");
+		stringBuilder.append("</properties>\n");
+		return stringBuilder.toString().getBytes(UTF_8);
+	}
+
+	/**
+	 * Loads a resource bundle the way this loader did before streaming was introduced, for comparison.
+	 * @param bytes The bytes of the properties XML document.
+	 * @return A resource bundle containing the properties.
+	 * @throws IOException if there is an error loading the properties.
+	 */
+	private static ResourceBundle loadUsingProperties(final byte[] bytes) throws IOException {
+		final Properties properties = new Properties();
+		properties.loadFromXML(new ByteArrayInputStream(bytes));
+		return new HashMapResourceBundle(properties);
+	}
+
+	/**
+	 * Verifies that the streaming loader produces the same properties as {@link Properties#loadFromXML(InputStream)}.
+	 * @see XmlPropertiesResourceBundleLoader#load(InputStream)
+	 */
+	@Test
+	public void testLoadXmlLikeProperties() throws IOException {
+		final byte[] bytes = createXml(1000);
+		final ResourceBundle expectedResourceBundle = loadUsingProperties(bytes);
+		final ResourceBundle resourceBundle = new XmlPropertiesResourceBundleLoader().load(new ByteArrayInputStream(bytes));
+		assertThat(resourceBundle.keySet(), is(expectedResourceBundle.keySet()));
+		for(final String key : expectedResourceBundle.keySet()) {
+			assertThat(key, resourceBundle.getString(key), is(expectedResourceBundle.getString(key)));
+		}
+		assertThat(resourceBundle.getString("key.7"), is("touché <7> &"));
+		assertThat(resourceBundle.getString("empty"), is(""));
+	}
+
+	/** @see XmlPropertiesResourceBundleLoader#load(InputStream) */
+	@Test
+	public void testLoadXmlDoesNotCloseInputStream() throws IOException {
+		final boolean[] closed = {false};
+		final InputStream inputStream = new ByteArrayInputStream(createXml(1)) {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+				super.close();
+			}
+		};
+		new XmlPropertiesResourceBundleLoader().load(inputStream);
+		assertThat(closed[0], is(false));
+	}
+
+	/** @see XmlPropertiesResourceBundleLoader#load(InputStream) */
+	@Test
+	public void testLoadXmlInvalidThrowsException() {
+		final XmlPropertiesResourceBundleLoader loader = new XmlPropertiesResourceBundleLoader();
+		assertThrows(InvalidPropertiesFormatException.class,
+				() -> loader.load(new ByteArrayInputStream("<properties><entry key=\"a\">1</properties>".getBytes(UTF_8))));
+		assertThrows(InvalidPropertiesFormatException.class, () -> loader.load(new ByteArrayInputStream("<foo/>".getBytes(UTF_8))));
+		assertThrows(InvalidPropertiesFormatException.class,
+				() -> loader.load(new ByteArrayInputStream("<properties><entry>1</entry></properties>".getBytes(UTF_8))));
+		assertThrows(InvalidPropertiesFormatException.class,
+				() -> loader.load(new ByteArrayInputStream("<properties><bar key=\"a\">1</bar></properties>".getBytes(UTF_8))));
+	}
+
+	/**
+	 * Benchmarks loading a large XML bundle using the streaming loader, verifying that it is faster than {@link Properties#loadFromXML(InputStream)}, which
+	 * builds a DOM of the document. Enable with <code>-Drincl.benchmark=true</code>.
+	 * @see XmlPropertiesResourceBundleLoader#load(InputStream)
+	 */
+	@Test
+	@Tag("benchmark")
+	@EnabledIfSystemProperty(named = "rincl.benchmark", matches = "true")
+	public void benchmarkLoadLargeXml() throws IOException {
+		final byte[] bytes = createXml(20_000);
+		final XmlPropertiesResourceBundleLoader loader = new XmlPropertiesResourceBundleLoader();
+		final int warmupIterations = 20;
+		final int iterations = 50;
+		for(int i = 0; i < warmupIterations; i++) {
+			loadUsingProperties(bytes);
+			loader.load(new ByteArrayInputStream(bytes));
+		}
+		long startTime = System.nanoTime();
+		for(int i = 0; i < iterations; i++) {
+			loadUsingProperties(bytes);
+		}
+		final long propertiesNanos = System.nanoTime() - startTime;
+		startTime = System.nanoTime();
+		for(int i = 0; i < iterations; i++) {
+			loader.load(new ByteArrayInputStream(bytes));
+		}
+		final long streamingNanos = System.nanoTime() - startTime;
+		assertThat(streamingNanos, is(lessThan(propertiesNanos)));
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.*;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.markup.repeater.AbstractRepeater;
+
+/**
+ * Cache of plans for searching the resources of a component hierarchy, shared among components with structurally identical hierarchies.
+ * <p>
+ * For a component nested in containers, resources are searched for in the same order as Wicket's
+ * {@link org.apache.wicket.resource.loader.ComponentStringResourceLoader}: starting with the class of the root of the hierarchy (usually a page) and going
+ * down through the class of each container to the class of the component itself, so that a page can override the strings of the components it contains. For
+ * each container, a key prefixed with the path of the component relative to that container is tried before the unprefixed key; for example a key
+ * <code>Required</code> for a component with ID <code>name</code> in a form with ID <code>form</code> would be searched as <code>form.name.Required</code>
+ * and then <code>Required</code> in the class of the page, <code>name.Required</code> and then <code>Required</code> in the class of the form, and
+ * <code>Required</code> in the class of the component.
+ * </p>
+ * <p>
+ * The IDs of repeater items, such as the rows of a {@link org.apache.wicket.markup.html.list.ListView}, are not included in the paths. Components with the
+ * same classes and IDs along their hierarchy, ignoring repeater item IDs, thus have the same <dfn>path shape</dfn> and share a single search plan, so that the
+ * candidate keys need only be computed once for all the rows of a repeater.
+ * </p>
+ * @author Garret Wilson
+ */
+public class ComponentSearchPlans {
+
+	/** The maximum number of path shapes for which plans will be cached, so that arbitrary component hierarchies cannot exhaust memory. */
+	static final int MAX_PLAN_COUNT = 1024;
+
+	/** The maximum number of keys for which candidate keys will be cached in each plan. */
+	static final int MAX_PLAN_KEY_COUNT = 256;
+
+	/** The cached plans of root components, keyed to component class and then to path segment. */
+	private volatile Map<Class<?>, Map<String, SearchPlan>> rootPlans = new ConcurrentHashMap<>();
+
+	/** The number of plans currently cached. */
+	private final AtomicInteger planCount = new AtomicInteger();
+
+	/**
+	 * Determines the path segment a component contributes to resource paths.
+	 * @param component The component.
+	 * @return The ID of the component, or the empty string if the component is the root of its hierarchy (usually a page) or a repeater item, the IDs of which
+	 *         do not contribute to resource paths.
+	 */
+	private static String pathSegmentOf(@Nonnull final Component component) {
+		final Component parent = component.getParent();
+		return parent == null || parent instanceof AbstractRepeater ? "" : component.getId();
+	}
+
+	/**
+	 * Retrieves the search plan for a component, creating it if needed.
+	 * @implSpec Plans are cached as a tree: the plan of a component is found among the child plans of the plan of its parent, keyed to the class of the
+	 *           component and its path segment. Retrieving a cached plan therefore walks the hierarchy of the component only once and allocates no objects.
+	 * @param component The component.
+	 * @return The search plan for the path shape of the component.
+	 * @throws NullPointerException if the given component is <code>null</code>.
+	 */
+	public SearchPlan getPlan(@Nonnull final Component component) {
+		final Component parent = component.getParent();
+		final SearchPlan parentPlan = parent != null ? getPlan(parent) : null;
+		final Map<Class<?>, Map<String, SearchPlan>> plans = parentPlan != null ? parentPlan.childPlans : rootPlans;
+		final Class<?> componentClass = component.getClass();
+		final String pathSegment = pathSegmentOf(component);
+		Map<String, SearchPlan> classPlans = plans.get(componentClass);
+		SearchPlan plan = classPlans != null ? classPlans.get(pathSegment) : null;
+		if(plan == null) {
+			plan = new SearchPlan(parentPlan, pathSegment);
+			if(planCount.get() < MAX_PLAN_COUNT) {
+				if(classPlans == null) {
+					classPlans = plans.computeIfAbsent(componentClass, __ -> new ConcurrentHashMap<>());
+				}
+				final SearchPlan existingPlan = classPlans.putIfAbsent(pathSegment, plan);
+				if(existingPlan != null) {
+					plan = existingPlan;
+				} else {
+					planCount.incrementAndGet();
+				}
+			}
+		}
+		return plan;
+	}
+
+	/** @return The number of plans currently cached. */
+	int getPlanCount() {
+		return planCount.get();
+	}
+
+	/** Discards all cached plans. */
+	public void clear() {
+		rootPlans = new ConcurrentHashMap<>();
+		planCount.set(0);
+	}
+
+	/**
+	 * The plan for searching the resources of components with a particular path shape. The plan is a sequence of candidates, each consisting of the depth in
+	 * the hierarchy of the container the resources of which should be searched, and the prefix to add to the key. The candidates start with the root of the
+	 * hierarchy, so their depths never increase.
+	 * @author Garret Wilson
+	 */
+	public static final class SearchPlan {
+
+		/** The depth in the hierarchy of the container of each candidate, with zero indicating the component itself. */
+		private final int[] depths;
+
+		/** The key prefix of each candidate, which may be empty. */
+		private final String[] prefixes;
+
+		/** The cached candidate keys, keyed to resource keys. */
+		private final Map<String, String[]> keyCandidateKeys = new ConcurrentHashMap<>();
+
+		/** The cached plans of child components, keyed to component class and then to path segment. */
+		private final Map<Class<?>, Map<String, SearchPlan>> childPlans = new ConcurrentHashMap<>();
+
+		/**
+		 * Parent plan constructor.
+		 * @implNote The candidates are derived from those of the parent plan: each container of the parent is a container of the component one level further
+		 *           up, with the path segment of the component appended to the prefixed key. The component itself is searched last.
+		 * @param parentPlan The plan of the parent container of the component, or <code>null</code> if the component is the root of its hierarchy.
+		 * @param pathSegment The path segment the component contributes to resource paths, or the empty string if none.
+		 */
+		private SearchPlan(@Nullable final SearchPlan parentPlan, @Nonnull final String pathSegment) {
+			final int parentCandidateCount = parentPlan != null ? parentPlan.depths.length : 0;
+			final List<Integer> depthList = new ArrayList<>(parentCandidateCount * 2 + 1);
+			final List<String> prefixList = new ArrayList<>(parentCandidateCount * 2 + 1);
+			for(int parentIndex = 0; parentIndex < parentCandidateCount; parentIndex++) {
+				final String parentPrefix = parentPlan.prefixes[parentIndex];
+				if(!parentPrefix.isEmpty()) { //each depth starts with an optional prefixed candidate, followed by its unprefixed candidate
+					continue;
+				}
+				final int parentDepth = parentPlan.depths[parentIndex];
+				final String parentPathPrefix = parentIndex > 0 && parentPlan.depths[parentIndex - 1] == parentDepth ? parentPlan.prefixes[parentIndex - 1]
+						: "";
+				final String prefix = pathSegment.isEmpty() ? parentPathPrefix : parentPathPrefix + pathSegment + ".";
+				if(!prefix.isEmpty()) {
+					depthList.add(parentDepth + 1);
+					prefixList.add(prefix);
+				}
+				depthList.add(parentDepth + 1);
+				prefixList.add("");
+			}
+			depthList.add(0);
+			prefixList.add("");
+			depths = depthList.stream().mapToInt(Integer::intValue).toArray();
+			prefixes = prefixList.toArray(String[]::new);
+		}
+
+		/** @return The number of candidates in the plan. */
+		public int getCandidateCount() {
+			return depths.length;
+		}
+
+		/**
+		 * Returns the depth in the hierarchy of the container the resources of which should be searched for a candidate.
+		 * @param candidateIndex The index of the candidate.
+		 * @return The depth of the container, with zero indicating the component itself.
+		 * @throws IndexOutOfBoundsException if the given candidate index is out of range.
+		 */
+		public int getDepth(final int candidateIndex) {
+			return depths[candidateIndex];
+		}
+
+		/**
+		 * Returns the keys to search for each candidate for a given resource key.
+		 * @param key The resource key.
+		 * @return The key for each candidate, in order. The returned array must not be modified.
+		 * @throws NullPointerException if the given key is <code>null</code>.
+		 */
+		public String[] getCandidateKeys(@Nonnull final String key) {
+			String[] candidateKeys = keyCandidateKeys.get(requireNonNull(key));
+			if(candidateKeys == null) {
+				candidateKeys = new String[prefixes.length];
+				for(int i = 0; i < prefixes.length; i++) {
+					candidateKeys[i] = prefixes[i].isEmpty() ? key : prefixes[i] + key;
+				}
+				if(keyCandidateKeys.size() < MAX_PLAN_KEY_COUNT) {
+					keyCandidateKeys.putIfAbsent(key, candidateKeys);
+				}
+			}
+			return candidateKeys;
+		}
+
+	}
+
+}
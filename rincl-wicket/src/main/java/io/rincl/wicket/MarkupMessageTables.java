@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.*;
+
+import org.apache.wicket.*;
+import org.apache.wicket.markup.*;
+import org.apache.wicket.markup.resolver.WicketMessageResolver;
+
+import io.confound.config.ConfigurationException;
+import io.rincl.*;
+
+/**
+ * Tables of the messages referenced by the markup of Wicket markup containers such as pages and panels, resolved in bulk from Rincl resources.
+ * <p>
+ * The first time a message is requested for a markup container class and locale, all the message keys referenced in the associated markup of the container,
+ * using either <code>&lt;wicket:message key="…"&gt;</code> tags or <code>wicket:message="attribute:key"</code> attributes, are resolved against the resources
+ * of the container class at once. Later requests for those messages are simple table reads. A table also records the keys referenced by the markup that the
+ * resources of the container class do not provide, so that a lookup of such a key need not consult the resources again.
+ * </p>
+ * <p>
+ * Only messages provided by the resources of the container class itself are included in a table; messages that must be found elsewhere, such as in the
+ * resources of a parent container, are not. A table is kept for each combination of markup container class, locale, style, and variation, as each may have
+ * different markup. All tables are discarded when the {@link ResourcesFactory#getResourcesGeneration()} of the resources factory changes, or when
+ * {@link #clear()} is called, for example after markup has been reloaded.
+ * </p>
+ * @author Garret Wilson
+ */
+public class MarkupMessageTables {
+
+	private final ResourcesFactory resourcesFactory;
+
+	/** @return The factory providing the resources from which messages are resolved. */
+	public ResourcesFactory getResourcesFactory() {
+		return resourcesFactory;
+	}
+
+	/**
+	 * The tables of each markup container class, stored with the class itself so as not to prevent its class loader from being collected. The tables of a class
+	 * are replaced rather than cleared when discarded, so that a table resolved before the tables were discarded is only ever stored in the discarded tables.
+	 */
+	private final ClassValue<AtomicReference<ContainerClassTables>> containerClassTables = new ClassValue<>() {
+		@Override
+		protected AtomicReference<ContainerClassTables> computeValue(final Class<?> containerClass) {
+			return new AtomicReference<>(new ContainerClassTables(getGeneration()));
+		}
+	};
+
+	/** The number of times the tables have been explicitly cleared. */
+	private final AtomicLong clearedCount = new AtomicLong();
+
+	/**
+	 * Resources factory constructor.
+	 * @param resourcesFactory The factory providing the resources from which messages are resolved.
+	 * @throws NullPointerException if the given resources factory is <code>null</code>.
+	 */
+	public MarkupMessageTables(@Nonnull final ResourcesFactory resourcesFactory) {
+		this.resourcesFactory = requireNonNull(resourcesFactory);
+	}
+
+	/** @return The current generation of the tables, which changes whenever the tables must be discarded. */
+	private long getGeneration() {
+		return clearedCount.get() + getResourcesFactory().getResourcesGeneration();
+	}
+
+	/** Discards all tables, so that they will be resolved again from the current markup. */
+	public void clear() {
+		clearedCount.incrementAndGet();
+	}
+
+	/**
+	 * Finds a message referenced by the markup of a markup container.
+	 * @param container The markup container with associated markup.
+	 * @param key The message key.
+	 * @param locale The locale of the message.
+	 * @return The message, which will be empty if the key is not referenced in the markup of the container or if the resources of the container class do not
+	 *         provide it.
+	 * @throws NullPointerException if the given container, key, and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error resolving the messages.
+	 */
+	public Optional<String> findMessage(@Nonnull final MarkupContainer container, @Nonnull final String key, @Nonnull final Locale locale)
+			throws ConfigurationException {
+		final Optional<String> message = getTable(container, locale).get(requireNonNull(key));
+		return message != null ? message : Optional.empty();
+	}
+
+	/**
+	 * Retrieves the table of messages referenced by the markup of a markup container, resolving them if needed.
+	 * @param container The markup container with associated markup.
+	 * @param locale The locale of the messages.
+	 * @return The messages referenced by the markup, keyed to message keys. A message is empty if the resources of the container class do not provide it; a
+	 *         key not in the table is not referenced by the markup.
+	 * @throws NullPointerException if the given container and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error resolving the messages.
+	 */
+	public Map<String, Optional<String>> getTable(@Nonnull final MarkupContainer container, @Nonnull final Locale locale) throws ConfigurationException {
+		final AtomicReference<ContainerClassTables> containerTablesReference = containerClassTables.get(container.getClass());
+		ContainerClassTables containerTables;
+		do {
+			containerTables = containerTablesReference.get();
+			final long generation = getGeneration();
+			if(containerTables.generation == generation) {
+				break;
+			}
+			//resources have been reloaded or the tables cleared; replace the tables, in case some other thread is still resolving a table for the old ones
+			final ContainerClassTables newContainerTables = new ContainerClassTables(generation);
+			if(containerTablesReference.compareAndSet(containerTables, newContainerTables)) {
+				containerTables = newContainerTables;
+				break;
+			}
+		} while(true);
+		final Map<String, Map<String, Map<String, Optional<String>>>> styleTables = containerTables.tables.computeIfAbsent(requireNonNull(locale),
+				__ -> new ConcurrentHashMap<>());
+		final Map<String, Map<String, Optional<String>>> variationTables = styleTables.computeIfAbsent(Objects.toString(container.getStyle(), ""),
+				__ -> new ConcurrentHashMap<>());
+		final String variation = Objects.toString(container.getVariation(), "");
+		Map<String, Optional<String>> table = variationTables.get(variation);
+		if(table == null) {
+			table = resolveTable(container, locale);
+			variationTables.putIfAbsent(variation, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Resolves all the messages referenced by the markup of a markup container.
+	 * @param container The markup container with associated markup.
+	 * @param locale The locale of the messages.
+	 * @return The messages referenced by the markup, keyed to message keys, each of which is empty if the resources of the container class do not provide it.
+	 * @throws ConfigurationException if there is a configuration error resolving the messages.
+	 * @see MarkupContainer#getAssociatedMarkup()
+	 */
+	protected Map<String, Optional<String>> resolveTable(@Nonnull final MarkupContainer container, @Nonnull final Locale locale) throws ConfigurationException {
+		final Markup markup;
+		try {
+			markup = container.getAssociatedMarkup();
+		} catch(final WicketRuntimeException wicketRuntimeException) { //markup containers such as WebMarkupContainer have no associated markup
+			return Map.of();
+		}
+		if(markup == null) {
+			return Map.of();
+		}
+		final Set<String> messageKeys = findMessageKeys(markup);
+		if(messageKeys.isEmpty()) {
+			return Map.of();
+		}
+		final Optional<Resources> foundResources = getResourcesFactory().findResources(container.getClass(), locale);
+		final Map<String, Optional<String>> table = new HashMap<>(messageKeys.size() * 2);
+		for(final String messageKey : messageKeys) {
+			table.put(messageKey, foundResources.isPresent() ? foundResources.get().findString(messageKey) : Optional.empty());
+		}
+		return Collections.unmodifiableMap(table);
+	}
+
+	/**
+	 * Finds all the message keys referenced in markup, using either <code>&lt;wicket:message key="…"&gt;</code> tags or
+	 * <code>wicket:message="attribute:key"</code> attributes, with whatever Wicket namespace prefix the markup uses.
+	 * @param markup The markup to search.
+	 * @return The message keys referenced by the markup, in the order they appear.
+	 * @throws NullPointerException if the given markup is <code>null</code>.
+	 */
+	public static Set<String> findMessageKeys(@Nonnull final IMarkupFragment markup) {
+		final MarkupResourceStream markupResourceStream = markup.getMarkupResourceStream();
+		final String wicketNamespace = markupResourceStream != null && markupResourceStream.getWicketNamespace() != null
+				? markupResourceStream.getWicketNamespace()
+				: MarkupParser.WICKET;
+		final String messageAttribute = wicketNamespace + ':' + WicketMessageResolver.MESSAGE;
+		final Set<String> messageKeys = new LinkedHashSet<>();
+		for(final MarkupElement markupElement : markup) {
+			if(!(markupElement instanceof ComponentTag)) {
+				continue;
+			}
+			final ComponentTag tag = (ComponentTag)markupElement;
+			if(tag.isClose()) {
+				continue;
+			}
+			if(tag instanceof WicketTag && ((WicketTag)tag).isMessageTag()) {
+				final String key = tag.getAttribute(WicketMessageResolver.KEY_ATTRIBUTE);
+				if(key != null) {
+					messageKeys.add(key);
+				}
+			}
+			final String attributeMessages = tag.getAttribute(messageAttribute);
+			if(attributeMessages != null) { //e.g. wicket:message="value:foo,title:bar"
+				for(final String attributeMessage : attributeMessages.split(",")) {
+					final int separatorIndex = attributeMessage.indexOf(':');
+					if(separatorIndex >= 0) {
+						final String key = attributeMessage.substring(separatorIndex + 1).trim();
+						if(!key.isEmpty()) {
+							messageKeys.add(key);
+						}
+					}
+				}
+			}
+		}
+		return messageKeys;
+	}
+
+	/** The tables of a single markup container class. */
+	private static final class ContainerClassTables {
+
+		/** The tables, keyed to the locale, then to the style, and then to the variation, with an empty string representing no style or variation. */
+		private final Map<Locale, Map<String, Map<String, Map<String, Optional<String>>>>> tables = new ConcurrentHashMap<>();
+
+		/** The generation of the tables when they were created. */
+		private final long generation;
+
+		/**
+		 * Constructor.
+		 * @param generation The current generation of the tables.
+		 */
+		private ContainerClassTables(final long generation) {
+			this.generation = generation;
+		}
+
+	}
+
+}
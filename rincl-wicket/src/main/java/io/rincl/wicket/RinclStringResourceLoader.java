@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.apache.wicket.*;
+import org.apache.wicket.markup.html.*;
+import org.apache.wicket.resource.loader.*;
+
+import io.confound.config.ConfigurationException;
+import io.rincl.*;
+
+/**
+ * Wicket string resource loader that serves strings from Rincl resources, allowing a Wicket application to look up strings through Rincl's resource loading
+ * and caching rather than stacking Wicket's resource loaders on top of Rincl.
+ * <p>
+ * For a component, the resources of the class of the page are checked first, followed by those of the classes of the containers down to the component
+ * itself, so that a page can override the strings of its components just as with Wicket's {@link ComponentStringResourceLoader}. For each container the key
+ * prefixed by the path of the component relative to the container is checked first, as described in {@link ComponentSearchPlans}. The Wicket style and
+ * variation are ignored, as Rincl resources have no notion of styles.
+ * </p>
+ * <p>
+ * For containers with associated markup, such as pages and panels, all the messages referenced by the markup are resolved at once the first time any of them
+ * is needed, so that rendering <code>&lt;wicket:message&gt;</code> tags results in table reads rather than individual resource lookups.
+ * </p>
+ * <p>
+ * The resources factory must not itself look up strings using the Wicket {@link Localizer}, as that would result in infinite recursion. For this reason a
+ * {@link WicketResourceI18nConcern} cannot be used as the resources factory.
+ * </p>
+ * @author Garret Wilson
+ * @see #install(Application, ResourcesFactory)
+ * @see ComponentSearchPlans
+ * @see MarkupMessageTables
+ */
+public class RinclStringResourceLoader implements IStringResourceLoader {
+
+	private final ResourcesFactory resourcesFactory;
+
+	/** @return The factory providing the resources from which strings are loaded. */
+	public ResourcesFactory getResourcesFactory() {
+		return resourcesFactory;
+	}
+
+	private final ComponentSearchPlans componentSearchPlans = new ComponentSearchPlans();
+
+	/** @return The cached plans for searching the resources of component hierarchies. */
+	public ComponentSearchPlans getComponentSearchPlans() {
+		return componentSearchPlans;
+	}
+
+	private final MarkupMessageTables markupMessageTables;
+
+	/** @return The tables of messages referenced by the markup of markup containers. */
+	public MarkupMessageTables getMarkupMessageTables() {
+		return markupMessageTables;
+	}
+
+	/**
+	 * Resources factory constructor.
+	 * @param resourcesFactory The factory providing the resources from which strings are loaded, such as a resource bundle resources factory.
+	 * @throws NullPointerException if the given resources factory is <code>null</code>.
+	 * @throws IllegalArgumentException if the given resources factory is a {@link WicketResourceI18nConcern}.
+	 */
+	public RinclStringResourceLoader(@Nonnull final ResourcesFactory resourcesFactory) {
+		if(requireNonNull(resourcesFactory) instanceof WicketResourceI18nConcern) {
+			throw new IllegalArgumentException("Wicket resources cannot be used as the source of Wicket string resources.");
+		}
+		this.resourcesFactory = resourcesFactory;
+		this.markupMessageTables = new MarkupMessageTables(resourcesFactory);
+	}
+
+	/**
+	 * Creates a Rincl string resource loader and installs it in the given application as the first string resource loader, so that it takes precedence over the
+	 * loaders Wicket installs by default.
+	 * <p>
+	 * Within the Rincl resources the search order is the same as that of Wicket's {@link ComponentStringResourceLoader}. However any string found in the Rincl
+	 * resources anywhere in the component hierarchy is used before Wicket's own loaders are consulted at all. If an application keeps some strings in Wicket
+	 * properties files that Rincl does not load, a string for a component in the Rincl resources will thus take precedence over an override of that string for
+	 * the page in the Wicket properties. Such an application should add the loader itself after Wicket's loaders rather than using this method.
+	 * </p>
+	 * @param application The Wicket application in which to install the loader.
+	 * @param resourcesFactory The factory providing the resources from which strings are loaded, such as a resource bundle resources factory.
+	 * @return The installed string resource loader.
+	 * @throws NullPointerException if the given application and/or resources factory is <code>null</code>.
+	 * @throws IllegalArgumentException if the given resources factory is a {@link WicketResourceI18nConcern}.
+	 */
+	public static RinclStringResourceLoader install(@Nonnull final Application application, @Nonnull final ResourcesFactory resourcesFactory) {
+		final RinclStringResourceLoader stringResourceLoader = new RinclStringResourceLoader(resourcesFactory);
+		application.getResourceSettings().getStringResourceLoaders().add(0, stringResourceLoader);
+		return stringResourceLoader;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec If no class is given, this implementation uses the class of the current Wicket application, if any. If no locale is given, this implementation
+	 *           uses the locale of the current Wicket session, if any.
+	 * @throws ConfigurationException if there is a configuration error, such as the resource not being a string.
+	 */
+	@Override
+	public String loadStringResource(@Nullable Class<?> clazz, final String key, @Nullable Locale locale, final String style, final String variation) {
+		requireNonNull(key);
+		if(clazz == null) {
+			if(!Application.exists()) {
+				return null;
+			}
+			clazz = Application.get().getClass();
+		}
+		if(locale == null) {
+			if(!Session.exists()) {
+				return null;
+			}
+			locale = Session.get().getLocale();
+		}
+		return findString(clazz, key, locale).orElse(null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation follows the search plan for the path shape of the component, checking the resources for the class of the root of the
+	 *           hierarchy first and then of each container down to the component, in the same order as Wicket's {@link ComponentStringResourceLoader}.
+	 *           Containers with a class for which {@link #isStopResourceSearch(Class)} returns <code>true</code> are skipped. If no locale is given, the locale
+	 *           of the component is used. For each markup container, the table of messages referenced by its markup is checked instead of its resources for
+	 *           keys referenced by the markup.
+	 * @see #getComponentSearchPlans()
+	 * @see #getMarkupMessageTables()
+	 * @throws ConfigurationException if there is a configuration error, such as the resource not being a string.
+	 */
+	@Override
+	public String loadStringResource(@Nullable final Component component, final String key, @Nullable Locale locale, final String style,
+			final String variation) {
+		if(component == null) {
+			return loadStringResource((Class<?>)null, key, locale, style, variation);
+		}
+		requireNonNull(key);
+		if(locale == null) {
+			locale = component.getLocale();
+		}
+		final ComponentSearchPlans.SearchPlan searchPlan = getComponentSearchPlans().getPlan(component);
+		final String[] candidateKeys = searchPlan.getCandidateKeys(key);
+		Component container = null;
+		int containerDepth = -1;
+		for(int candidateIndex = 0; candidateIndex < candidateKeys.length; candidateIndex++) {
+			final int depth = searchPlan.getDepth(candidateIndex);
+			if(depth != containerDepth) { //candidate depths never increase, so walk up from the component to the next container
+				container = component;
+				for(int i = 0; i < depth; i++) {
+					container = container.getParent();
+				}
+				containerDepth = depth;
+			}
+			if(isStopResourceSearch(container.getClass())) {
+				continue;
+			}
+			final String candidateKey = candidateKeys[candidateIndex];
+			if(container instanceof MarkupContainer) {
+				final Optional<String> message = getMarkupMessageTables().getTable((MarkupContainer)container, locale).get(candidateKey);
+				if(message != null) { //the key is referenced in the markup, so the table already has the answer from the resources of the container class
+					if(message.isPresent()) {
+						return message.get();
+					}
+					continue;
+				}
+			}
+			final Optional<String> string = findString(container.getClass(), candidateKey, locale);
+			if(string.isPresent()) {
+				return string.get();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Determines whether the resources of containers of a given class should not be searched, because the class is one of the base classes of Wicket
+	 * components rather than an application class.
+	 * @implSpec This implementation stops at the same classes as {@link ComponentStringResourceLoader#isStopResourceSearch(Class)}.
+	 * @param clazz The class of a container in a component hierarchy.
+	 * @return <code>true</code> if the resources of the class should not be searched.
+	 */
+	protected boolean isStopResourceSearch(@Nonnull final Class<?> clazz) {
+		return clazz == Object.class || clazz == Application.class || clazz == WebPage.class || clazz == WebMarkupContainer.class || clazz == WebComponent.class
+				|| clazz == Page.class || clazz == MarkupContainer.class || clazz == Component.class;
+	}
+
+	/**
+	 * Finds a string resource for a context class.
+	 * @param contextClass The context class of the resources.
+	 * @param key The resource key.
+	 * @param locale The locale of the resources.
+	 * @return The string resource, if any.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	protected Optional<String> findString(@Nonnull final Class<?> contextClass, @Nonnull final String key, @Nonnull final Locale locale)
+			throws ConfigurationException {
+		return getResourcesFactory().findResources(contextClass, locale).flatMap(resources -> resources.findString(key));
+	}
+
+}
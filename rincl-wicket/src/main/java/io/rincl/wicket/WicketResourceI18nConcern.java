@@ -20,10 +20,12 @@
 
 import java.util.*;
 import java.util.Locale.Category;
+import java.util.concurrent.*;
 
 import javax.annotation.Nonnull;
 
 import org.apache.wicket.*;
+import org.apache.wicket.request.cycle.RequestCycle;
 
 import io.confound.config.ConfigurationException;
 import io.rincl.*;
@@ -37,11 +39,21 @@
  *           context of a {@link Component} will provide resources for locale of that component <em>at the time the resources were retrieved</em>. Following
  *           Rincl's design of fixed-locale {@link Resources}, the resources locale will not dynamically change if the underlying {@link Component} changes its
  *           locale. Instead resources should be retrieved as needed rather than keeping them for the life of the component.
+ * @implNote During a Wicket request, the resources found for each context class or component in each locale are cached in the {@link RequestCycle} for the
+ *           remainder of the request. The session locale itself is not cached by the request cycle but is read from the session each time it is needed, so
+ *           that a locale change made during the request, whether using {@link #setLocale(Category, Locale)} or directly using
+ *           {@link Session#setLocale(Locale)}, is seen immediately; as the cached resources are keyed to their locales, resources for the new locale will then
+ *           be used.
  * @author Garret Wilson
  * @see WicketResources
  */
 public class WicketResourceI18nConcern extends AbstractResourceI18nConcern {
 
+	/** The request cycle metadata key for the caches of each concern for the current request. */
+	private static final MetaDataKey<Map<WicketResourceI18nConcern, RequestCache>> REQUEST_CACHES_KEY = new MetaDataKey<>() {
+		private static final long serialVersionUID = 1L;
+	};
+
 	/** The current Wicket application, which will be empty if the application should be retrieved dynamically. */
 	private final Optional<Application> application;
 
@@ -105,6 +117,24 @@ protected Localizer getLocalizer() {
 		return getApplication().getResourceSettings().getLocalizer();
 	}
 
+	/**
+	 * Finds the cache of this concern for the current request, creating it if needed.
+	 * @return The cache for the current request, which will not be present if there is no current request cycle.
+	 * @see RequestCycle#get()
+	 */
+	private Optional<RequestCache> findRequestCache() {
+		final RequestCycle requestCycle = RequestCycle.get();
+		if(requestCycle == null) {
+			return Optional.empty();
+		}
+		Map<WicketResourceI18nConcern, RequestCache> requestCaches = requestCycle.getMetaData(REQUEST_CACHES_KEY);
+		if(requestCaches == null) {
+			requestCaches = new IdentityHashMap<>();
+			requestCycle.setMetaData(REQUEST_CACHES_KEY, requestCaches);
+		}
+		return Optional.of(requestCaches.computeIfAbsent(this, concern -> new RequestCache()));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * @implSpec This implementation uses {@link Session#getLocale()} and therefore ignores the category passed.
@@ -146,16 +176,99 @@ public Resources getResources(final Object context) throws ConfigurationExceptio
 	@Override
 	public Optional<Resources> findResources(final Object context, final Locale locale) throws ConfigurationException {
 		if(context instanceof Component) { //if a Wicket Component is supplied, pass it to the resources
-			return Optional.of(
-					Resources.withFallback(new WicketResources((Component)context, getLocalizer(), locale), getParentResourcesFactory().findResources(context, locale)));
+			final Component component = (Component)context;
+			requireNonNull(locale);
+			final Optional<RequestCache> foundRequestCache = findRequestCache();
+			if(foundRequestCache.isEmpty()) {
+				return loadResources(component, locale);
+			}
+			//resources for a component depend on its place in the component hierarchy, so they can only be reused for the same component
+			final Map<Locale, Optional<Resources>> localeResources = foundRequestCache.get().componentResources.computeIfAbsent(component,
+					cachedComponent -> new HashMap<>());
+			Optional<Resources> resources = localeResources.get(locale);
+			if(resources == null) {
+				resources = loadResources(component, locale);
+				localeResources.put(locale, resources);
+			}
+			return resources;
 		}
 		return super.findResources(context, locale); //otherwise retrieve the resources normally
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @implSpec During a request, the resources found for each context class and locale are reused for the remainder of the request.
+	 */
 	@Override
 	public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) throws ConfigurationException {
-		return Optional
-				.of(Resources.withFallback(new WicketResources(contextClass, getLocalizer(), locale), getParentResourcesFactory().findResources(contextClass, locale)));
+		requireNonNull(contextClass);
+		requireNonNull(locale);
+		final Optional<RequestCache> foundRequestCache = findRequestCache();
+		if(foundRequestCache.isEmpty()) {
+			return loadResources(contextClass, locale);
+		}
+		final Map<Locale, Optional<Resources>> localeResources = foundRequestCache.get().classResources.computeIfAbsent(contextClass,
+				cachedContextClass -> new HashMap<>());
+		Optional<Resources> resources = localeResources.get(locale);
+		if(resources == null) {
+			resources = loadResources(contextClass, locale);
+			localeResources.put(locale, resources);
+		}
+		return resources;
+	}
+
+	/**
+	 * Creates resources for a component context without consulting the request cache.
+	 * @param component The component with which the resources are related.
+	 * @param locale The locale of the resources.
+	 * @return Wicket resources for the component, falling back to any resources from the parent resources factory.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	protected Optional<Resources> loadResources(@Nonnull final Component component, @Nonnull final Locale locale) throws ConfigurationException {
+		return Optional.of(Resources.withFallback(new WicketResources(component, getLocalizer(), locale),
+				getParentResourcesFactory().findResources(component, locale)));
+	}
+
+	/**
+	 * Creates resources for a context class without consulting the request cache.
+	 * @param contextClass The context class with which the resources are related.
+	 * @param locale The locale of the resources.
+	 * @return Wicket resources for the context class, falling back to any resources from the parent resources factory.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	protected Optional<Resources> loadResources(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) throws ConfigurationException {
+		return Optional.of(Resources.withFallback(new WicketResources(contextClass, getLocalizer(), locale),
+				getParentResourcesFactory().findResources(contextClass, locale)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation creates the Wicket resources immediately on the calling thread, which has access to the current Wicket application, and
+	 *           combines them with the resources asynchronously provided by the parent resources factory.
+	 */
+	@Override
+	public CompletableFuture<Optional<Resources>> findResourcesAsync(final Class<?> contextClass, final Locale locale, final Executor executor) {
+		final Resources wicketResources = new WicketResources(contextClass, getLocalizer(), locale);
+		return getParentResourcesFactory().findResourcesAsync(contextClass, locale, executor)
+				.thenApply(parentResources -> Optional.of(Resources.withFallback(wicketResources, parentResources)));
+	}
+
+	/**
+	 * Information cached by a concern for the duration of a single request. A request cycle is only processed by a single thread at a time, so no
+	 * synchronization is needed.
+	 */
+	private static final class RequestCache {
+
+		/** The resources found for context classes, keyed to locales. */
+		private final Map<Class<?>, Map<Locale, Optional<Resources>>> classResources = new HashMap<>();
+
+		/** The resources found for context components, keyed to locales. */
+		private final Map<Component, Map<Locale, Optional<Resources>>> componentResources = new IdentityHashMap<>();
+
+		/** This class can only be instantiated by the concern. */
+		private RequestCache() {
+		}
+
 	}
 
 }
@@ -38,6 +38,11 @@
  * Consumers of this class should therefore retrieve new resources as needed as the {@link io.rincl.Resources} implementation will not change locale as
  * dynamically.
  * </p>
+ * <p>
+ * Resources with a context component are looked up by the {@link Localizer} for that component, so they follow the {@link ComponentSearchPlans} of the
+ * component hierarchy only if a {@link RinclStringResourceLoader} has been installed in the application; otherwise the string resource loaders Wicket
+ * installs by default search the hierarchy.
+ * </p>
  * @author Garret Wilson
  */
 public class WicketResources extends AbstractStringResources {
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.markup.html.basic.Label;
+import org.apache.wicket.markup.repeater.RepeatingView;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests of {@link ComponentSearchPlans}.
+ * @author Garret Wilson
+ */
+public class ComponentSearchPlansTest {
+
+	private WicketTester tester;
+
+	@BeforeEach
+	public void setUp() {
+		tester = new WicketTester();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		tester.destroy();
+	}
+
+	/**
+	 * Returns the depth of each candidate of a plan.
+	 * @param plan The search plan.
+	 * @return The candidate depths, in order.
+	 */
+	private static Integer[] depthsOf(final ComponentSearchPlans.SearchPlan plan) {
+		final Integer[] depths = new Integer[plan.getCandidateCount()];
+		for(int i = 0; i < depths.length; i++) {
+			depths[i] = plan.getDepth(i);
+		}
+		return depths;
+	}
+
+	/** @see ComponentSearchPlans.SearchPlan#getCandidateKeys(String) */
+	@Test
+	public void testCandidateKeys() {
+		final ComponentSearchPlans plans = new ComponentSearchPlans();
+		final Component name = new FormPage().get("form:name");
+		final ComponentSearchPlans.SearchPlan plan = plans.getPlan(name);
+		assertThat(plan.getCandidateKeys("Required"), arrayContaining("form.name.Required", "Required", "name.Required", "Required", "Required"));
+		assertThat(depthsOf(plan), arrayContaining(2, 2, 1, 1, 0));
+		assertThat(plans.getPlan(name.getPage()).getCandidateKeys("Required"), arrayContaining("Required"));
+	}
+
+	/** @see ComponentSearchPlans#getPlan(Component) */
+	@Test
+	public void testGetPlanReusesCachedPlan() {
+		final ComponentSearchPlans plans = new ComponentSearchPlans();
+		final Component name = new FormPage().get("form:name");
+		final ComponentSearchPlans.SearchPlan plan = plans.getPlan(name);
+		assertThat(plans.getPlan(name), is(sameInstance(plan)));
+		assertThat(plans.getPlan(new FormPage().get("form:name")), is(sameInstance(plan)));
+		assertThat(plans.getPlanCount(), is(3));
+		plans.clear();
+		assertThat(plans.getPlanCount(), is(0));
+		assertThat(plans.getPlan(name), is(not(sameInstance(plan))));
+	}
+
+	/**
+	 * Tests that components in different repeater items share a plan, and that the IDs of the items are not part of the candidate keys.
+	 * @see ComponentSearchPlans#getPlan(Component)
+	 */
+	@Test
+	public void testRepeaterItemsSharePlan() {
+		final ComponentSearchPlans plans = new ComponentSearchPlans();
+		final RowsPage page = new RowsPage(3);
+		final RepeatingView rows = (RepeatingView)page.get("rows");
+		final Component[] labels = rows.stream().map(row -> ((WebMarkupContainer)row).get("label")).toArray(Component[]::new);
+		assertThat(labels.length, is(3));
+		assertThat(labels[0], is(instanceOf(Label.class)));
+		final ComponentSearchPlans.SearchPlan plan = plans.getPlan(labels[0]);
+		assertThat(plans.getPlan(labels[1]), is(sameInstance(plan)));
+		assertThat(plans.getPlan(labels[2]), is(sameInstance(plan)));
+		assertThat(plans.getPlanCount(), is(4)); //page, repeater, item, and label
+		assertThat(plan.getCandidateKeys("foo"), arrayContaining("rows.label.foo", "foo", "label.foo", "foo", "label.foo", "foo", "foo"));
+		assertThat(depthsOf(plan), arrayContaining(3, 3, 2, 2, 1, 1, 0));
+	}
+
+	/**
+	 * Tests that no more than the maximum number of plans are cached, while plans are still provided.
+	 * @see ComponentSearchPlans#MAX_PLAN_COUNT
+	 */
+	@Test
+	public void testPlanCountBounded() {
+		final ComponentSearchPlans plans = new ComponentSearchPlans();
+		final FormPage page = new FormPage();
+		for(int i = 0; i < ComponentSearchPlans.MAX_PLAN_COUNT + 10; i++) {
+			final Label label = new Label("label" + i);
+			page.add(label);
+			assertThat(plans.getPlan(label).getCandidateKeys("foo"), arrayContaining("label" + i + ".foo", "foo", "foo"));
+		}
+		assertThat(plans.getPlanCount(), is(ComponentSearchPlans.MAX_PLAN_COUNT));
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import org.apache.wicket.markup.html.WebPage;
+import org.apache.wicket.markup.html.form.*;
+
+/**
+ * Page for testing, containing a text field with ID <code>name</code> in a form with ID <code>form</code>.
+ * @author Garret Wilson
+ */
+public class FormPage extends WebPage {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Constructor. */
+	public FormPage() {
+		final Form<Void> form = new Form<>("form");
+		form.add(new TextField<String>("name"));
+		add(form);
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.Locale.Category;
+
+import org.apache.wicket.markup.html.WebPage;
+
+/**
+ * Page for testing, which during configuration records the locale of a concern, changes the session locale to {@link Locale#FRENCH}, and records the locale
+ * of the concern again.
+ * @author Garret Wilson
+ */
+public class LocalePage extends WebPage {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient WicketResourceI18nConcern concern;
+
+	private final List<Locale> locales = new ArrayList<>();
+
+	/** @return The locales of the concern recorded during configuration. */
+	public List<Locale> getLocales() {
+		return locales;
+	}
+
+	/**
+	 * Concern constructor.
+	 * @param concern The concern the locale of which to record.
+	 */
+	public LocalePage(final WicketResourceI18nConcern concern) {
+		this.concern = requireNonNull(concern);
+	}
+
+	@Override
+	protected void onConfigure() {
+		super.onConfigure();
+		locales.add(concern.getLocale(Category.DISPLAY));
+		getSession().setLocale(Locale.FRENCH);
+		locales.add(concern.getLocale(Category.DISPLAY));
+	}
+
+}
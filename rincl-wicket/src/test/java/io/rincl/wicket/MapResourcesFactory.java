@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+
+import io.confound.config.ObjectMapConfiguration;
+import io.rincl.*;
+
+/**
+ * Resources factory for testing, providing resources from maps of values for each context class and counting the resources lookups.
+ * @author Garret Wilson
+ */
+public class MapResourcesFactory implements ResourcesFactory {
+
+	private final Map<Class<?>, Map<String, ?>> classValues;
+
+	private final List<Class<?>> lookupContextClasses = Collections.synchronizedList(new ArrayList<>());
+
+	/** @return The context class of each resources lookup, in order. */
+	public List<Class<?>> getLookupContextClasses() {
+		return lookupContextClasses;
+	}
+
+	/** @return The number of times resources have been looked up. */
+	public int getLookupCount() {
+		return lookupContextClasses.size();
+	}
+
+	/**
+	 * Class values constructor.
+	 * @param classValues The resource values, keyed to context classes. Resources are provided for the same values regardless of locale.
+	 * @throws NullPointerException if the given class values is <code>null</code>.
+	 */
+	public MapResourcesFactory(final Map<Class<?>, Map<String, ?>> classValues) {
+		this.classValues = requireNonNull(classValues);
+	}
+
+	@Override
+	public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) {
+		requireNonNull(locale);
+		lookupContextClasses.add(requireNonNull(contextClass));
+		return Optional.ofNullable(classValues.get(contextClass)).map(values -> new ConfigurationResources(contextClass, new ObjectMapConfiguration(values)));
+	}
+
+}
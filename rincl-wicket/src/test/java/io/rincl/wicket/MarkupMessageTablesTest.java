@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+
+import org.apache.wicket.markup.Markup;
+import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests of {@link MarkupMessageTables}.
+ * @author Garret Wilson
+ */
+public class MarkupMessageTablesTest {
+
+	private WicketTester tester;
+
+	@BeforeEach
+	public void setUp() {
+		tester = new WicketTester();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		tester.destroy();
+	}
+
+	/** @see MarkupMessageTables#findMessageKeys(org.apache.wicket.markup.IMarkupFragment) */
+	@Test
+	public void testFindMessageKeys() {
+		final Markup markup = Markup.of("<div><wicket:message key=\"foo\">Foo</wicket:message><input wicket:message=\"value:bar, title:baz\" />"
+				+ "<wicket:message key=\"foo\">Foo</wicket:message></div>");
+		assertThat(MarkupMessageTables.findMessageKeys(markup), contains("foo", "bar", "baz"));
+	}
+
+	/** @see MarkupMessageTables#findMessageKeys(org.apache.wicket.markup.IMarkupFragment) */
+	@Test
+	public void testFindMessageKeysNoMessages() {
+		assertThat(MarkupMessageTables.findMessageKeys(Markup.of("<div><span wicket:id=\"foo\"></span></div>")), is(empty()));
+	}
+
+	/** @see MarkupMessageTables#findMessageKeys(org.apache.wicket.markup.IMarkupFragment) */
+	@Test
+	public void testFindMessageKeysAssociatedMarkup() {
+		assertThat(MarkupMessageTables.findMessageKeys(new MessagePage().getAssociatedMarkup()), contains("greeting", "tooltip"));
+	}
+
+	/**
+	 * Tests that the messages of a container class are resolved only once for each locale.
+	 * @see MarkupMessageTables#getTable(org.apache.wicket.MarkupContainer, Locale)
+	 */
+	@Test
+	public void testGetTableResolvedOnce() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(MessagePage.class, Map.of("greeting", "Hello", "unused", "Unused")));
+		final MarkupMessageTables markupMessageTables = new MarkupMessageTables(resourcesFactory);
+		assertThat(markupMessageTables.getTable(new MessagePage(), Locale.ENGLISH), is(Map.of("greeting", Optional.of("Hello"), "tooltip", Optional.empty())));
+		assertThat(markupMessageTables.findMessage(new MessagePage(), "greeting", Locale.ENGLISH), is(Optional.of("Hello")));
+		assertThat(markupMessageTables.findMessage(new MessagePage(), "tooltip", Locale.ENGLISH), is(Optional.empty()));
+		assertThat(resourcesFactory.getLookupCount(), is(1));
+		markupMessageTables.getTable(new MessagePage(), Locale.FRENCH);
+		assertThat(resourcesFactory.getLookupCount(), is(2));
+		markupMessageTables.clear();
+		assertThat(markupMessageTables.findMessage(new MessagePage(), "greeting", Locale.ENGLISH), is(Optional.of("Hello")));
+		assertThat(markupMessageTables.findMessage(new MessagePage(), "unused", Locale.ENGLISH), is(Optional.empty()));
+		assertThat(resourcesFactory.getLookupCount(), is(3));
+	}
+
+	/** @see MarkupMessageTables#getTable(org.apache.wicket.MarkupContainer, Locale) */
+	@Test
+	public void testGetTableNoAssociatedMarkup() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of());
+		final MarkupMessageTables markupMessageTables = new MarkupMessageTables(resourcesFactory);
+		assertThat(markupMessageTables.getTable(new WebMarkupContainer("container"), Locale.ENGLISH), is(Map.of()));
+		assertThat(resourcesFactory.getLookupCount(), is(0));
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.markup.html.form.TextField;
+import org.apache.wicket.markup.repeater.RepeatingView;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.*;
+
+/**
+ * Tests of {@link RinclStringResourceLoader}.
+ * @author Garret Wilson
+ */
+public class RinclStringResourceLoaderTest {
+
+	private WicketTester tester;
+
+	@BeforeEach
+	public void setUp() {
+		tester = new WicketTester();
+		tester.getSession().setLocale(Locale.ENGLISH);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		tester.destroy();
+	}
+
+	/** @see RinclStringResourceLoader#RinclStringResourceLoader(io.rincl.ResourcesFactory) */
+	@Test
+	public void testWicketResourcesNotAllowed() {
+		assertThrows(IllegalArgumentException.class, () -> new RinclStringResourceLoader(new WicketResourceI18nConcern(tester.getApplication())));
+	}
+
+	/** @see RinclStringResourceLoader#loadStringResource(Class, String, Locale, String, String) */
+	@Test
+	public void testLoadStringResourceClass() {
+		final RinclStringResourceLoader loader = new RinclStringResourceLoader(new MapResourcesFactory(Map.of(FormPage.class, Map.of("foo", "Foo"))));
+		assertThat(loader.loadStringResource(FormPage.class, "foo", Locale.ENGLISH, null, null), is("Foo"));
+		assertThat(loader.loadStringResource(FormPage.class, "bar", Locale.ENGLISH, null, null), is(nullValue()));
+	}
+
+	/**
+	 * Tests that the key prefixed by the path of the component is preferred over the unprefixed key in the resources of a container.
+	 * @see RinclStringResourceLoader#loadStringResource(Component, String, Locale, String, String)
+	 */
+	@Test
+	public void testLoadStringResourceComponentPrefixedKey() {
+		final Component name = new FormPage().get("form:name");
+		final RinclStringResourceLoader prefixedLoader = new RinclStringResourceLoader(
+				new MapResourcesFactory(Map.of(FormPage.class, Map.of("form.name.Required", "Name is required.", "Required", "Required."))));
+		assertThat(prefixedLoader.loadStringResource(name, "Required", Locale.ENGLISH, null, null), is("Name is required."));
+		final RinclStringResourceLoader unprefixedLoader = new RinclStringResourceLoader(
+				new MapResourcesFactory(Map.of(FormPage.class, Map.of("Required", "Required."))));
+		assertThat(unprefixedLoader.loadStringResource(name, "Required", Locale.ENGLISH, null, null), is("Required."));
+		assertThat(unprefixedLoader.loadStringResource(name, "Missing", Locale.ENGLISH, null, null), is(nullValue()));
+	}
+
+	/**
+	 * Tests that the resources of the page take precedence over those of the component, as with Wicket's component string resource loader.
+	 * @see RinclStringResourceLoader#loadStringResource(Component, String, Locale, String, String)
+	 */
+	@Test
+	public void testLoadStringResourcePageOverridesComponent() {
+		final Component name = new FormPage().get("form:name");
+		final RinclStringResourceLoader overridingLoader = new RinclStringResourceLoader(
+				new MapResourcesFactory(Map.of(TextField.class, Map.of("Required", "Field is required."), FormPage.class, Map.of("Required", "Required."))));
+		assertThat(overridingLoader.loadStringResource(name, "Required", Locale.ENGLISH, null, null), is("Required."));
+		final RinclStringResourceLoader componentLoader = new RinclStringResourceLoader(
+				new MapResourcesFactory(Map.of(TextField.class, Map.of("Required", "Field is required."))));
+		assertThat(componentLoader.loadStringResource(name, "Required", Locale.ENGLISH, null, null), is("Field is required."));
+	}
+
+	/**
+	 * Tests that the resources of Wicket base classes are not searched.
+	 * @see RinclStringResourceLoader#isStopResourceSearch(Class)
+	 */
+	@Test
+	public void testLoadStringResourceSkipsStopClasses() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(WebMarkupContainer.class, Map.of("label", "Container")));
+		final RinclStringResourceLoader loader = new RinclStringResourceLoader(resourcesFactory);
+		final Component label = ((RepeatingView)new RowsPage(1).get("rows")).streamChildren().findFirst().map(row -> ((WebMarkupContainer)row).get("label"))
+				.orElseThrow();
+		assertThat(loader.loadStringResource(label, "label", Locale.ENGLISH, null, null), is(nullValue()));
+		assertThat(resourcesFactory.getLookupContextClasses(), not(hasItem(WebMarkupContainer.class)));
+	}
+
+	/**
+	 * Tests that an installed loader serves strings to components through the Wicket localizer.
+	 * @see RinclStringResourceLoader#install(org.apache.wicket.Application, io.rincl.ResourcesFactory)
+	 */
+	@Test
+	public void testInstall() {
+		final RinclStringResourceLoader loader = RinclStringResourceLoader.install(tester.getApplication(),
+				new MapResourcesFactory(Map.of(FormPage.class, Map.of("form.name.Required", "Name is required."))));
+		assertThat(tester.getApplication().getResourceSettings().getStringResourceLoaders().get(0), is(sameInstance(loader)));
+		assertThat(new FormPage().get("form:name").getString("Required"), is("Name is required."));
+	}
+
+	/**
+	 * Tests that messages referenced in markup are served from the markup message table.
+	 * @see RinclStringResourceLoader#getMarkupMessageTables()
+	 */
+	@Test
+	public void testRenderMarkupMessages() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(MessagePage.class, Map.of("greeting", "Hello", "tooltip", "Tip")));
+		final RinclStringResourceLoader loader = RinclStringResourceLoader.install(tester.getApplication(), resourcesFactory);
+		final MessagePage page = tester.startPage(MessagePage.class);
+		tester.assertRenderedPage(MessagePage.class);
+		tester.assertContains(">Hello<");
+		tester.assertContains("title=\"Tip\"");
+		assertThat(loader.getMarkupMessageTables().getTable(page, Locale.ENGLISH), is(Map.of("greeting", Optional.of("Hello"), "tooltip", Optional.of("Tip"))));
+	}
+
+	/**
+	 * Tests that a key referenced in markup but not provided by the resources of the container is not looked up again in those resources, while a key not
+	 * referenced in markup is.
+	 * @see RinclStringResourceLoader#loadStringResource(Component, String, Locale, String, String)
+	 */
+	@Test
+	public void testLoadStringResourceReferencedAbsentMessage() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(MessagePage.class, Map.of("greeting", "Hello", "foo", "Foo")));
+		final RinclStringResourceLoader loader = new RinclStringResourceLoader(resourcesFactory);
+		final MessagePage page = new MessagePage();
+		assertThat(loader.loadStringResource(page, "tooltip", Locale.ENGLISH, null, null), is(nullValue()));
+		assertThat(loader.loadStringResource(page, "greeting", Locale.ENGLISH, null, null), is("Hello"));
+		assertThat(resourcesFactory.getLookupCount(), is(1));
+		assertThat(loader.loadStringResource(page, "foo", Locale.ENGLISH, null, null), is("Foo"));
+		assertThat(resourcesFactory.getLookupCount(), is(2));
+	}
+
+	/**
+	 * Renders a page with 500 labels in repeater rows, each looking up a string resource, verifying that all the rows share search plans and that the
+	 * resources are not looked up again for each row.
+	 * @see RinclStringResourceLoader#getComponentSearchPlans()
+	 */
+	@Test
+	public void testRenderRowsPage() {
+		final int rowCount = 500;
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(RowsPage.class, Map.of("rows.label.label", "Row")));
+		final RinclStringResourceLoader loader = RinclStringResourceLoader.install(tester.getApplication(), resourcesFactory);
+		tester.startPage(new RowsPage(rowCount));
+		tester.assertRenderedPage(RowsPage.class);
+		final String document = tester.getLastResponseAsString();
+		assertThat(document.split("<span wicket:id=\"label\">Row</span>", -1).length - 1, is(rowCount));
+		assertThat(loader.getComponentSearchPlans().getPlanCount(), is(4)); //page, repeater, item, and label
+		assertThat(resourcesFactory.getLookupCount(), is(lessThan(rowCount)));
+	}
+
+}
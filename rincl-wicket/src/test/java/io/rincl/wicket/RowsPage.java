@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.markup.html.WebPage;
+import org.apache.wicket.markup.html.basic.Label;
+import org.apache.wicket.markup.repeater.RepeatingView;
+import org.apache.wicket.model.StringResourceModel;
+
+/**
+ * Page for testing, containing a repeater with ID <code>rows</code> of rows each containing a label with ID <code>label</code> showing the string resource
+ * <code>label</code>.
+ * @author Garret Wilson
+ */
+public class RowsPage extends WebPage {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Constructor with no rows. */
+	public RowsPage() {
+		this(0);
+	}
+
+	/**
+	 * Row count constructor.
+	 * @param rowCount The number of rows to add.
+	 */
+	public RowsPage(final int rowCount) {
+		final RepeatingView rows = new RepeatingView("rows");
+		for(int i = 0; i < rowCount; i++) {
+			final WebMarkupContainer row = new WebMarkupContainer(rows.newChildId());
+			row.add(new Label("label", new StringResourceModel("label")));
+			rows.add(row);
+		}
+		add(rows);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl.wicket;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+import java.util.Locale.Category;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.markup.repeater.RepeatingView;
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.rincl.Resources;
+
+/**
+ * Tests of {@link WicketResourceI18nConcern}.
+ * @author Garret Wilson
+ */
+public class WicketResourceI18nConcernTest {
+
+	private WicketTester tester;
+
+	@BeforeEach
+	public void setUp() {
+		tester = new WicketTester();
+		tester.getSession().setLocale(Locale.ENGLISH);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		tester.destroy();
+	}
+
+	/**
+	 * Tests that resources for a context class are reused for the remainder of a request but not in the next request.
+	 * @see WicketResourceI18nConcern#findResources(Class, Locale)
+	 */
+	@Test
+	public void testFindResourcesClassCachedForRequest() {
+		final MapResourcesFactory resourcesFactory = new MapResourcesFactory(Map.of(FormPage.class, Map.of("foo", "Foo")));
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(resourcesFactory, tester.getApplication());
+		final Optional<Resources> resources = concern.findResources(FormPage.class, Locale.ENGLISH);
+		assertThat(resources.map(foundResources -> foundResources.getString("foo")), is(Optional.of("Foo")));
+		assertThat(concern.findResources(FormPage.class, Locale.ENGLISH), is(sameInstance(resources)));
+		assertThat(resourcesFactory.getLookupCount(), is(1));
+		concern.findResources(FormPage.class, Locale.FRENCH);
+		assertThat(resourcesFactory.getLookupCount(), is(2));
+		tester.startPage(FormPage.class); //start another request
+		assertThat(concern.findResources(FormPage.class, Locale.ENGLISH), is(not(sameInstance(resources))));
+		assertThat(resourcesFactory.getLookupCount(), is(3));
+	}
+
+	/**
+	 * Tests that resources for a context component are reused for the same component only.
+	 * @see WicketResourceI18nConcern#findResources(Object, Locale)
+	 */
+	@Test
+	public void testFindResourcesComponentCachedForRequest() {
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(new MapResourcesFactory(Map.of()), tester.getApplication());
+		final FormPage page = new FormPage();
+		final Component name = page.get("form:name");
+		final Optional<Resources> resources = concern.findResources(name, Locale.ENGLISH);
+		assertThat(concern.findResources(name, Locale.ENGLISH), is(sameInstance(resources)));
+		assertThat(concern.findResources(page.get("form"), Locale.ENGLISH), is(not(sameInstance(resources))));
+		assertThat(concern.findResources((Object)name, Locale.FRENCH), is(not(sameInstance(resources))));
+	}
+
+	/** @see WicketResourceI18nConcern#setLocale(Category, Locale) */
+	@Test
+	public void testSetLocale() {
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(tester.getApplication());
+		assertThat(concern.getLocale(Category.DISPLAY), is(Locale.ENGLISH));
+		concern.setLocale(Category.DISPLAY, Locale.FRENCH);
+		assertThat(tester.getSession().getLocale(), is(Locale.FRENCH));
+		assertThat(concern.getLocale(Category.FORMAT), is(Locale.FRENCH));
+	}
+
+	/**
+	 * Tests that a session locale changed directly in the session during a request is seen immediately.
+	 * @see WicketResourceI18nConcern#getLocale(Category)
+	 */
+	@Test
+	public void testGetLocaleAfterSessionSetLocaleInRequest() {
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(tester.getApplication());
+		final LocalePage page = tester.startPage(new LocalePage(concern));
+		assertThat(page.getLocales(), contains(Locale.ENGLISH, Locale.FRENCH));
+	}
+
+	/**
+	 * Tests that resources for a component context are provided for the locale of the component, including a locale overridden by its page.
+	 * @see WicketResourceI18nConcern#getResources(Object)
+	 */
+	@Test
+	public void testGetResourcesComponentLocale() {
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(tester.getApplication());
+		final Resources resources = concern.getResources(new FormPage().get("form:name"));
+		assertThat(resources, is(instanceOf(WicketResources.class)));
+		assertThat(((WicketResources)resources).getLocale(), is(Locale.ENGLISH));
+		final FormPage frenchPage = new FormPage() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Locale getLocale() {
+				return Locale.FRENCH;
+			}
+		};
+		assertThat(((WicketResources)concern.getResources(frenchPage.get("form:name"))).getLocale(), is(Locale.FRENCH));
+	}
+
+	/**
+	 * Benchmarks resolving the locale for every label of a page with 500 rows, verifying that reading the session locale through the concern, which involves
+	 * only a thread-local lookup of the session, is faster than {@link Component#getLocale()} walking up the component hierarchy to the session. Enable with
+	 * <code>-Drincl.benchmark=true</code>.
+	 * @see WicketResourceI18nConcern#getLocale(Category)
+	 */
+	@Test
+	@Tag("benchmark")
+	@EnabledIfSystemProperty(named = "rincl.benchmark", matches = "true")
+	public void benchmarkLocale500Components() {
+		final WicketResourceI18nConcern concern = new WicketResourceI18nConcern(tester.getApplication());
+		final Component[] labels = ((RepeatingView)new RowsPage(500).get("rows")).stream().map(row -> ((WebMarkupContainer)row).get("label"))
+				.toArray(Component[]::new);
+		final int warmupIterations = 2_000;
+		final int iterations = 5_000;
+		for(int i = 0; i < warmupIterations; i++) {
+			for(final Component label : labels) {
+				label.getLocale();
+				concern.getLocale(Category.DISPLAY);
+			}
+		}
+		long startTime = System.nanoTime();
+		for(int i = 0; i < iterations; i++) {
+			for(final Component label : labels) {
+				label.getLocale();
+			}
+		}
+		final long componentNanos = System.nanoTime() - startTime;
+		startTime = System.nanoTime();
+		for(int i = 0; i < iterations; i++) {
+			for(int labelIndex = 0; labelIndex < labels.length; labelIndex++) {
+				concern.getLocale(Category.DISPLAY);
+			}
+		}
+		final long concernNanos = System.nanoTime() - startTime;
+		assertThat(concernNanos, is(lessThan(componentNanos)));
+	}
+
+}
@@ -16,7 +16,10 @@
 
 package io.rincl;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.*;
 
 import javax.annotation.*;
 
@@ -24,10 +27,26 @@
 
 /**
  * A wrapper resources that forwards calls to the decorated resources, falling back to a parent resources.
+ * <p>
+ * When string resources are looked up, a chain of nested child resources decorators is treated as a flat list of layers, from the most specific resources to
+ * the most general fallback resources. The index of the layer that answers each key is remembered, so that subsequent lookups of the same key go straight to
+ * the layer providing the value rather than querying each of the more specific layers again. This assumes that the more specific layers do not later gain
+ * keys they did not contain; when resources are reloaded, new resources and therefore a new decorator should be created. A key provided by no layer is not
+ * remembered, so that a value that later appears in dynamic resources, such as those backed by a mutable configuration, will still be found.
+ * </p>
  * @author Garret Wilson
  */
 public class ChildResourcesDecorator extends BaseChildConfigurationDecorator<Resources> implements Resources {
 
+	/** The maximum number of keys for which the answering layer will be remembered, so that arbitrary lookups cannot exhaust memory. */
+	static final int MAX_MEMOIZED_KEY_COUNT = 4096;
+
+	/** The resources to query in order, with any nested child resources decorators flattened. */
+	private final Resources[] layers;
+
+	/** The index of the layer answering each key previously found. */
+	private final Map<String, Integer> keyLayerIndexes = new ConcurrentHashMap<>();
+
 	/**
 	 * Wrapped resources and parent resources constructor.
 	 * @param resources The resources to decorate.
@@ -36,6 +55,22 @@ public class ChildResourcesDecorator extends BaseChildConfigurationDecorator<Res
 	 */
 	public ChildResourcesDecorator(@Nonnull Resources resources, @Nonnull final Resources parentResources) {
 		super(resources, parentResources);
+		final Resources[] resourcesLayers = layersOf(resources);
+		final Resources[] parentResourcesLayers = layersOf(parentResources);
+		layers = Arrays.copyOf(resourcesLayers, resourcesLayers.length + parentResourcesLayers.length);
+		System.arraycopy(parentResourcesLayers, 0, layers, resourcesLayers.length, parentResourcesLayers.length);
+	}
+
+	/**
+	 * Determines the layers of the given resources to be queried in order.
+	 * @param resources The resources for which layers should be determined.
+	 * @return The layers of the resources if they are exactly a child resources decorator; otherwise the resources themselves as a single layer.
+	 */
+	private static Resources[] layersOf(@Nonnull final Resources resources) {
+		if(resources.getClass() == ChildResourcesDecorator.class) { //subclasses may have changed how lookups are delegated
+			return ((ChildResourcesDecorator)resources).layers;
+		}
+		return new Resources[] {resources};
 	}
 
 	@Override
@@ -45,10 +80,118 @@ public Class<?> getContextClass() {
 
 	//String
 
+	@Override
+	public Optional<String> findString(final String key) throws ConfigurationException {
+		return findString(key, layer -> layer.findString(key));
+	}
+
 	@Override
 	public Optional<String> findString(final String key, final Object... arguments) throws ConfigurationException {
-		return or(getConfiguration().findString(key, arguments),
-				() -> getParentConfiguration().flatMap(configuration -> configuration.findString(key, arguments)));
+		return findString(key, layer -> layer.findString(key, arguments));
+	}
+
+	//keys
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns <code>true</code> only if every layer is enumerable.
+	 */
+	@Override
+	public boolean isEnumerable() {
+		for(final Resources layer : layers) {
+			if(!layer.isEnumerable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation streams the keys of each layer in turn, skipping any key provided by a more specific layer. Shadowing is checked lazily as
+	 *           each key is produced, so no set of keys is accumulated. Enumerability is checked before any key is produced, so that the stream never fails
+	 *           partway through because some layer cannot enumerate its keys.
+	 * @throws UnsupportedOperationException if some layer is not enumerable.
+	 */
+	@Override
+	public Stream<String> keys() throws ConfigurationException {
+		checkEnumerable();
+		return IntStream.range(0, layers.length).boxed().flatMap(layerIndex -> layers[layerIndex].keys().filter(key -> !isShadowed(key, layerIndex)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation streams the string entries of each layer in turn, skipping any key provided by a more specific layer, so that each value is
+	 *           retrieved directly from the layer providing it. Enumerability is checked before any entry is produced.
+	 * @throws UnsupportedOperationException if some layer is not enumerable.
+	 */
+	@Override
+	public Stream<Map.Entry<String, String>> stringEntries() throws ConfigurationException {
+		checkEnumerable();
+		return IntStream.range(0, layers.length).boxed()
+				.flatMap(layerIndex -> layers[layerIndex].stringEntries().filter(entry -> !isShadowed(entry.getKey(), layerIndex)));
+	}
+
+	/**
+	 * Checks that every layer can enumerate its keys.
+	 * @throws UnsupportedOperationException if some layer is not enumerable.
+	 * @see #isEnumerable()
+	 */
+	private void checkEnumerable() {
+		for(final Resources layer : layers) {
+			if(!layer.isEnumerable()) {
+				throw new UnsupportedOperationException(String.format("Resources %s do not support key enumeration.", layer.getClass().getName()));
+			}
+		}
+	}
+
+	/**
+	 * Determines whether a key is provided by a layer more specific than the given layer.
+	 * @param key The resource key.
+	 * @param layerIndex The index of the layer providing the key.
+	 * @return <code>true</code> if one of the layers before the given layer provides a resource for the key.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	private boolean isShadowed(@Nonnull final String key, final int layerIndex) throws ConfigurationException {
+		for(int shadowingLayerIndex = 0; shadowingLayerIndex < layerIndex; shadowingLayerIndex++) {
+			if(layers[shadowingLayerIndex].hasConfigurationValue(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Looks up a string in the layers, starting with the layer remembered as answering the key if any.
+	 * @param key The key of the string to look up.
+	 * @param lookup The function for looking up the string in a single layer.
+	 * @return The string found in the first layer providing it, if any.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	private Optional<String> findString(@Nonnull final String key, @Nonnull final Function<Resources, Optional<String>> lookup) throws ConfigurationException {
+		final Integer memoizedLayerIndex = keyLayerIndexes.get(key);
+		if(memoizedLayerIndex != null) {
+			final Optional<String> string = lookup.apply(layers[memoizedLayerIndex]);
+			if(string.isPresent()) {
+				return string;
+			}
+		}
+		int layerIndex = 0;
+		Optional<String> string = Optional.empty();
+		for(; layerIndex < layers.length; layerIndex++) {
+			string = lookup.apply(layers[layerIndex]);
+			if(string.isPresent()) {
+				break;
+			}
+		}
+		if(string.isEmpty()) { //misses are not remembered, as the key may later appear in dynamic resources
+			if(memoizedLayerIndex != null) {
+				keyLayerIndexes.remove(key);
+			}
+		} else if(memoizedLayerIndex != null || keyLayerIndexes.size() < MAX_MEMOIZED_KEY_COUNT) {
+			keyLayerIndexes.put(key, layerIndex);
+		}
+		return string;
 	}
 
 }
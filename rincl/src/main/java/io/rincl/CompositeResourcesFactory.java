@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.*;
+
+import io.confound.config.ConfigurationException;
+
+/**
+ * Resources factory that composes the resources of several other factories, and caches the composed resources for each context class and locale.
+ * <p>
+ * The resources of each factory fall back to those of the factories following it. For example if the factories are <var>A</var>, <var>B</var>, and
+ * <var>C</var>, the resources returned will first look up a resource in the resources of <var>A</var>, then in those of <var>B</var>, and finally in those of
+ * <var>C</var>. Factories providing no resources for a context class and locale are skipped. This makes it possible to combine factories that have no parent
+ * factory of their own, rather than chaining factories through parent factories each of which looks up and decorates the resources of the next on every
+ * request.
+ * </p>
+ * <p>
+ * The composed resources are cached for subsequent requests with the same context class and locale. So that the cache does not prevent class loaders from
+ * being garbage collected, cached resources are associated with the context class itself using a {@link ClassValue}. The entire cache is discarded whenever the
+ * {@link ResourcesFactory#getResourcesGeneration()} of any of the composed factories changes, or when {@link #clearCache()} is called.
+ * </p>
+ * @author Garret Wilson
+ */
+public class CompositeResourcesFactory implements ResourcesFactory {
+
+	private final List<ResourcesFactory> resourcesFactories;
+
+	/** @return The factories the resources of which are composed, in order of priority. */
+	protected List<ResourcesFactory> getResourcesFactories() {
+		return resourcesFactories;
+	}
+
+	/** The cache of each context class, stored with the class itself so as not to prevent its class loader from being collected. */
+	private final ClassValue<AtomicReference<ResourcesCache>> contextClassResourcesCaches = new ClassValue<>() {
+		@Override
+		protected AtomicReference<ResourcesCache> computeValue(final Class<?> contextClass) {
+			return new AtomicReference<>(new ResourcesCache(getResourcesGeneration()));
+		}
+	};
+
+	/** The number of times this factory has explicitly discarded its cache. */
+	private final AtomicLong clearedCount = new AtomicLong();
+
+	/**
+	 * Resources factories constructor.
+	 * @param resourcesFactories The factories the resources of which are to be composed, in order of priority.
+	 * @throws NullPointerException if one of the given resources factories is <code>null</code>.
+	 */
+	public CompositeResourcesFactory(@Nonnull final ResourcesFactory... resourcesFactories) {
+		this(List.of(resourcesFactories));
+	}
+
+	/**
+	 * Resources factories constructor.
+	 * @param resourcesFactories The factories the resources of which are to be composed, in order of priority.
+	 * @throws NullPointerException if the given collection is <code>null</code> or contains a <code>null</code> resources factory.
+	 */
+	public CompositeResourcesFactory(@Nonnull final Collection<? extends ResourcesFactory> resourcesFactories) {
+		this.resourcesFactories = List.copyOf(resourcesFactories);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the sum of the number of times the cache of this factory has been cleared and the generations of all the composed
+	 *           factories, which changes whenever any of them changes.
+	 */
+	@Override
+	public long getResourcesGeneration() {
+		long generation = clearedCount.get();
+		for(final ResourcesFactory resourcesFactory : getResourcesFactories()) {
+			generation += resourcesFactory.getResourcesGeneration();
+		}
+		return generation;
+	}
+
+	/** Discards all cached resources. The caches of the composed factories are not affected. */
+	public void clearCache() {
+		clearedCount.incrementAndGet();
+	}
+
+	/**
+	 * Retrieves the cache of composed resources for a context class, replacing it if the generation of resources has changed since the cache was created.
+	 * @param contextClass The context class the resources of which are cached.
+	 * @return The current cache of resources for the context class.
+	 */
+	private ResourcesCache getResourcesCache(@Nonnull final Class<?> contextClass) {
+		final AtomicReference<ResourcesCache> resourcesCacheReference = contextClassResourcesCaches.get(contextClass);
+		final long generation = getResourcesGeneration();
+		final ResourcesCache resourcesCache = resourcesCacheReference.get();
+		if(resourcesCache.generation == generation) {
+			return resourcesCache;
+		}
+		final ResourcesCache newResourcesCache = new ResourcesCache(generation);
+		//if another thread has replaced the cache in the meantime, the cache it installed will be checked on the next request
+		resourcesCacheReference.compareAndSet(resourcesCache, newResourcesCache);
+		return newResourcesCache;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The resources found are cached for subsequent requests with the same context class and locale.
+	 * </p>
+	 * @see #loadResources(Class, Locale)
+	 */
+	@Override
+	public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) throws ConfigurationException {
+		final ResourcesCache resourcesCache = getResourcesCache(contextClass);
+		final Optional<Resources> cachedResources = resourcesCache.localeResources.get(requireNonNull(locale));
+		if(cachedResources != null) {
+			return cachedResources;
+		}
+		final Optional<Resources> resources = loadResources(contextClass, locale);
+		final Optional<Resources> existingResources = resourcesCache.localeResources.putIfAbsent(locale, resources);
+		return existingResources != null ? existingResources : resources;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Resources already cached are returned in a completed future without using the executor.
+	 * </p>
+	 * @implSpec This implementation requests resources from all the composed factories concurrently using
+	 *           {@link ResourcesFactory#findResourcesAsync(Class, Locale, Executor)}, and composes them as {@link #loadResources(Class, Locale)} would.
+	 */
+	@Override
+	public CompletableFuture<Optional<Resources>> findResourcesAsync(final Class<?> contextClass, final Locale locale, final Executor executor) {
+		requireNonNull(executor);
+		final ResourcesCache resourcesCache = getResourcesCache(contextClass);
+		final Optional<Resources> cachedResources = resourcesCache.localeResources.get(requireNonNull(locale));
+		if(cachedResources != null) {
+			return CompletableFuture.completedFuture(cachedResources);
+		}
+		final List<ResourcesFactory> resourcesFactories = getResourcesFactories();
+		final List<CompletableFuture<Optional<Resources>>> futures = new ArrayList<>(resourcesFactories.size());
+		for(final ResourcesFactory resourcesFactory : resourcesFactories) {
+			futures.add(resourcesFactory.findResourcesAsync(contextClass, locale, executor));
+		}
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).thenApply(completed -> {
+			Optional<Resources> resources = Optional.empty();
+			for(int i = futures.size() - 1; i >= 0; i--) { //compose from the lowest priority factory up
+				resources = withFallback(futures.get(i).join(), resources);
+			}
+			final Optional<Resources> existingResources = resourcesCache.localeResources.putIfAbsent(locale, resources);
+			return existingResources != null ? existingResources : resources;
+		});
+	}
+
+	/**
+	 * Finds and composes the resources of all the composed factories without consulting the cache.
+	 * @param contextClass The context class for which resources should be found.
+	 * @param locale The locale of the resources.
+	 * @return The composed resources for the class and locale, if any of the factories provides resources.
+	 * @throws NullPointerException if the given context class and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	protected Optional<Resources> loadResources(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) throws ConfigurationException {
+		final List<ResourcesFactory> resourcesFactories = getResourcesFactories();
+		Optional<Resources> resources = Optional.empty();
+		for(final ListIterator<ResourcesFactory> factoryIterator = resourcesFactories.listIterator(resourcesFactories.size()); factoryIterator.hasPrevious();) {
+			resources = withFallback(factoryIterator.previous().findResources(contextClass, locale), resources);
+		}
+		return resources;
+	}
+
+	/**
+	 * Composes optional resources with optional fallback resources.
+	 * @param resources The resources to look up first, if any.
+	 * @param fallbackResources The resources to fall back to, if any.
+	 * @return The resources falling back to the fallback resources; or whichever of the two is present if only one is present.
+	 */
+	private static Optional<Resources> withFallback(@Nonnull final Optional<Resources> resources, @Nonnull final Optional<Resources> fallbackResources) {
+		return resources.isEmpty() ? fallbackResources : Optional.of(Resources.withFallback(resources.get(), fallbackResources));
+	}
+
+	/** The cached composed resources of a single context class for a single generation of resources. */
+	private static final class ResourcesCache {
+
+		/** The generation of resources for which the cache is valid. */
+		private final long generation;
+
+		/** The composed resources, keyed to locales. */
+		private final Map<Locale, Optional<Resources>> localeResources = new ConcurrentHashMap<>();
+
+		/**
+		 * Constructor.
+		 * @param generation The generation of resources for which the cache is valid.
+		 */
+		private ResourcesCache(final long generation) {
+			this.generation = generation;
+		}
+
+	}
+
+}
@@ -16,8 +16,11 @@
 
 package io.rincl;
 
+import static java.util.Objects.*;
+
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.*;
 
 import io.confound.config.ConfigurationException;
 
@@ -77,4 +80,16 @@ public Optional<Resources> findResources(final Class<?> contextClass, final Loca
 		return Optional.empty();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns an already completed future containing no resources, without using the executor.
+	 */
+	@Override
+	public CompletableFuture<Optional<Resources>> findResourcesAsync(final Class<?> contextClass, final Locale locale, final Executor executor) {
+		requireNonNull(contextClass);
+		requireNonNull(locale);
+		requireNonNull(executor);
+		return CompletableFuture.completedFuture(Optional.empty());
+	}
+
 }
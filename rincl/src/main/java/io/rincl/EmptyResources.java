@@ -19,6 +19,7 @@
 import static java.util.Objects.*;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.annotation.*;
 
@@ -55,4 +56,22 @@ public Optional<String> findString(final String key, final Object... arguments)
 		return Optional.empty();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns <code>true</code>.
+	 */
+	@Override
+	public boolean isEnumerable() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns an empty stream.
+	 */
+	@Override
+	public Stream<String> keys() throws ConfigurationException {
+		return Stream.empty();
+	}
+
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.util.Collections.*;
+import static java.util.Objects.*;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Function;
+
+import javax.annotation.*;
+
+import io.confound.config.ConfigurationException;
+
+/**
+ * The string resources of the constants of an enum type, resolved once into a table indexed by ordinal.
+ * <p>
+ * Each resource is looked up once when the table is created, using the full fallback chain of the resources from which it was created. Thereafter retrieving
+ * the string of a constant is an array access, requiring neither building a key nor a hash lookup.
+ * </p>
+ * <p>
+ * By default the key of each constant is its {@link Enum#name()}, as the resources are normally those for the enum type itself as a context class; see
+ * {@link ResourcesFactory#getEnumResources(Class, Locale)}. Other key conventions may be used with {@link #of(Class, Resources, Function)}.
+ * </p>
+ * @param <E> The enum type.
+ * @author Garret Wilson
+ */
+public final class EnumResources<E extends Enum<E>> {
+
+	/** The enum resources created with default keys, keyed to the resources from which they were created; the resources are only weakly referenced. */
+	private static final ClassValue<Map<Resources, EnumResources<?>>> DEFAULT_KEY_ENUM_RESOURCES = new ClassValue<Map<Resources, EnumResources<?>>>() {
+		@Override
+		protected Map<Resources, EnumResources<?>> computeValue(final Class<?> enumType) {
+			return synchronizedMap(new WeakHashMap<>());
+		}
+	};
+
+	/** The enum type. */
+	private final Class<E> enumType;
+
+	/** The resource keys, indexed by ordinal. */
+	private final String[] keys;
+
+	/** The resource strings, indexed by ordinal. */
+	private final Optional<String>[] strings;
+
+	/**
+	 * Constructor.
+	 * @param enumType The enum type.
+	 * @param resources The resources from which to retrieve the strings.
+	 * @param keyFunction The function for determining the resource key of each constant.
+	 * @throws NullPointerException if the given enum type, resources, and/or key function is <code>null</code>, or the key function returns <code>null</code>.
+	 * @throws ConfigurationException if there is a resource value stored in an invalid format.
+	 */
+	@SuppressWarnings("unchecked")
+	private EnumResources(@Nonnull final Class<E> enumType, @Nonnull final Resources resources, @Nonnull final Function<? super E, String> keyFunction)
+			throws ConfigurationException {
+		this.enumType = requireNonNull(enumType);
+		final E[] constants = enumType.getEnumConstants();
+		keys = new String[constants.length];
+		strings = (Optional<String>[])Array.newInstance(Optional.class, constants.length);
+		for(final E constant : constants) {
+			final int ordinal = constant.ordinal();
+			keys[ordinal] = requireNonNull(keyFunction.apply(constant), "Enum resource key cannot be null.");
+			strings[ordinal] = resources.findString(keys[ordinal]);
+		}
+	}
+
+	/**
+	 * Returns the enum resources of an enum type using the constant names as keys. Enum resources are reused for as long as the same resources instance is in
+	 * use, so that factories returning cached resources resolve each constant only once.
+	 * @param <E> The enum type.
+	 * @param enumType The enum type.
+	 * @param resources The resources from which to retrieve the strings.
+	 * @return The enum resources for the given enum type.
+	 * @throws NullPointerException if the given enum type and/or resources is <code>null</code>.
+	 * @throws ConfigurationException if there is a resource value stored in an invalid format.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Enum<E>> EnumResources<E> of(@Nonnull final Class<E> enumType, @Nonnull final Resources resources) throws ConfigurationException {
+		final Map<Resources, EnumResources<?>> resourcesEnumResources = DEFAULT_KEY_ENUM_RESOURCES.get(enumType);
+		final EnumResources<?> enumResources = resourcesEnumResources.get(requireNonNull(resources));
+		if(enumResources != null) {
+			return (EnumResources<E>)enumResources;
+		}
+		//resolve outside the lock; a race merely resolves equivalent enum resources that are discarded
+		final EnumResources<E> newEnumResources = of(enumType, resources, Enum::name);
+		return (EnumResources<E>)resourcesEnumResources.computeIfAbsent(resources, __ -> newEnumResources);
+	}
+
+	/**
+	 * Creates enum resources of an enum type using the given function to determine the key of each constant. Enum resources created by this method are not
+	 * cached.
+	 * @param <E> The enum type.
+	 * @param enumType The enum type.
+	 * @param resources The resources from which to retrieve the strings.
+	 * @param keyFunction The function for determining the resource key of each constant, such as
+	 *          <code>constant -&gt; constant.getDeclaringClass().getSimpleName() + '.' + constant.name()</code>.
+	 * @return New enum resources for the given enum type.
+	 * @throws NullPointerException if the given enum type, resources, and/or key function is <code>null</code>, or the key function returns <code>null</code>.
+	 * @throws ConfigurationException if there is a resource value stored in an invalid format.
+	 */
+	public static <E extends Enum<E>> EnumResources<E> of(@Nonnull final Class<E> enumType, @Nonnull final Resources resources,
+			@Nonnull final Function<? super E, String> keyFunction) throws ConfigurationException {
+		return new EnumResources<>(enumType, resources, keyFunction);
+	}
+
+	/** @return The enum type. */
+	public Class<E> getEnumType() {
+		return enumType;
+	}
+
+	/**
+	 * Returns the resource key of a constant.
+	 * @param constant The enum constant.
+	 * @return The resource key used for the constant.
+	 * @throws NullPointerException if the given constant is <code>null</code>.
+	 */
+	public String getKey(@Nonnull final E constant) {
+		return keys[constant.ordinal()];
+	}
+
+	/**
+	 * Retrieves the string resource of a constant, which may not be present.
+	 * @param constant The enum constant.
+	 * @return The optional string resource of the constant.
+	 * @throws NullPointerException if the given constant is <code>null</code>.
+	 */
+	public Optional<String> findString(@Nonnull final E constant) {
+		return strings[constant.ordinal()];
+	}
+
+	/**
+	 * Retrieves the string resource of a constant.
+	 * @param constant The enum constant.
+	 * @return The string resource of the constant.
+	 * @throws NullPointerException if the given constant is <code>null</code>.
+	 * @throws MissingResourceKeyException if there is no resource for the key of the constant.
+	 */
+	public @Nonnull String getString(@Nonnull final E constant) throws MissingResourceKeyException {
+		final int ordinal = constant.ordinal();
+		final Optional<String> string = strings[ordinal];
+		if(string.isEmpty()) {
+			final String key = keys[ordinal];
+			throw new MissingResourceKeyException(String.format("Missing resource for key %s.", key), key);
+		}
+		return string.get();
+	}
+
+	/**
+	 * Retrieves the string resource of a constant, falling back to the name of the constant if there is no resource for the constant.
+	 * @param constant The enum constant.
+	 * @return The string resource of the constant, or the name of the constant if there is no such resource.
+	 * @throws NullPointerException if the given constant is <code>null</code>.
+	 */
+	public @Nonnull String label(@Nonnull final E constant) {
+		final Optional<String> string = strings[constant.ordinal()];
+		return string.isPresent() ? string.get() : constant.name();
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.util.Objects.*;
+
+import java.text.MessageFormat;
+import java.util.*;
+
+import javax.annotation.*;
+
+import io.confound.config.ConfigurationException;
+
+/**
+ * The resolved messages of a {@link Messages} interface for a single set of resources, indexed in the order of the keys of the generated implementation.
+ * <p>
+ * Each resource string is looked up once when the table is created. The template of each message requiring arguments is compiled once into a
+ * {@link MessageFormat}, which is copied before each use because a {@link MessageFormat} is not safe for use by multiple threads.
+ * </p>
+ * <p>
+ * This class is used by generated {@link Messages} implementations, and is not meant to be used directly.
+ * </p>
+ * @author Garret Wilson
+ */
+public final class MessageTable {
+
+	/** The resource keys, indexed by message. */
+	private final String[] keys;
+
+	/** The resource strings, indexed by message; <code>null</code> if there is no resource for the key. */
+	private final String[] strings;
+
+	/** The compiled templates, indexed by message; <code>null</code> for a message without arguments or with no resource. */
+	private final MessageFormat[] messageFormats;
+
+	/**
+	 * Constructor.
+	 * @param resources The resources from which to retrieve the messages.
+	 * @param formatLocale The locale to use for formatting message arguments.
+	 * @param keys The resource keys, indexed by message.
+	 * @param argumentCounts The number of arguments of each message, in the same order as the keys.
+	 * @throws NullPointerException if the given resources, locale, keys, and/or argument counts is <code>null</code>.
+	 * @throws IllegalArgumentException if the number of argument counts does not equal the number of keys.
+	 * @throws ConfigurationException if there is a resource value stored in an invalid format, including an invalid message template.
+	 */
+	MessageTable(@Nonnull final Resources resources, @Nonnull final Locale formatLocale, @Nonnull final String[] keys, @Nonnull final int[] argumentCounts)
+			throws ConfigurationException {
+		requireNonNull(formatLocale);
+		if(argumentCounts.length != keys.length) {
+			throw new IllegalArgumentException(String.format("Found %d argument counts for %d message keys.", argumentCounts.length, keys.length));
+		}
+		final int count = keys.length;
+		this.keys = keys.clone();
+		this.strings = new String[count];
+		this.messageFormats = new MessageFormat[count];
+		for(int index = 0; index < count; index++) {
+			final String key = requireNonNull(this.keys[index]);
+			final String string = resources.findString(key).orElse(null);
+			strings[index] = string;
+			if(string != null && argumentCounts[index] > 0) {
+				try {
+					messageFormats[index] = new MessageFormat(string, formatLocale);
+				} catch(final IllegalArgumentException illegalArgumentException) {
+					throw new ConfigurationException(String.format("Invalid message template for resource key %s: %s", key, illegalArgumentException.getMessage()),
+							illegalArgumentException);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves a message string without formatting.
+	 * @param index The index of the message.
+	 * @return The resource string of the message.
+	 * @throws ArrayIndexOutOfBoundsException if the index is not that of a message in the table.
+	 * @throws MissingResourceKeyException if there is no resource for the key of the message.
+	 */
+	public @Nonnull String getString(final int index) throws MissingResourceKeyException {
+		final String string = strings[index];
+		if(string == null) {
+			throw createMissingResourceKeyException(keys[index]);
+		}
+		return string;
+	}
+
+	/**
+	 * Retrieves a message formatted using the given arguments.
+	 * @param index The index of the message.
+	 * @param arguments The arguments for formatting.
+	 * @return The resource string of the message, formatted using the given arguments.
+	 * @throws ArrayIndexOutOfBoundsException if the index is not that of a message in the table.
+	 * @throws MissingResourceKeyException if there is no resource for the key of the message.
+	 * @throws IllegalArgumentException if the message was not declared with arguments, or if an argument is of a type not accepted by the template.
+	 * @see MessageFormat#format(Object)
+	 */
+	public @Nonnull String format(final int index, @Nonnull final Object... arguments) throws MissingResourceKeyException {
+		final MessageFormat messageFormat = messageFormats[index];
+		if(messageFormat == null) {
+			if(strings[index] == null) {
+				throw createMissingResourceKeyException(keys[index]);
+			}
+			throw new IllegalArgumentException(String.format("Message %s was not declared with arguments.", keys[index]));
+		}
+		return ((MessageFormat)messageFormat.clone()).format(arguments);
+	}
+
+	/**
+	 * Creates an exception indicating a missing resource, in the same form as {@link Resources#createMissingConfigurationKeyException(String)}.
+	 * @param key The missing resource key.
+	 * @return A new exception indicating the missing key.
+	 */
+	private static MissingResourceKeyException createMissingResourceKeyException(@Nonnull final String key) {
+		return new MissingResourceKeyException(String.format("Missing resource for key %s.", key), key);
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.*;
+import java.util.Locale;
+
+/**
+ * Indicates an interface declaring typed accessors to messages, one method per resource key. The <code>rincl-processor</code> annotation processor generates an
+ * implementation of each such interface at build time, which may be retrieved using {@link ResourcesFactory#getMessages(Class, Locale)}.
+ * <p>
+ * Each method of the interface must return {@link String}. A method without parameters returns the resource string; a method with parameters formats the
+ * resource string as a {@link java.text.MessageFormat} template, using the parameters as arguments in order. The resource key is the method name unless
+ * specified using {@link Message}.
+ * </p>
+ * <p>
+ * The resources are those for the interface itself as a context class, so that for example resource bundle lookup would use resources stored alongside the
+ * interface.
+ * </p>
+ * @author Garret Wilson
+ * @see Message
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Messages {
+
+	/**
+	 * The suffix appended to the name of the interface to form the simple name of the generated implementation in the same package. The simple names of any
+	 * enclosing types are joined to that of the interface by <code>'_'</code>.
+	 */
+	public static final String IMPLEMENTATION_CLASS_NAME_SUFFIX = "_RinclMessages";
+
+	/** The name of the <code>public static final String[]</code> field of the generated implementation holding the resource key of each method. */
+	public static final String IMPLEMENTATION_KEYS_FIELD_NAME = "KEYS";
+
+	/**
+	 * The name of the <code>public static final int[]</code> field of the generated implementation holding the number of parameters of each method, in the same
+	 * order as the keys.
+	 */
+	public static final String IMPLEMENTATION_ARGUMENT_COUNTS_FIELD_NAME = "ARGUMENT_COUNTS";
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.util.Collections.*;
+import static java.util.Objects.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import javax.annotation.*;
+
+import io.confound.config.ConfigurationException;
+
+/**
+ * Locates and instantiates the generated implementations of {@link Messages} interfaces.
+ * <p>
+ * The generated class of each interface is located only once. An instance is created for each distinct resources instance and formatting locale, and reused
+ * for as long as the resources instance is in use, so that factories returning cached resources incur no lookups once the messages have been retrieved.
+ * </p>
+ * @author Garret Wilson
+ */
+final class MessagesImplementations {
+
+	/** This class cannot be instantiated. */
+	private MessagesImplementations() {
+	}
+
+	/** The generated implementation information of each messages interface. */
+	private static final ClassValue<Implementation> IMPLEMENTATIONS = new ClassValue<Implementation>() {
+		@Override
+		protected Implementation computeValue(final Class<?> messagesInterface) {
+			return new Implementation(messagesInterface);
+		}
+	};
+
+	/**
+	 * Returns the generated implementation of a messages interface for the given resources.
+	 * @param <M> The type of messages interface.
+	 * @param messagesInterface The interface annotated with {@link Messages}.
+	 * @param resources The resources from which to retrieve the messages.
+	 * @param formatLocale The locale to use for formatting message arguments.
+	 * @return An implementation of the messages interface.
+	 * @throws NullPointerException if the given interface, resources, and/or locale is <code>null</code>.
+	 * @throws IllegalArgumentException if the given class is not an interface annotated with {@link Messages}, or its generated implementation cannot be found.
+	 * @throws ConfigurationException if there is a resource value stored in an invalid format.
+	 */
+	public static <M> M getMessages(@Nonnull final Class<M> messagesInterface, @Nonnull final Resources resources, @Nonnull final Locale formatLocale)
+			throws ConfigurationException {
+		return messagesInterface.cast(IMPLEMENTATIONS.get(messagesInterface).getInstance(requireNonNull(resources), requireNonNull(formatLocale)));
+	}
+
+	/**
+	 * Determines the fully qualified name of the generated implementation of a messages interface.
+	 * @param messagesInterface The messages interface.
+	 * @return The name of the class generated for the interface.
+	 */
+	static String getImplementationClassName(@Nonnull final Class<?> messagesInterface) {
+		final StringBuilder simpleNames = new StringBuilder(messagesInterface.getSimpleName());
+		for(Class<?> enclosingClass = messagesInterface.getEnclosingClass(); enclosingClass != null; enclosingClass = enclosingClass.getEnclosingClass()) {
+			simpleNames.insert(0, '_').insert(0, enclosingClass.getSimpleName());
+		}
+		final String packageName = messagesInterface.getPackageName();
+		return (packageName.isEmpty() ? "" : packageName + '.') + simpleNames + Messages.IMPLEMENTATION_CLASS_NAME_SUFFIX;
+	}
+
+	/** The generated implementation of a messages interface, along with the instances created for the resources in use. */
+	private static final class Implementation {
+
+		/** The constructor of the generated class, accepting a {@link MessageTable}. */
+		private final Constructor<?> constructor;
+
+		/** The resource keys, indexed by message. */
+		private final String[] keys;
+
+		/** The number of arguments of each message. */
+		private final int[] argumentCounts;
+
+		/** The implementation instances, keyed to the resources and then to the formatting locale; the resources are only weakly referenced. */
+		private final Map<Resources, Map<Locale, Object>> instances = synchronizedMap(new WeakHashMap<>());
+
+		/**
+		 * Constructor.
+		 * @param messagesInterface The messages interface.
+		 * @throws IllegalArgumentException if the given class is not an interface annotated with {@link Messages}, or its generated implementation cannot be found.
+		 */
+		Implementation(@Nonnull final Class<?> messagesInterface) {
+			if(!messagesInterface.isInterface() || !messagesInterface.isAnnotationPresent(Messages.class)) {
+				throw new IllegalArgumentException(String.format("Class %s is not an interface annotated with @%s.", messagesInterface.getName(),
+						Messages.class.getSimpleName()));
+			}
+			final String implementationClassName = getImplementationClassName(messagesInterface);
+			try {
+				final Class<?> implementationClass = Class.forName(implementationClassName, true, messagesInterface.getClassLoader());
+				if(!messagesInterface.isAssignableFrom(implementationClass)) {
+					throw new IllegalArgumentException(String.format("Class %s does not implement %s.", implementationClassName, messagesInterface.getName()));
+				}
+				keys = (String[])implementationClass.getField(Messages.IMPLEMENTATION_KEYS_FIELD_NAME).get(null);
+				argumentCounts = (int[])implementationClass.getField(Messages.IMPLEMENTATION_ARGUMENT_COUNTS_FIELD_NAME).get(null);
+				constructor = implementationClass.getConstructor(MessageTable.class);
+			} catch(final ClassNotFoundException classNotFoundException) {
+				throw new IllegalArgumentException(String.format("No generated implementation %s found for messages interface %s; is the Rincl annotation processor enabled?",
+						implementationClassName, messagesInterface.getName()), classNotFoundException);
+			} catch(final ReflectiveOperationException reflectiveOperationException) {
+				throw new IllegalArgumentException(String.format("Invalid generated implementation %s for messages interface %s.", implementationClassName,
+						messagesInterface.getName()), reflectiveOperationException);
+			}
+		}
+
+		/**
+		 * Returns the implementation instance for the given resources, creating one if needed.
+		 * @param resources The resources from which to retrieve the messages.
+		 * @param formatLocale The locale to use for formatting message arguments.
+		 * @return An instance of the generated implementation.
+		 * @throws ConfigurationException if there is a resource value stored in an invalid format.
+		 */
+		Object getInstance(@Nonnull final Resources resources, @Nonnull final Locale formatLocale) throws ConfigurationException {
+			synchronized(instances) {
+				final Map<Locale, Object> localeInstances = instances.get(resources);
+				final Object instance = localeInstances != null ? localeInstances.get(formatLocale) : null;
+				if(instance != null) {
+					return instance;
+				}
+			}
+			//create the instance outside the lock; a race merely creates an equivalent instance that is discarded
+			final Object instance = newInstance(new MessageTable(resources, formatLocale, keys, argumentCounts));
+			synchronized(instances) {
+				return instances.computeIfAbsent(resources, __ -> new HashMap<>(2)).computeIfAbsent(formatLocale, __ -> instance);
+			}
+		}
+
+		/**
+		 * Creates a new instance of the generated implementation.
+		 * @param messageTable The table of messages to provide.
+		 * @return A new instance of the generated implementation.
+		 */
+		private Object newInstance(@Nonnull final MessageTable messageTable) {
+			try {
+				return constructor.newInstance(messageTable);
+			} catch(final InvocationTargetException invocationTargetException) {
+				final Throwable cause = invocationTargetException.getCause();
+				if(cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				}
+				throw new IllegalStateException(cause);
+			} catch(final ReflectiveOperationException reflectiveOperationException) {
+				throw new IllegalStateException(reflectiveOperationException);
+			}
+		}
+
+	}
+
+}
@@ -78,4 +78,37 @@ public default Class<ResourceI18nConcern> getConcernType() {
 		return getResources(contextClass, getLocale(Locale.Category.DISPLAY));
 	}
 
+	/**
+	 * Retrieves the generated implementation of a {@link Messages} interface, providing typed access to the resources of the interface.
+	 * <p>
+	 * The default implementation uses the locale returned by {@link #getLocale(Locale.Category)} for {@link Locale.Category#DISPLAY}.
+	 * </p>
+	 * @param <M> The type of messages interface.
+	 * @param messagesInterface The interface annotated with {@link Messages}, for which an implementation was generated at build time.
+	 * @return An implementation of the messages interface.
+	 * @throws NullPointerException if the given interface is <code>null</code>.
+	 * @throws IllegalArgumentException if the given class is not an interface annotated with {@link Messages}, or its generated implementation cannot be found.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getMessages(Class, Locale)
+	 */
+	public default @Nonnull <M> M getMessages(@Nonnull final Class<M> messagesInterface) throws ConfigurationException {
+		return getMessages(messagesInterface, getLocale(Locale.Category.DISPLAY));
+	}
+
+	/**
+	 * Retrieves the string resources of the constants of an enum type, resolved into a table indexed by ordinal.
+	 * <p>
+	 * The default implementation uses the locale returned by {@link #getLocale(Locale.Category)} for {@link Locale.Category#DISPLAY}.
+	 * </p>
+	 * @param <E> The enum type.
+	 * @param enumType The enum type.
+	 * @return The string resources of the enum constants.
+	 * @throws NullPointerException if the given enum type is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getEnumResources(Class, Locale)
+	 */
+	public default @Nonnull <E extends Enum<E>> EnumResources<E> getEnumResources(@Nonnull final Class<E> enumType) throws ConfigurationException {
+		return getEnumResources(enumType, getLocale(Locale.Category.DISPLAY));
+	}
+
 }
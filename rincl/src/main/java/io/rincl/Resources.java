@@ -20,6 +20,7 @@
 
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.stream.Stream;
 
 import javax.annotation.*;
 
@@ -115,6 +116,48 @@ public default Optional<String> findString(@Nonnull final String key, @Nonnull f
 		return string;
 	}
 
+	/**
+	 * Indicates whether these resources can enumerate their keys using {@link #keys()} and {@link #stringEntries()}. Resources with fallback resources can only
+	 * enumerate their keys if all their fallback resources can as well. Callers should check this method before enumerating keys, rather than relying on
+	 * {@link UnsupportedOperationException} being thrown.
+	 * @implSpec The default implementation returns <code>false</code>, as resources are not required to be able to enumerate their keys.
+	 * @return <code>true</code> if the keys of these resources can be enumerated.
+	 * @see #keys()
+	 */
+	public default boolean isEnumerable() {
+		return false;
+	}
+
+	/**
+	 * Streams the keys of all resources available from these resources, including those provided by any fallback resources. Each key appears once, even if it is
+	 * shadowed by a more specific resources. Keys are produced lazily, so that large resources may be enumerated without materializing a copy of their keys.
+	 * <p>
+	 * An implementation that overrides this method to support key enumeration must also override {@link #isEnumerable()}.
+	 * </p>
+	 * @implSpec The default implementation throws {@link UnsupportedOperationException}, as resources are not required to be able to enumerate their keys.
+	 * @return A stream of the resource keys, in no particular order.
+	 * @throws UnsupportedOperationException if these resources are not {@link #isEnumerable()}.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #isEnumerable()
+	 * @see #stringEntries()
+	 */
+	public default Stream<String> keys() throws ConfigurationException {
+		throw new UnsupportedOperationException(String.format("Resources %s do not support key enumeration.", getClass().getName()));
+	}
+
+	/**
+	 * Streams the string resources available from these resources, including those provided by any fallback resources, with each key associated with the value
+	 * that would be returned by {@link #findString(String)}. Entries are produced lazily, so that large resources may be exported without materializing a copy.
+	 * @implSpec The default implementation looks up each key returned by {@link #keys()} using {@link #findString(String)}.
+	 * @return A stream of the keys and string values of the resources, in no particular order.
+	 * @throws UnsupportedOperationException if these resources are not {@link #isEnumerable()}.
+	 * @throws ConfigurationException if there is a configuration error; a resource value stored in an invalid format is reported when its entry is produced.
+	 * @see #keys()
+	 */
+	public default Stream<Map.Entry<String, String>> stringEntries() throws ConfigurationException {
+		return keys().flatMap(key -> findString(key).map(string -> Map.entry(key, string)).stream());
+	}
+
 	/**
 	 * Returns resources equivalent to these resources but that will fall back to a specified parent resources if a value is not present. These resources will
 	 * remain unmodified.
@@ -16,7 +16,10 @@
 
 package io.rincl;
 
+import static java.util.Objects.*;
+
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.annotation.*;
 
@@ -72,6 +75,46 @@ public interface ResourcesFactory {
 		return findResources(contextClass, locale).orElseGet(() -> new EmptyResources(contextClass));
 	}
 
+	/**
+	 * Retrieves the generated implementation of a {@link Messages} interface for the given locale, providing typed access to the resources of the interface.
+	 * <p>
+	 * The messages are retrieved from the resources for the interface itself as the context class. Message arguments are formatted using the locale returned by
+	 * {@link Rincl#getLocale(Locale.Category)} for {@link Locale.Category#FORMAT}.
+	 * </p>
+	 * @implSpec The default implementation retrieves the resources using {@link #getResources(Class, Locale)} and returns an implementation instance backed by
+	 *           a table of the resolved messages. The instance is reused for as long as the same resources instance is returned for the interface, so factories
+	 *           that cache resources resolve each message only once.
+	 * @param <M> The type of messages interface.
+	 * @param messagesInterface The interface annotated with {@link Messages}, for which an implementation was generated at build time.
+	 * @param locale The locale for which messages should be returned.
+	 * @return An implementation of the messages interface.
+	 * @throws NullPointerException if the given interface and/or locale is <code>null</code>.
+	 * @throws IllegalArgumentException if the given class is not an interface annotated with {@link Messages}, or its generated implementation cannot be found.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	public default @Nonnull <M> M getMessages(@Nonnull final Class<M> messagesInterface, @Nonnull final Locale locale) throws ConfigurationException {
+		return MessagesImplementations.getMessages(messagesInterface, getResources(messagesInterface, locale), Rincl.getLocale(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Retrieves the string resources of the constants of an enum type for the given locale, resolved into a table indexed by ordinal.
+	 * <p>
+	 * The strings are retrieved from the resources for the enum type itself as the context class, using the name of each constant as its key.
+	 * </p>
+	 * @implSpec The default implementation retrieves the resources using {@link #getResources(Class, Locale)} and returns {@link EnumResources#of(Class, Resources)},
+	 *           which is reused for as long as the same resources instance is returned for the enum type.
+	 * @param <E> The enum type.
+	 * @param enumType The enum type.
+	 * @param locale The locale for which resources should be returned.
+	 * @return The string resources of the enum constants.
+	 * @throws NullPointerException if the given enum type and/or locale is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	public default @Nonnull <E extends Enum<E>> EnumResources<E> getEnumResources(@Nonnull final Class<E> enumType, @Nonnull final Locale locale)
+			throws ConfigurationException {
+		return EnumResources.of(enumType, getResources(enumType, locale));
+	}
+
 	/**
 	 * Retrieves resources related to a specified locale for the given context.
 	 * <p>
@@ -106,4 +149,57 @@ public interface ResourcesFactory {
 	 */
 	public @Nonnull Optional<Resources> findResources(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) throws ConfigurationException;
 
+	/**
+	 * Returns the generation of the resources provided by this factory. The generation changes whenever resources previously returned by the factory may have
+	 * become stale, such as when the factory reloads or discards its cached resources. A factory that caches resources obtained from other factories can compare
+	 * generations to determine when its own cache must be discarded.
+	 * @implSpec The default implementation returns zero, indicating that the resources provided never become stale.
+	 * @implNote The generation is only meant to be compared for equality with a previously returned generation; it increases over the life of the factory but
+	 *           its absolute value carries no meaning.
+	 * @return The current generation of the resources provided by this factory.
+	 */
+	public default long getResourcesGeneration() {
+		return 0;
+	}
+
+	/**
+	 * Asynchronously retrieves resources related to a specified locale for the given context class, so that the calling thread need not block while resources
+	 * are being loaded.
+	 * <p>
+	 * The context class returned by {@link Resources#getContextClass()} may not necessarily be the context class provided here.
+	 * </p>
+	 * @implSpec The default implementation delegates to {@link #findResourcesAsync(Class, Locale, Executor)} using {@link ForkJoinPool#commonPool()}.
+	 * @param contextClass The context with which these resources are related; usually the class of the object requesting the resource.
+	 * @param locale The locale for which resources should be returned for the given context class.
+	 * @return A future providing access to configured resources for the given context class. If there is a configuration error, the future will complete
+	 *         exceptionally with a {@link ConfigurationException}.
+	 * @throws NullPointerException if the given context class and/or locale is <code>null</code>.
+	 * @see #findResources(Class, Locale)
+	 */
+	public default @Nonnull CompletableFuture<Optional<Resources>> findResourcesAsync(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale) {
+		return findResourcesAsync(contextClass, locale, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Asynchronously retrieves resources related to a specified locale for the given context class, performing any blocking work using the given executor.
+	 * <p>
+	 * The context class returned by {@link Resources#getContextClass()} may not necessarily be the context class provided here.
+	 * </p>
+	 * @implSpec The default implementation calls {@link #findResources(Class, Locale)} using the given executor. Implementations able to determine resources
+	 *           without blocking, or to load them without tying up a thread while waiting on other factories, should override this method.
+	 * @param contextClass The context with which these resources are related; usually the class of the object requesting the resource.
+	 * @param locale The locale for which resources should be returned for the given context class.
+	 * @param executor The executor to use for blocking work such as loading resources.
+	 * @return A future providing access to configured resources for the given context class. If there is a configuration error, the future will complete
+	 *         exceptionally with a {@link ConfigurationException}.
+	 * @throws NullPointerException if the given context class, locale, and/or executor is <code>null</code>.
+	 * @see #findResources(Class, Locale)
+	 */
+	public default @Nonnull CompletableFuture<Optional<Resources>> findResourcesAsync(@Nonnull final Class<?> contextClass, @Nonnull final Locale locale,
+			@Nonnull final Executor executor) {
+		requireNonNull(contextClass);
+		requireNonNull(locale);
+		return CompletableFuture.supplyAsync(() -> findResources(contextClass, locale), executor);
+	}
+
 }
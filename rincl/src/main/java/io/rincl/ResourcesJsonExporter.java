@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.*;
+
+import io.confound.config.ConfigurationException;
+
+/**
+ * Exports resources as compact JSON files for client-side internationalization, suitable for serving as immutable static files.
+ * <p>
+ * For each locale, the resources of each context class are resolved once through their complete fallback chain using {@link Resources#stringEntries()}, and
+ * written as a single JSON object mapping each context class name to an object of its resource keys and string values, with keys in sorted order so that the
+ * same resources always produce the same bytes. Each file is named using a hash of its content, so that it may be served with a long cache lifetime, and is
+ * accompanied by a pre-compressed gzip variant. A manifest maps each locale language tag to the name of its file, as in the following example:
+ * </p>
+ * 
+ * <pre>
+ * messages.manifest.json
+ * messages.en-US.3f2a9c0d51e8b746.json
+ * messages.en-US.3f2a9c0d51e8b746.json.gz
+ * </pre>
+ * 
+ * @author Garret Wilson
+ */
+public class ResourcesJsonExporter {
+
+	/** The filename extension of exported JSON files. */
+	public static final String JSON_FILENAME_EXTENSION = "json";
+
+	/** The filename extension of pre-compressed gzip variants. */
+	public static final String GZIP_FILENAME_EXTENSION = "gz";
+
+	/** The name of the manifest, appended to the base name. */
+	public static final String MANIFEST_NAME = "manifest";
+
+	/** The number of hexadecimal digits of the content hash used in filenames. */
+	private static final int CONTENT_HASH_LENGTH = 16;
+
+	private final ResourcesFactory resourcesFactory;
+
+	/** @return The factory providing the resources to export. */
+	public ResourcesFactory getResourcesFactory() {
+		return resourcesFactory;
+	}
+
+	/**
+	 * Resources factory constructor.
+	 * @param resourcesFactory The factory providing the resources to export, such as a {@link ResourceI18nConcern}.
+	 * @throws NullPointerException if the given resources factory is <code>null</code>.
+	 */
+	public ResourcesJsonExporter(@Nonnull final ResourcesFactory resourcesFactory) {
+		this.resourcesFactory = requireNonNull(resourcesFactory);
+	}
+
+	/**
+	 * Exports the resources of the given context classes for each of the given locales to a directory, along with pre-compressed variants and a manifest. The
+	 * resources for all the locales are resolved before any file is written, so that if the resources of some context class cannot be enumerated or cannot be
+	 * resolved, no files are written at all. Each file is written to a temporary file and then moved into place, so that a file is never served partially
+	 * written.
+	 * @param contextClasses The context classes of the resources to export.
+	 * @param locales The locales for which resources should be exported.
+	 * @param directory The directory in which to write the files; it will be created if needed.
+	 * @param baseName The base name of the files, such as <code>messages</code>.
+	 * @return The names of the exported JSON files, keyed to their locales in the order given.
+	 * @throws NullPointerException if any of the given arguments is <code>null</code>.
+	 * @throws UnsupportedOperationException if the resources of a context class are not {@link Resources#isEnumerable()} for some locale.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @throws IOException if there is an error writing the files.
+	 */
+	public Map<Locale, String> export(@Nonnull final Collection<? extends Class<?>> contextClasses, @Nonnull final Collection<Locale> locales,
+			@Nonnull final Path directory, @Nonnull final String baseName) throws ConfigurationException, IOException {
+		requireNonNull(baseName);
+		requireNonNull(directory);
+		final Map<Locale, byte[]> localeJsons = new LinkedHashMap<>();
+		for(final Locale locale : locales) { //resolve everything before writing anything
+			localeJsons.put(locale, toJson(contextClasses, locale).getBytes(UTF_8));
+		}
+		Files.createDirectories(directory);
+		final Map<Locale, String> filenames = new LinkedHashMap<>();
+		for(final Map.Entry<Locale, byte[]> localeJson : localeJsons.entrySet()) {
+			final Locale locale = localeJson.getKey();
+			final byte[] json = localeJson.getValue();
+			final String filename = String.format("%s.%s.%s.%s", baseName, locale.toLanguageTag(), getContentHash(json), JSON_FILENAME_EXTENSION);
+			write(directory.resolve(filename), json);
+			write(directory.resolve(filename + '.' + GZIP_FILENAME_EXTENSION), gzip(json));
+			filenames.put(locale, filename);
+		}
+		final Map<String, String> manifest = new LinkedHashMap<>();
+		filenames.forEach((locale, filename) -> manifest.put(locale.toLanguageTag(), filename));
+		final StringBuilder manifestJson = new StringBuilder();
+		appendJsonObject(manifestJson, manifest);
+		write(directory.resolve(String.format("%s.%s.%s", baseName, MANIFEST_NAME, JSON_FILENAME_EXTENSION)), manifestJson.toString().getBytes(UTF_8));
+		return filenames;
+	}
+
+	/**
+	 * Resolves the resources of the given context classes for a locale and produces compact JSON. Context classes and resource keys appear in sorted order. The
+	 * resources of all the context classes are checked for enumerability before any of them are enumerated.
+	 * @param contextClasses The context classes of the resources to export.
+	 * @param locale The locale for which resources should be exported.
+	 * @return A JSON object mapping each context class name to an object containing its string resources.
+	 * @throws NullPointerException if the given context classes and/or locale is <code>null</code>.
+	 * @throws UnsupportedOperationException if the resources of a context class are not {@link Resources#isEnumerable()}.
+	 * @throws ConfigurationException if there is a configuration error.
+	 */
+	public String toJson(@Nonnull final Collection<? extends Class<?>> contextClasses, @Nonnull final Locale locale) throws ConfigurationException {
+		requireNonNull(locale);
+		final Map<Class<?>, Resources> contextResources = new LinkedHashMap<>();
+		for(final Class<?> contextClass : contextClasses) {
+			final Resources resources = getResourcesFactory().getResources(contextClass, locale);
+			if(!resources.isEnumerable()) {
+				throw new UnsupportedOperationException(
+						String.format("Resources of context class %s for locale %s do not support key enumeration.", contextClass.getName(), locale.toLanguageTag()));
+			}
+			contextResources.put(contextClass, resources);
+		}
+		final SortedMap<String, SortedMap<String, String>> contextStrings = new TreeMap<>();
+		for(final Map.Entry<Class<?>, Resources> contextResourcesEntry : contextResources.entrySet()) {
+			final SortedMap<String, String> strings = new TreeMap<>();
+			contextResourcesEntry.getValue().stringEntries().forEach(entry -> strings.put(entry.getKey(), entry.getValue()));
+			contextStrings.put(contextResourcesEntry.getKey().getName(), strings);
+		}
+		final StringBuilder json = new StringBuilder();
+		json.append('{');
+		boolean isFirst = true;
+		for(final Map.Entry<String, SortedMap<String, String>> contextEntry : contextStrings.entrySet()) {
+			if(!isFirst) {
+				json.append(',');
+			}
+			isFirst = false;
+			appendJsonString(json, contextEntry.getKey()).append(':');
+			appendJsonObject(json, contextEntry.getValue());
+		}
+		return json.append('}').toString();
+	}
+
+	/**
+	 * Appends a JSON object with string values.
+	 * @param json The string builder to which to append.
+	 * @param strings The keys and values of the object.
+	 * @return The string builder.
+	 */
+	private static StringBuilder appendJsonObject(@Nonnull final StringBuilder json, @Nonnull final Map<String, String> strings) {
+		json.append('{');
+		boolean isFirst = true;
+		for(final Map.Entry<String, String> entry : strings.entrySet()) {
+			if(!isFirst) {
+				json.append(',');
+			}
+			isFirst = false;
+			appendJsonString(json, entry.getKey()).append(':');
+			appendJsonString(json, entry.getValue());
+		}
+		return json.append('}');
+	}
+
+	/**
+	 * Appends a JSON string, escaping characters as needed. The line and paragraph separators are escaped as well, so that the JSON may be embedded in
+	 * JavaScript.
+	 * @param json The string builder to which to append.
+	 * @param string The string to append.
+	 * @return The string builder.
+	 */
+	static StringBuilder appendJsonString(@Nonnull final StringBuilder json, @Nonnull final String string) {
+		json.append('"');
+		final int length = string.length();
+		for(int index = 0; index < length; index++) {
+			final char c = string.charAt(index);
+			switch(c) {
+				case '"':
+					json.append("\\\"");
+					break;
+				case '\\':
+					json.append("\\\\");
+					break;
+				case '\n':
+					json.append("\\n");
+					break;
+				case '\r':
+					json.append("\\r");
+					break;
+				case '\t':
+					json.append("\\t");
+					break;
+				default:
+					if(c < 0x20 || c == '\u2028' || c == '\u2029') {
+						json.append(String.format("\\u%04x", (int)c));
+					} else {
+						json.append(c);
+					}
+					break;
+			}
+		}
+		return json.append('"');
+	}
+
+	/**
+	 * Determines the hash of content for use in a filename.
+	 * @param bytes The content.
+	 * @return The lowercase hexadecimal representation of the beginning of the SHA-256 digest of the content.
+	 */
+	public static String getContentHash(@Nonnull final byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, CONTENT_HASH_LENGTH / 2);
+		} catch(final NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new AssertionError("SHA-256 is a required algorithm.", noSuchAlgorithmException);
+		}
+	}
+
+	/**
+	 * Compresses content using gzip.
+	 * @param bytes The content.
+	 * @return The compressed content.
+	 * @throws IOException if there is an error compressing the content.
+	 */
+	private static byte[] gzip(@Nonnull final byte[] bytes) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+			gzipOutputStream.write(bytes);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	/**
+	 * Writes content to a temporary file in the same directory and then moves it into place, replacing any existing file.
+	 * @param file The file to write.
+	 * @param bytes The content to write.
+	 * @throws IOException if there is an error writing the file.
+	 */
+	private static void write(@Nonnull final Path file, @Nonnull final byte[] bytes) throws IOException {
+		final Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			Files.write(tempFile, bytes);
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+}
@@ -159,6 +159,41 @@ public static Optional<ResourceI18nConcern> setDefaultResourceI18nConcern(@Nonnu
 		return getResourceI18nConcern().getResources(contextClass, locale);
 	}
 
+	/**
+	 * Retrieves the generated implementation of a {@link Messages} interface for the current context.
+	 * <p>
+	 * This is a convenience method that requests messages from the current context resource i18n concern.
+	 * </p>
+	 * @param <M> The type of messages interface.
+	 * @param messagesInterface The interface annotated with {@link Messages}, for which an implementation was generated at build time.
+	 * @return An implementation of the messages interface.
+	 * @throws NullPointerException if the given interface is <code>null</code>.
+	 * @throws IllegalArgumentException if the given class is not an interface annotated with {@link Messages}, or its generated implementation cannot be found.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getResourceI18nConcern()
+	 * @see ResourceI18nConcern#getMessages(Class)
+	 */
+	public static @Nonnull <M> M getMessages(@Nonnull final Class<M> messagesInterface) throws ConfigurationException {
+		return getResourceI18nConcern().getMessages(messagesInterface);
+	}
+
+	/**
+	 * Retrieves the string resources of the constants of an enum type for the current context, resolved into a table indexed by ordinal.
+	 * <p>
+	 * This is a convenience method that requests enum resources from the current context resource i18n concern.
+	 * </p>
+	 * @param <E> The enum type.
+	 * @param enumType The enum type.
+	 * @return The string resources of the enum constants.
+	 * @throws NullPointerException if the given enum type is <code>null</code>.
+	 * @throws ConfigurationException if there is a configuration error.
+	 * @see #getResourceI18nConcern()
+	 * @see ResourceI18nConcern#getEnumResources(Class)
+	 */
+	public static @Nonnull <E extends Enum<E>> EnumResources<E> getEnumResources(@Nonnull final Class<E> enumType) throws ConfigurationException {
+		return getResourceI18nConcern().getEnumResources(enumType);
+	}
+
 	/**
 	 * Retrieves the configured locale for the given category in the current context.
 	 * <p>
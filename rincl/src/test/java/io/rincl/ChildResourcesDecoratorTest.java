@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+
+import io.confound.config.*;
+
+/**
+ * Tests of {@link ChildResourcesDecorator}.
+ * @author Garret Wilson
+ */
+public class ChildResourcesDecoratorTest {
+
+	/**
+	 * Creates resources that count the lookups of values.
+	 * @param values The resource values.
+	 * @param lookupCount The counter to increment for each lookup.
+	 * @return New resources providing the given values.
+	 */
+	private Resources countingResources(final Map<String, ?> values, final AtomicInteger lookupCount) {
+		return new ConfigurationResources(getClass(), new ObjectMapConfiguration(values) {
+			@Override
+			protected Optional<Object> findConfigurationValueImpl(final String key) throws ConfigurationException {
+				lookupCount.incrementAndGet();
+				return super.findConfigurationValueImpl(key);
+			}
+		});
+	}
+
+	/** @see ChildResourcesDecorator#findString(String) */
+	@Test
+	public void testFindStringFallsBackThroughLayers() {
+		final AtomicInteger lookupCount = new AtomicInteger();
+		final Resources resources = countingResources(Map.of("foo", "1"), lookupCount)
+				.withFallback(countingResources(Map.of("foo", "2", "bar", "2"), lookupCount).withFallback(countingResources(Map.of("baz", "3"), lookupCount)));
+		assertThat(resources.getString("foo"), is("1"));
+		assertThat(resources.getString("bar"), is("2"));
+		assertThat(resources.getString("baz"), is("3"));
+		assertThat(resources.findString("qux"), is(Optional.empty()));
+	}
+
+	/**
+	 * Tests that a key answered by a distant layer is later looked up directly in that layer.
+	 * @see ChildResourcesDecorator#findString(String)
+	 */
+	@Test
+	public void testFindStringRemembersAnsweringLayer() {
+		final AtomicInteger childLookupCount = new AtomicInteger();
+		final AtomicInteger parentLookupCount = new AtomicInteger();
+		final AtomicInteger grandparentLookupCount = new AtomicInteger();
+		final Resources resources = countingResources(Map.of("foo", "1"), childLookupCount).withFallback(
+				countingResources(Map.of("bar", "2"), parentLookupCount).withFallback(countingResources(Map.of("baz", "3"), grandparentLookupCount)));
+		assertThat(resources.getString("baz"), is("3"));
+		assertThat(childLookupCount.get(), is(1));
+		assertThat(parentLookupCount.get(), is(1));
+		assertThat(grandparentLookupCount.get(), is(1));
+		assertThat(resources.getString("baz"), is("3"));
+		assertThat(resources.getString("baz", "unused"), is("3"));
+		assertThat(childLookupCount.get(), is(1));
+		assertThat(parentLookupCount.get(), is(1));
+		assertThat(grandparentLookupCount.get(), is(3));
+	}
+
+	/**
+	 * Tests that a key provided by no layer is looked up again, so that a value later added to dynamic resources is found.
+	 * @see ChildResourcesDecorator#findString(String)
+	 */
+	@Test
+	public void testFindStringDoesNotRememberMissingKey() {
+		final AtomicInteger lookupCount = new AtomicInteger();
+		final Map<String, Object> parentValues = new HashMap<>(Map.of("bar", "2"));
+		final Resources resources = countingResources(Map.of("foo", "1"), lookupCount).withFallback(countingResources(parentValues, lookupCount));
+		assertThat(resources.findString("qux"), is(Optional.empty()));
+		assertThat(lookupCount.get(), is(2));
+		parentValues.put("qux", "3");
+		assertThat(resources.findString("qux"), is(Optional.of("3")));
+		assertThat(lookupCount.get(), is(4));
+	}
+
+	/**
+	 * Creates resources that can enumerate their keys.
+	 * @param values The resource values.
+	 * @return New resources providing the given values.
+	 */
+	private Resources enumerableResources(final Map<String, ?> values) {
+		return new ConfigurationResources(getClass(), new ObjectMapConfiguration(values)) {
+			@Override
+			public boolean isEnumerable() {
+				return true;
+			}
+
+			@Override
+			public Stream<String> keys() {
+				return values.keySet().stream();
+			}
+		};
+	}
+
+	/** @see ChildResourcesDecorator#keys() */
+	@Test
+	public void testKeysAppliesShadowing() {
+		final Resources resources = enumerableResources(Map.of("foo", "1"))
+				.withFallback(enumerableResources(Map.of("foo", "2", "bar", "2")).withFallback(new EmptyResources(getClass())))
+				.withFallback(enumerableResources(Map.of("bar", "3", "baz", "3")));
+		assertThat(resources.isEnumerable(), is(true));
+		assertThat(resources.keys().collect(Collectors.toList()), containsInAnyOrder("foo", "bar", "baz"));
+	}
+
+	/** @see ChildResourcesDecorator#stringEntries() */
+	@Test
+	public void testStringEntriesAppliesShadowing() {
+		final Resources resources = enumerableResources(Map.of("foo", "1"))
+				.withFallback(enumerableResources(Map.of("foo", "2", "bar", "2")).withFallback(enumerableResources(Map.of("bar", "3", "baz", "3"))));
+		assertThat(resources.stringEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)), is(Map.of("foo", "1", "bar", "2", "baz", "3")));
+	}
+
+	/** Tests that key enumeration fails before producing any keys if a layer cannot enumerate its keys. */
+	@Test
+	public void testKeysUnsupportedLayer() {
+		final Resources resources = enumerableResources(Map.of("foo", "1")).withFallback(countingResources(Map.of("bar", "2"), new AtomicInteger()));
+		assertThat(resources.isEnumerable(), is(false));
+		assertThrows(UnsupportedOperationException.class, () -> resources.keys());
+		assertThrows(UnsupportedOperationException.class, () -> resources.stringEntries());
+	}
+
+}
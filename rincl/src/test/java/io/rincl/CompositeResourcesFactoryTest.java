@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.jupiter.api.*;
+
+import io.confound.config.*;
+
+/**
+ * Tests of {@link CompositeResourcesFactory}.
+ * @author Garret Wilson
+ */
+public class CompositeResourcesFactoryTest {
+
+	/** A resources factory that counts its lookups and has a generation that can be advanced. */
+	private static class CountingResourcesFactory implements ResourcesFactory {
+
+		private final Map<String, ?> values;
+
+		private final AtomicInteger findCount = new AtomicInteger();
+
+		private final AtomicLong generation = new AtomicLong();
+
+		/**
+		 * Values constructor.
+		 * @param values The resource values to provide, or <code>null</code> if no resources should be provided.
+		 */
+		public CountingResourcesFactory(final Map<String, ?> values) {
+			this.values = values;
+		}
+
+		@Override
+		public Optional<Resources> findResources(final Class<?> contextClass, final Locale locale) {
+			findCount.incrementAndGet();
+			return Optional.ofNullable(values).map(values -> new ConfigurationResources(contextClass, new ObjectMapConfiguration(values)));
+		}
+
+		@Override
+		public long getResourcesGeneration() {
+			return generation.get();
+		}
+
+	}
+
+	/** @see CompositeResourcesFactory#findResources(Class, Locale) */
+	@Test
+	public void testFindResourcesComposesInOrder() {
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(new CountingResourcesFactory(Map.of("foo", "a")),
+				new CountingResourcesFactory(null), new CountingResourcesFactory(Map.of("foo", "c", "bar", "c")));
+		final Resources resources = factory.findResources(getClass(), Locale.ROOT).orElseThrow();
+		assertThat(resources.getString("foo"), is("a"));
+		assertThat(resources.getString("bar"), is("c"));
+		assertThat(resources.findString("baz"), is(Optional.empty()));
+	}
+
+	/** @see CompositeResourcesFactory#findResources(Class, Locale) */
+	@Test
+	public void testFindResourcesNoneFound() {
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(new CountingResourcesFactory(null), ResourcesFactory.NONE);
+		assertThat(factory.findResources(getClass(), Locale.ROOT), is(Optional.empty()));
+	}
+
+	/** @see CompositeResourcesFactory#findResources(Class, Locale) */
+	@Test
+	public void testFindResourcesCached() {
+		final CountingResourcesFactory resourcesFactory = new CountingResourcesFactory(Map.of("foo", "bar"));
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(resourcesFactory);
+		final Resources resources = factory.findResources(getClass(), Locale.ROOT).orElseThrow();
+		assertThat(factory.findResources(getClass(), Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		assertThat(resourcesFactory.findCount.get(), is(1));
+		assertThat(factory.findResources(getClass(), Locale.FRENCH).orElseThrow(), is(not(sameInstance(resources))));
+		assertThat(resourcesFactory.findCount.get(), is(2));
+	}
+
+	/**
+	 * Tests that the cache is discarded when a composed factory changes generation.
+	 * @see CompositeResourcesFactory#getResourcesGeneration()
+	 */
+	@Test
+	public void testFactoryGenerationChangeInvalidatesCache() {
+		final CountingResourcesFactory resourcesFactory1 = new CountingResourcesFactory(Map.of("foo", "bar"));
+		final CountingResourcesFactory resourcesFactory2 = new CountingResourcesFactory(null);
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(resourcesFactory1, resourcesFactory2);
+		final Resources resources = factory.findResources(getClass(), Locale.ROOT).orElseThrow();
+		final long generation = factory.getResourcesGeneration();
+		resourcesFactory2.generation.incrementAndGet();
+		assertThat(factory.getResourcesGeneration(), is(not(generation)));
+		assertThat(factory.findResources(getClass(), Locale.ROOT).orElseThrow(), is(not(sameInstance(resources))));
+		assertThat(resourcesFactory1.findCount.get(), is(2));
+	}
+
+	/**
+	 * Tests that invalidation propagates through nested composite factories.
+	 * @see CompositeResourcesFactory#getResourcesGeneration()
+	 */
+	@Test
+	public void testNestedFactoryGenerationChangeInvalidatesCache() {
+		final CountingResourcesFactory resourcesFactory = new CountingResourcesFactory(Map.of("foo", "bar"));
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(new CompositeResourcesFactory(resourcesFactory));
+		final Resources resources = factory.findResources(getClass(), Locale.ROOT).orElseThrow();
+		resourcesFactory.generation.incrementAndGet();
+		assertThat(factory.findResources(getClass(), Locale.ROOT).orElseThrow(), is(not(sameInstance(resources))));
+		assertThat(resourcesFactory.findCount.get(), is(2));
+	}
+
+	/** @see CompositeResourcesFactory#clearCache() */
+	@Test
+	public void testClearCache() {
+		final CountingResourcesFactory resourcesFactory = new CountingResourcesFactory(Map.of("foo", "bar"));
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(resourcesFactory);
+		final Resources resources = factory.findResources(getClass(), Locale.ROOT).orElseThrow();
+		factory.clearCache();
+		assertThat(factory.findResources(getClass(), Locale.ROOT).orElseThrow(), is(not(sameInstance(resources))));
+		assertThat(resourcesFactory.findCount.get(), is(2));
+	}
+
+	/** @see CompositeResourcesFactory#findResourcesAsync(Class, Locale, java.util.concurrent.Executor) */
+	@Test
+	public void testFindResourcesAsync() throws Exception {
+		final CountingResourcesFactory resourcesFactory = new CountingResourcesFactory(Map.of("foo", "bar"));
+		final CompositeResourcesFactory factory = new CompositeResourcesFactory(new CountingResourcesFactory(Map.of("foo", "a")), resourcesFactory);
+		final Resources resources = factory.findResourcesAsync(getClass(), Locale.ROOT).get().orElseThrow();
+		assertThat(resources.getString("foo"), is("a"));
+		assertThat(factory.findResources(getClass(), Locale.ROOT).orElseThrow(), is(sameInstance(resources)));
+		assertThat(resourcesFactory.findCount.get(), is(1));
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import io.confound.config.ObjectMapConfiguration;
+
+/**
+ * Tests of {@link EnumResources}.
+ * @author Garret Wilson
+ */
+public class EnumResourcesTest {
+
+	/** Test enum, including a constant with a body. */
+	private enum Status {
+		ACTIVE, INACTIVE {
+			@Override
+			public String toString() {
+				return "inactive";
+			}
+		},
+		UNKNOWN
+	}
+
+	/** @see EnumResources#of(Class, Resources) */
+	@Test
+	public void testStringsResolvedWithFallback() {
+		final Resources fallbackResources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("ACTIVE", "Fallback", "INACTIVE", "Inactive")));
+		final Resources resources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("ACTIVE", "Active")))
+				.withFallback(fallbackResources);
+		final EnumResources<Status> enumResources = EnumResources.of(Status.class, resources);
+		assertThat(enumResources.getEnumType(), is(sameInstance(Status.class)));
+		assertThat(enumResources.getString(Status.ACTIVE), is("Active"));
+		assertThat(enumResources.getString(Status.INACTIVE), is("Inactive"));
+		assertThat(enumResources.findString(Status.UNKNOWN), is(Optional.empty()));
+		assertThat(enumResources.label(Status.UNKNOWN), is("UNKNOWN"));
+		final MissingResourceKeyException exception = assertThrows(MissingResourceKeyException.class, () -> enumResources.getString(Status.UNKNOWN));
+		assertThat(exception.getKey(), is("UNKNOWN"));
+	}
+
+	/** Tests that enum resources are reused for the same resources instance. */
+	@Test
+	public void testReusedForSameResources() {
+		final Resources resources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("ACTIVE", "Active")));
+		final EnumResources<Status> enumResources = EnumResources.of(Status.class, resources);
+		assertThat(EnumResources.of(Status.class, resources), is(sameInstance(enumResources)));
+		final Resources otherResources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("ACTIVE", "Aktiv")));
+		assertThat(EnumResources.of(Status.class, otherResources).getString(Status.ACTIVE), is("Aktiv"));
+	}
+
+	/** @see EnumResources#of(Class, Resources, java.util.function.Function) */
+	@Test
+	public void testKeyFunction() {
+		final Resources resources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("Status.INACTIVE", "Inactive")));
+		final EnumResources<Status> enumResources = EnumResources.of(Status.class, resources,
+				constant -> constant.getDeclaringClass().getSimpleName() + '.' + constant.name());
+		assertThat(enumResources.getKey(Status.INACTIVE), is("Status.INACTIVE"));
+		assertThat(enumResources.getString(Status.INACTIVE), is("Inactive"));
+	}
+
+	/** @see ResourcesFactory#getEnumResources(Class, Locale) */
+	@Test
+	public void testResourcesFactoryGetEnumResources() {
+		final Resources resources = new ConfigurationResources(Status.class, new ObjectMapConfiguration(Map.of("ACTIVE", "Active")));
+		final ResourcesFactory resourcesFactory = (contextClass, locale) -> Optional.of(resources);
+		assertThat(resourcesFactory.getEnumResources(Status.class, Locale.US).getString(Status.ACTIVE), is("Active"));
+		assertThat(resourcesFactory.getEnumResources(Status.class, Locale.US), is(sameInstance(resourcesFactory.getEnumResources(Status.class, Locale.US))));
+	}
+
+}
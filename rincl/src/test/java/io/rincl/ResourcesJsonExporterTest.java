@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.rincl;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.confound.config.ObjectMapConfiguration;
+
+/**
+ * Tests of {@link ResourcesJsonExporter}.
+ * @author Garret Wilson
+ */
+public class ResourcesJsonExporterTest {
+
+	/**
+	 * Creates resources that can enumerate their keys.
+	 * @param contextClass The context class of the resources.
+	 * @param values The resource values.
+	 * @return New resources providing the given values.
+	 */
+	private static Resources enumerableResources(final Class<?> contextClass, final Map<String, String> values) {
+		return new ConfigurationResources(contextClass, new ObjectMapConfiguration(values)) {
+			@Override
+			public boolean isEnumerable() {
+				return true;
+			}
+
+			@Override
+			public Stream<String> keys() {
+				return values.keySet().stream();
+			}
+		};
+	}
+
+	/** A factory providing enumerable resources for English and French; the resources of {@link String} have no keys. */
+	private final ResourcesFactory resourcesFactory = (contextClass, locale) -> {
+		final Map<String, String> values;
+		if(contextClass == String.class) {
+			values = Map.of();
+		} else if(locale.getLanguage().equals("fr")) {
+			values = Map.of("greeting", "Bonjour", "quote", "«\"Salut\"»");
+		} else {
+			values = Map.of("greeting", "Hello", "quote", "\"Hi\"\n\\");
+		}
+		return Optional.of(enumerableResources(contextClass, values));
+	};
+
+	/** @see ResourcesJsonExporter#toJson(Collection, Locale) */
+	@Test
+	public void testToJson() {
+		final ResourcesJsonExporter exporter = new ResourcesJsonExporter(resourcesFactory);
+		assertThat(exporter.toJson(List.of(getClass(), String.class), Locale.US),
+				is("{\"io.rincl.ResourcesJsonExporterTest\":{\"greeting\":\"Hello\",\"quote\":\"\\\"Hi\\\"\\n\\\\\"},\"java.lang.String\":{}}"));
+	}
+
+	/** @see ResourcesJsonExporter#export(Collection, Collection, Path, String) */
+	@Test
+	public void testExport(@TempDir final Path directory) throws IOException {
+		final ResourcesJsonExporter exporter = new ResourcesJsonExporter(resourcesFactory);
+		final Map<Locale, String> filenames = exporter.export(List.of(getClass()), List.of(Locale.US, Locale.FRENCH), directory, "messages");
+		assertThat(filenames.keySet(), contains(Locale.US, Locale.FRENCH));
+		for(final Locale locale : filenames.keySet()) {
+			final String filename = filenames.get(locale);
+			final byte[] json = Files.readAllBytes(directory.resolve(filename));
+			assertThat(new String(json, UTF_8), is(exporter.toJson(List.of(getClass()), locale)));
+			assertThat(filename, is("messages." + locale.toLanguageTag() + "." + ResourcesJsonExporter.getContentHash(json) + ".json"));
+			try (final InputStream inputStream = new GZIPInputStream(Files.newInputStream(directory.resolve(filename + ".gz")))) {
+				assertThat(inputStream.readAllBytes(), is(json));
+			}
+		}
+		assertThat(Files.readString(directory.resolve("messages.manifest.json")),
+				is("{\"en-US\":\"" + filenames.get(Locale.US) + "\",\"fr\":\"" + filenames.get(Locale.FRENCH) + "\"}"));
+		assertThat(exporter.export(List.of(getClass()), List.of(Locale.US, Locale.FRENCH), directory, "messages"), is(filenames)); //same content, same names
+		try (final Stream<Path> files = Files.list(directory)) {
+			assertThat(files.count(), is(5L));
+		}
+	}
+
+	/**
+	 * Tests that nothing is written if the resources of some context class cannot be enumerated for some locale, even if the resources for earlier locales can.
+	 * @see ResourcesJsonExporter#export(Collection, Collection, Path, String)
+	 */
+	@Test
+	public void testExportNonEnumerableWritesNothing(@TempDir final Path tempDirectory) throws IOException {
+		final ResourcesFactory partlyEnumerableResourcesFactory = (contextClass, locale) -> {
+			if(locale.getLanguage().equals("fr")) {
+				return Optional.of(new ConfigurationResources(contextClass, new ObjectMapConfiguration(Map.of("greeting", "Bonjour"))));
+			}
+			return Optional.of(enumerableResources(contextClass, Map.of("greeting", "Hello")));
+		};
+		final ResourcesJsonExporter exporter = new ResourcesJsonExporter(partlyEnumerableResourcesFactory);
+		final Path directory = tempDirectory.resolve("messages");
+		assertThrows(UnsupportedOperationException.class,
+				() -> exporter.export(List.of(getClass(), String.class), List.of(Locale.US, Locale.FRENCH), directory, "messages"));
+		assertThat(Files.exists(directory), is(false));
+	}
+
+	/** @see ResourcesJsonExporter#appendJsonString(StringBuilder, String) */
+	@Test
+	public void testAppendJsonStringEscapesControlAndSeparatorCharacters() {
+		assertThat(ResourcesJsonExporter.appendJsonString(new StringBuilder(), "a\u0001b\u2028c").toString(), is("\"a\\u0001b\\u2028c\""));
+	}
+
+}